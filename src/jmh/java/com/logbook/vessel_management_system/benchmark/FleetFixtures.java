@@ -0,0 +1,100 @@
+package com.logbook.vessel_management_system.benchmark;
+
+import com.logbook.vessel_management_system.dto.LongIdSet;
+import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.entity.Owner;
+import com.logbook.vessel_management_system.entity.Ship;
+import com.logbook.vessel_management_system.entity.ShipCategoryDetails;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic in-memory fleets shared by the benchmarks. A fixed seed keeps the
+ * shape of the data (and therefore the results) comparable between commits.
+ */
+
+public final class FleetFixtures {
+
+    private static final String[] SHIP_TYPES = {"Cruise", "Crude Oil Tanker", "Bulk Carrier", "Container Ship", "LNG Carrier", "Ro-Ro"};
+    private static final long SEED = 20250601L;
+
+    private FleetFixtures() {
+    }
+
+    /**
+     * Ships with category details and one to three owners drawn from a pool sized at
+     * one owner per ten ships, wired through the entity helper methods.
+     */
+
+    public static List<Ship> ships(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Owner> owners = owners(Math.max(1, count / 10));
+        List<Ship> ships = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Ship ship = new Ship("Vessel " + i, String.valueOf(9000000 + i));
+            ship.setId((long) i + 1);
+            ShipCategoryDetails details = new ShipCategoryDetails(
+                    SHIP_TYPES[random.nextInt(SHIP_TYPES.length)], 5_000 + random.nextInt(220_000));
+            details.setShipId(ship.getId());
+            ship.setDetails(details);
+            int ownerCount = 1 + random.nextInt(3);
+            for (int j = 0; j < ownerCount; j++) {
+                ship.addOwner(owners.get(random.nextInt(owners.size())));
+            }
+            ships.add(ship);
+        }
+        return ships;
+    }
+
+    public static List<Owner> owners(int count) {
+        List<Owner> owners = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Owner owner = new Owner("Shipping Line " + i);
+            owner.setOwnerId((long) i + 1);
+            owners.add(owner);
+        }
+        return owners;
+    }
+
+    public static List<ShipDto> shipDtos(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<ShipDto> dtos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ShipDto dto = new ShipDto();
+            dto.setId((long) i + 1);
+            dto.setShipName("Vessel " + i);
+            dto.setImoNumber(String.valueOf(9000000 + i));
+            dto.setShipType(SHIP_TYPES[random.nextInt(SHIP_TYPES.length)]);
+            dto.setShipTonnage(5_000 + random.nextInt(220_000));
+            int ownerCount = 1 + random.nextInt(3);
+            LongIdSet.Builder ownerIds = LongIdSet.builder(ownerCount);
+            for (int j = 0; j < ownerCount; j++) {
+                ownerIds.add(1L + random.nextInt(Math.max(1, count / 10)));
+            }
+            dto.setOwnerIds(ownerIds.build());
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    public static List<OwnerDto> ownerDtos(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<OwnerDto> dtos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OwnerDto dto = new OwnerDto();
+            dto.setOwnerId((long) i + 1);
+            dto.setOwnerName("Shipping Line " + i);
+            int shipCount = random.nextInt(20);
+            LongIdSet.Builder shipIds = LongIdSet.builder(shipCount);
+            for (int j = 0; j < shipCount; j++) {
+                shipIds.add(1L + random.nextInt(count * 10));
+            }
+            dto.setShipIds(shipIds.build());
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,79 @@
+package com.logbook.vessel_management_system.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbook.vessel_management_system.converter.FleetProtobufCodec;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.SparseFields;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of the ship list response in each negotiable format. The
+ * encoded payload size of every format is printed once per trial so that size and
+ * throughput can be read side by side.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatBenchmark {
+
+    private static final TypeReference<List<ShipDto>> SHIP_LIST = new TypeReference<>() { };
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    private String format;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<ShipDto> ships;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().filters(SparseFields.defaultFilters()).build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().filters(SparseFields.defaultFilters()).build();
+            default -> Jackson2ObjectMapperBuilder.json().filters(SparseFields.defaultFilters()).build();
+        };
+        ships = FleetFixtures.shipDtos(size);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encode(out);
+        encoded = out.toByteArray();
+        System.out.printf("%n%s payload for %d ships: %d bytes (%.1f bytes/ship)%n",
+                format, size, encoded.length, (double) encoded.length / size);
+    }
+
+    @Benchmark
+    public void encodeShipList() throws IOException {
+        encode(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public List<ShipDto> decodeShipList() throws IOException {
+        if ("protobuf".equals(format)) {
+            return FleetProtobufCodec.readShips(new ByteArrayInputStream(encoded));
+        }
+        return objectMapper.readValue(encoded, SHIP_LIST);
+    }
+
+    private void encode(OutputStream out) throws IOException {
+        if ("protobuf".equals(format)) {
+            FleetProtobufCodec.writeShips(ships, out);
+        } else {
+            objectMapper.writeValue(out, ships);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.logbook.vessel_management_system.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.SparseFields;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full JSON serialization of list responses, using an ObjectMapper built with the same
+ * Spring defaults the application uses. Output goes to a discarding stream so that
+ * only serialization cost is measured, not buffer growth.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<ShipDto> ships;
+    private List<OwnerDto> owners;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().filters(SparseFields.defaultFilters()).build();
+        ships = FleetFixtures.shipDtos(size);
+        owners = FleetFixtures.ownerDtos(size);
+    }
+
+    @Benchmark
+    public void serializeShipList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), ships);
+    }
+
+    @Benchmark
+    public void serializeOwnerList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), owners);
+    }
+
+    /**
+     * Serialization into a byte array, as the message converter does when the
+     * response is buffered before being written.
+     */
+
+    @Benchmark
+    public byte[] serializeShipListToBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(ships);
+    }
+}
@@ -0,0 +1,80 @@
+package com.logbook.vessel_management_system.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbook.vessel_management_system.dto.CreateShipRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error-body construction in GlobalExceptionHandler, from exception to serialized JSON,
+ * for the not-found, bad-argument and validation-failure paths.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorBodyBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ObjectMapper objectMapper;
+    private WebRequest webRequest;
+    private ResourceNotFoundException notFound;
+    private IllegalArgumentException badArgument;
+    private MethodArgumentNotValidException invalid;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        webRequest = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/v1/ships"));
+        notFound = new ResourceNotFoundException("Ship", "id", 42L);
+        badArgument = new IllegalArgumentException("Ship with IMO number 9744001 already exists.");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new CreateShipRequest(), "createShipRequest");
+        bindingResult.addError(new FieldError("createShipRequest", "shipName", "Ship name cannot be blank"));
+        bindingResult.addError(new FieldError("createShipRequest", "imoNumber", "IMO number must be 7 digits"));
+        bindingResult.addError(new FieldError("createShipRequest", "ownerIds", "Ship must have at least one owner ID"));
+        MethodParameter parameter = new MethodParameter(
+                ErrorBodyBenchmark.class.getDeclaredMethod("target", CreateShipRequest.class), 0);
+        invalid = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public void resourceNotFound() throws IOException {
+        ResponseEntity<GlobalExceptionHandler.ErrorDetails> response = handler.handleResourceNotFoundException(notFound, webRequest);
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response.getBody());
+    }
+
+    @Benchmark
+    public void illegalArgument() throws IOException {
+        ResponseEntity<GlobalExceptionHandler.ErrorDetails> response = handler.handleIllegalArgumentException(badArgument, webRequest);
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response.getBody());
+    }
+
+    @Benchmark
+    public void validationFailure() throws IOException {
+        ResponseEntity<Map<String, Object>> response = handler.handleMethodArgumentNotValid(invalid, webRequest);
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response.getBody());
+    }
+
+    @SuppressWarnings("unused")
+    private void target(CreateShipRequest request) {
+        // Only used as the MethodParameter of the validation exception
+    }
+}
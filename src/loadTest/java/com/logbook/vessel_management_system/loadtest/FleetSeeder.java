@@ -0,0 +1,25 @@
+package com.logbook.vessel_management_system.loadtest;
+
+import com.logbook.vessel_management_system.generator.FleetGenerator;
+import com.logbook.vessel_management_system.generator.FleetWriter;
+
+import javax.sql.DataSource;
+
+/**
+ * Fills the embedded database with a generated fleet before the run, using the same
+ * deterministic {@link FleetGenerator} as large-scale benchmark loads. Ids are assigned
+ * explicitly, so ships are 1..ships and owners 1..owners.
+ */
+
+final class FleetSeeder {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private FleetSeeder() {
+    }
+
+    static void seed(DataSource dataSource, int ships, int owners, long seed) {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        new FleetWriter(dataSource, threads, BATCH_SIZE).write(new FleetGenerator(seed, ships, owners));
+    }
+}
@@ -0,0 +1,77 @@
+package com.logbook.vessel_management_system.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from system properties with the "loadtest." prefix
+ * (the Gradle loadTest task forwards -Ploadtest.* project properties).
+ */
+
+final class LoadTestConfig {
+
+    final int ships;
+    final int owners;
+    final int concurrency;
+    final double ratePerSecond;
+    final Duration warmup;
+    final Duration duration;
+    final Map<Operation, Integer> mix;
+    final Path baselineFile;
+    final Path outputDir;
+    final boolean updateBaseline;
+    final double maxP99Regression;
+    final double maxThroughputRegression;
+    final double maxErrorRate;
+
+    private LoadTestConfig() {
+        ships = Integer.getInteger("loadtest.ships", 10_000);
+        owners = Integer.getInteger("loadtest.owners", 1_000);
+        concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        ratePerSecond = Double.parseDouble(System.getProperty("loadtest.rate", "400"));
+        warmup = Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 15));
+        duration = Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60));
+        mix = parseMix(System.getProperty("loadtest.mix", "list=2,get=70,create=12,update=12,deleteOwner=4"));
+        baselineFile = Path.of(System.getProperty("loadtest.baseline", "src/loadTest/resources/baseline.json"));
+        outputDir = Path.of(System.getProperty("loadtest.outputDir", "build/loadtest"));
+        updateBaseline = Boolean.getBoolean("loadtest.updateBaseline");
+        maxP99Regression = Double.parseDouble(System.getProperty("loadtest.maxP99Regression", "0.25"));
+        maxThroughputRegression = Double.parseDouble(System.getProperty("loadtest.maxThroughputRegression", "0.10"));
+        maxErrorRate = Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01"));
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig();
+    }
+
+    /**
+     * Open-loop mode issues requests on a fixed schedule regardless of how fast the
+     * server answers; a rate of 0 switches to closed-loop mode where each of the
+     * concurrent workers sends its next request as soon as the previous one returns.
+     */
+
+    boolean openLoop() {
+        return ratePerSecond > 0;
+    }
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid workload mix entry: " + part);
+            }
+            weights.put(Operation.fromKey(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        return "ships=" + ships + ", owners=" + owners + ", concurrency=" + concurrency
+                + ", rate=" + (openLoop() ? ratePerSecond + "/s (open loop)" : "closed loop")
+                + ", warmup=" + warmup.toSeconds() + "s, duration=" + duration.toSeconds() + "s, mix=" + mix;
+    }
+}
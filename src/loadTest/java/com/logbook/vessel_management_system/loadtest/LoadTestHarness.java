@@ -0,0 +1,173 @@
+package com.logbook.vessel_management_system.loadtest;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.logbook.vessel_management_system.VesselManagementSystemApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test: boots the application on a random port against an embedded
+ * H2 database, seeds a generated fleet, drives a mixed workload over HTTP and compares
+ * latency percentiles and throughput with a stored baseline.
+ *
+ * In open-loop mode each request has an intended start time on a fixed schedule and
+ * its latency is measured from that time, so time spent queued behind a slow server is
+ * counted instead of silently lowering the offered load (coordinated omission).
+ *
+ * Exit code 0 means the run passed, 1 means it regressed beyond the configured limits.
+ */
+
+public final class LoadTestHarness {
+
+    private static final long SEED = 20250601L;
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.out.println("Load test: " + config);
+
+        SpringApplication application = new SpringApplication(VesselManagementSystemApplication.class);
+        int exitCode;
+        try (ConfigurableApplicationContext context = application.run(applicationArguments())) {
+            FleetSeeder.seed(context.getBean(DataSource.class), config.ships, config.owners, SEED);
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            Workload workload = new Workload("http://localhost:" + port, config);
+
+            System.out.println("Warming up for " + config.warmup.toSeconds() + "s");
+            run(workload, config, config.warmup.toNanos());
+            System.out.println("Measuring for " + config.duration.toSeconds() + "s");
+            LoadTestReport report = run(workload, config, config.duration.toNanos());
+
+            report.print(System.out);
+            report.write(config.outputDir);
+            exitCode = evaluate(report, config);
+        }
+        System.exit(exitCode);
+    }
+
+    private static int evaluate(LoadTestReport report, LoadTestConfig config) throws Exception {
+        ObjectNode result = report.toJson();
+        if (config.updateBaseline) {
+            LoadTestReport.writeBaseline(config.baselineFile, result);
+            System.out.println("Baseline written to " + config.baselineFile);
+            return 0;
+        }
+        if (!Files.exists(config.baselineFile)) {
+            // Never adopt a run as its own baseline: it would pass against whatever this machine did last
+            System.out.println("FAILED: no baseline at " + config.baselineFile
+                    + "; record one on the reference machine with -Ploadtest.updateBaseline=true and commit it");
+            return 1;
+        }
+        List<String> failures = report.compareWith(LoadTestReport.readBaseline(config.baselineFile), config);
+        if (failures.isEmpty()) {
+            System.out.println("PASSED against baseline " + config.baselineFile);
+            return 0;
+        }
+        System.out.println("FAILED against baseline " + config.baselineFile + ":");
+        failures.forEach(failure -> System.out.println("  - " + failure));
+        return 1;
+    }
+
+    private static LoadTestReport run(Workload workload, LoadTestConfig config, long durationNanos) throws InterruptedException {
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3));
+        }
+        AtomicLong errors = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+
+        long start = System.nanoTime();
+        long end = start + durationNanos;
+        long intervalNanos = config.openLoop() ? (long) (1_000_000_000L / config.ratePerSecond) : 0;
+        AtomicLong nextSlot = new AtomicLong();
+
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency);
+        for (int i = 0; i < config.concurrency; i++) {
+            workers.execute(() -> {
+                while (true) {
+                    long intendedStart;
+                    if (config.openLoop()) {
+                        // Claim the next slot on the global schedule and wait for it
+                        intendedStart = start + nextSlot.getAndIncrement() * intervalNanos;
+                        if (intendedStart >= end) {
+                            return;
+                        }
+                        long wait = intendedStart - System.nanoTime();
+                        if (wait > 0) {
+                            LockSupport.parkNanos(wait);
+                        }
+                    } else {
+                        intendedStart = System.nanoTime();
+                        if (intendedStart >= end) {
+                            return;
+                        }
+                    }
+                    Operation operation = workload.nextOperation();
+                    try {
+                        int status = workload.execute(operation);
+                        if (status >= 500) {
+                            errors.incrementAndGet();
+                        } else if (status >= 400) {
+                            rejected.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                    histograms.get(operation).recordValue(Math.min(latencyMicros, TimeUnit.MINUTES.toMicros(1)));
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(durationNanos + TimeUnit.MINUTES.toNanos(2), TimeUnit.NANOSECONDS);
+        workers.shutdownNow();
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        return new LoadTestReport(histograms, errors.get(), rejected.get(), elapsedSeconds);
+    }
+
+    /**
+     * Passed as command line arguments so they take precedence over application.properties.
+     */
+
+    private static String[] applicationArguments() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("management.server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:vms_loadtest;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH");
+        properties.put("spring.datasource.driverClassName", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.open-in-view", "false");
+        properties.put("spring.datasource.hikari.maximum-pool-size", "20");
+        properties.put("vms.outbox.relay.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.main.banner-mode", "off");
+        return properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,152 @@
+package com.logbook.vessel_management_system.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarizes recorded latencies, writes the result files and checks them against the
+ * stored baseline. Latencies are recorded in microseconds.
+ */
+
+final class LoadTestReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<Operation, Histogram> histograms;
+    private final Histogram total;
+    private final long errors;
+    private final long rejected;
+    private final double elapsedSeconds;
+
+    LoadTestReport(Map<Operation, Histogram> histograms, long errors, long rejected, double elapsedSeconds) {
+        this.histograms = new EnumMap<>(histograms);
+        this.total = new Histogram(3);
+        histograms.values().forEach(total::add);
+        this.errors = errors;
+        this.rejected = rejected;
+        this.elapsedSeconds = elapsedSeconds;
+    }
+
+    double throughput() {
+        return total.getTotalCount() / elapsedSeconds;
+    }
+
+    double errorRate() {
+        long count = total.getTotalCount();
+        return count == 0 ? 0 : (double) errors / count;
+    }
+
+    ObjectNode toJson() {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("throughput", round(throughput()));
+        root.put("requests", total.getTotalCount());
+        root.put("errors", errors);
+        root.put("rejected", rejected);
+        root.set("all", percentiles(total));
+        ObjectNode operations = root.putObject("operations");
+        histograms.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() > 0) {
+                operations.set(operation.key(), percentiles(histogram));
+            }
+        });
+        return root;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-12s %10s %10s %10s %10s %10s %10s%n", "operation", "count", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        histograms.forEach((operation, histogram) -> printRow(out, operation.key(), histogram));
+        printRow(out, "all", total);
+        out.printf("throughput %.1f req/s, errors %d, rejected (4xx) %d%n", throughput(), errors, rejected);
+    }
+
+    void write(Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        MAPPER.writeValue(outputDir.resolve("result.json").toFile(), toJson());
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(outputDir.resolve(entry.getKey().key() + ".hgrm")))) {
+                // Scaled to milliseconds; loadable in the HdrHistogram plotter
+                entry.getValue().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    /**
+     * Returns the list of regressions against the baseline; empty when the run passes.
+     */
+
+    List<String> compareWith(JsonNode baseline, LoadTestConfig config) {
+        List<String> failures = new ArrayList<>();
+        if (errorRate() > config.maxErrorRate) {
+            failures.add(String.format("error rate %.2f%% exceeds %.2f%%", errorRate() * 100, config.maxErrorRate * 100));
+        }
+        double baselineThroughput = baseline.path("throughput").asDouble(0);
+        if (baselineThroughput > 0 && throughput() < baselineThroughput * (1 - config.maxThroughputRegression)) {
+            failures.add(String.format("throughput %.1f req/s is below baseline %.1f req/s", throughput(), baselineThroughput));
+        }
+        checkP99(failures, "all", total, baseline.path("all"), config);
+        histograms.forEach((operation, histogram) ->
+                checkP99(failures, operation.key(), histogram, baseline.path("operations").path(operation.key()), config));
+        return failures;
+    }
+
+    private static void checkP99(List<String> failures, String name, Histogram histogram, JsonNode baseline, LoadTestConfig config) {
+        double baselineP99 = baseline.path("p99Ms").asDouble(0);
+        if (histogram.getTotalCount() == 0 || baselineP99 <= 0) {
+            return;
+        }
+        double p99 = histogram.getValueAtPercentile(99.0) / 1000.0;
+        if (p99 > baselineP99 * (1 + config.maxP99Regression)) {
+            failures.add(String.format("%s p99 %.2f ms exceeds baseline %.2f ms by more than %.0f%%",
+                    name, p99, baselineP99, config.maxP99Regression * 100));
+        }
+    }
+
+    private static ObjectNode percentiles(Histogram histogram) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("count", histogram.getTotalCount());
+        node.put("p50Ms", round(histogram.getValueAtPercentile(50.0) / 1000.0));
+        node.put("p90Ms", round(histogram.getValueAtPercentile(90.0) / 1000.0));
+        node.put("p99Ms", round(histogram.getValueAtPercentile(99.0) / 1000.0));
+        node.put("p999Ms", round(histogram.getValueAtPercentile(99.9) / 1000.0));
+        node.put("maxMs", round(histogram.getMaxValue() / 1000.0));
+        return node;
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return;
+        }
+        out.printf("%-12s %10d %10.2f %10.2f %10.2f %10.2f %10.2f%n", name, histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50.0) / 1000.0, histogram.getValueAtPercentile(90.0) / 1000.0,
+                histogram.getValueAtPercentile(99.0) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    static JsonNode readBaseline(Path file) throws IOException {
+        return MAPPER.readTree(file.toFile());
+    }
+
+    static void writeBaseline(Path file, ObjectNode result) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        MAPPER.writeValue(file.toFile(), result);
+    }
+}
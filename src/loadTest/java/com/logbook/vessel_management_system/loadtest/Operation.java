@@ -0,0 +1,32 @@
+package com.logbook.vessel_management_system.loadtest;
+
+/**
+ * Request types in the mixed workload.
+ */
+
+enum Operation {
+    LIST("list"),
+    GET("get"),
+    CREATE("create"),
+    UPDATE("update"),
+    DELETE_OWNER("deleteOwner");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "'");
+    }
+}
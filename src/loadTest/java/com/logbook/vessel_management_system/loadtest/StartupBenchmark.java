@@ -0,0 +1,206 @@
+package com.logbook.vessel_management_system.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup benchmark: starts the extracted application jar repeatedly as a separate JVM
+ * in two modes and measures
+ * - time-to-ready: from process launch until /actuator/health/readiness answers 200
+ * - first request: latency of the first GET /api/v1/owners after that
+ *
+ * Modes:
+ * - default: the current start (reflection-based context, eager beans, springdoc)
+ * - fast: fast-startup profile with AOT-generated bean definitions and an AppCDS
+ *   archive, recorded first by a training start on the same class path
+ *
+ * Both run against a fresh in-memory H2 database with schema creation enabled, so the
+ * comparison isolates the application's own startup work. Results are printed and
+ * written to build/startup/result.json.
+ */
+
+public final class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "com.logbook.vessel_management_system.VesselManagementSystemApplication";
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+
+    private final String java;
+    private final String classPath;
+    private final Path workDir;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    private StartupBenchmark(String java, String classPath, Path workDir) {
+        this.java = java;
+        this.classPath = classPath;
+        this.workDir = workDir;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String java = System.getProperty("startup.java", "java");
+        String jar = required("startup.jar");
+        String h2Jar = required("startup.h2Jar");
+        int runs = Integer.getInteger("startup.runs", 5);
+        Path outputDir = Path.of(System.getProperty("startup.outputDir", "build/startup"));
+        Files.createDirectories(outputDir);
+
+        StartupBenchmark benchmark = new StartupBenchmark(java, jar + File.pathSeparator + h2Jar, outputDir);
+        Path archive = outputDir.resolve("benchmark.jsa").toAbsolutePath();
+        Files.deleteIfExists(archive);
+
+        List<String> fastOptions = List.of("-Dspring.aot.enabled=true", "-Dspring.profiles.active=fast-startup");
+
+        System.out.println("Recording CDS archive for the fast mode");
+        benchmark.train(archive, fastOptions);
+
+        List<Sample> defaultSamples = new ArrayList<>();
+        List<Sample> fastSamples = new ArrayList<>();
+        for (int run = 1; run <= runs; run++) {
+            // Interleave the modes so drift in machine load affects both equally
+            defaultSamples.add(benchmark.measure(List.of()));
+            List<String> options = new ArrayList<>(fastOptions);
+            options.add("-XX:SharedArchiveFile=" + archive);
+            fastSamples.add(benchmark.measure(options));
+            System.out.printf("run %d: default ready %d ms, fast ready %d ms%n", run,
+                    defaultSamples.get(run - 1).readyMillis, fastSamples.get(run - 1).readyMillis);
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode result = mapper.createObjectNode();
+        result.put("runs", runs);
+        summarize(result.putObject("default"), defaultSamples);
+        summarize(result.putObject("fast"), fastSamples);
+
+        System.out.printf("%n%-8s %16s %16s %20s%n", "mode", "ready p50 (ms)", "ready min (ms)", "first request (ms)");
+        for (String mode : List.of("default", "fast")) {
+            ObjectNode node = (ObjectNode) result.get(mode);
+            System.out.printf("%-8s %16d %16d %20.1f%n", mode, node.get("readyMedianMillis").asLong(),
+                    node.get("readyMinMillis").asLong(), node.get("firstRequestMedianMillis").asDouble());
+        }
+        mapper.writerWithDefaultPrettyPrinter().writeValue(outputDir.resolve("result.json").toFile(), result);
+    }
+
+    private record Sample(long readyMillis, double firstRequestMillis) {
+    }
+
+    private void train(Path archive, List<String> options) throws Exception {
+        List<String> command = new ArrayList<>(options);
+        command.add("-XX:ArchiveClassesAtExit=" + archive);
+        command.add("-Dspring.context.exit=onRefresh");
+        command.add("-Dspring.main.lazy-initialization=false");
+        Process process = start(command, freePort());
+        if (!process.waitFor(START_TIMEOUT.toSeconds(), TimeUnit.SECONDS) || process.exitValue() != 0) {
+            process.destroyForcibly();
+            throw new IllegalStateException("CDS training run failed; see " + workDir.resolve("app.log"));
+        }
+    }
+
+    private Sample measure(List<String> options) throws Exception {
+        int port = freePort();
+        long launched = System.nanoTime();
+        Process process = start(options, port);
+        try {
+            URI readiness = URI.create("http://localhost:" + port + "/actuator/health/readiness");
+            while (!isUp(readiness)) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited during startup; see " + workDir.resolve("app.log"));
+                }
+                if (System.nanoTime() - launched > START_TIMEOUT.toNanos()) {
+                    throw new IllegalStateException("Application not ready within " + START_TIMEOUT);
+                }
+                Thread.sleep(5);
+            }
+            long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launched);
+
+            long requestStart = System.nanoTime();
+            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/owners")).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            double firstRequestMillis = (System.nanoTime() - requestStart) / 1e6;
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("First request returned " + response.statusCode());
+            }
+            return new Sample(readyMillis, firstRequestMillis);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private Process start(List<String> jvmOptions, int port) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmOptions);
+        command.addAll(List.of("-Xshare:auto", "-cp", classPath, MAIN_CLASS));
+        command.addAll(Arrays.asList(
+                "--server.port=" + port,
+                // Readiness is probed on the application port
+                "--management.server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:vms_startup;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--vms.outbox.relay.enabled=false",
+                "--vms.jfr.enabled=false",
+                "--logging.level.root=WARN",
+                "--spring.main.banner-mode=off"));
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(workDir.resolve("app.log").toFile()))
+                .start();
+    }
+
+    private boolean isUp(URI uri) {
+        try {
+            return client.send(HttpRequest.newBuilder(uri).timeout(Duration.ofMillis(500)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void summarize(ObjectNode node, List<Sample> samples) {
+        long[] ready = samples.stream().mapToLong(Sample::readyMillis).sorted().toArray();
+        double[] first = samples.stream().mapToDouble(Sample::firstRequestMillis).sorted().toArray();
+        node.put("readyMedianMillis", ready[ready.length / 2]);
+        node.put("readyMinMillis", ready[0]);
+        node.put("firstRequestMedianMillis", Math.round(first[first.length / 2] * 10) / 10.0);
+        ArrayNode raw = node.putArray("readyMillis");
+        Arrays.stream(ready).forEach(raw::add);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String required(String property) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing system property " + property + " (run through ./gradlew startupBenchmark)");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,158 @@
+package com.logbook.vessel_management_system.loadtest;
+
+import com.logbook.vessel_management_system.generator.ImoNumbers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues single requests of the mixed workload against the running application and
+ * keeps just enough client-side state (live owner ids, next IMO number) for creates,
+ * updates and owner deletions to stay valid over a long run.
+ */
+
+final class Workload {
+
+    private static final int OWNERS_NEXT_IN_LINE = 16;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int seededShips;
+    private final Operation[] wheel;
+    // Oldest first; guarded by itself
+    private final List<Long> liveOwnerIds = new ArrayList<>();
+    private final AtomicLong nextImoBase = new AtomicLong(100_000);
+    private final AtomicLong nextOwnerName = new AtomicLong();
+
+    Workload(String baseUrl, LoadTestConfig config) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl;
+        this.seededShips = config.ships;
+        this.wheel = buildWheel(config.mix);
+        for (long id = 1; id <= config.owners; id++) {
+            liveOwnerIds.add(id);
+        }
+    }
+
+    /**
+     * Seven digits with a deliberately wrong check digit, so created ships can never
+     * collide with the valid IMO numbers of the seeded fleet.
+     */
+
+    private String nextCreatedImo() {
+        long base = nextImoBase.incrementAndGet();
+        return Long.toString(base) + (ImoNumbers.checkDigit(base) + 1) % 10;
+    }
+
+    Operation nextOperation() {
+        return wheel[ThreadLocalRandom.current().nextInt(wheel.length)];
+    }
+
+    /**
+     * Executes one operation and returns its HTTP status code.
+     */
+
+    int execute(Operation operation) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case LIST -> send(request("/api/v1/ships").GET());
+            case GET -> send(request("/api/v1/ships/" + (1 + random.nextInt(seededShips))).GET());
+            case CREATE -> send(request("/api/v1/ships")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"shipName\":\"Load Vessel\",\"imoNumber\":\"" + nextCreatedImo() + "\","
+                                    + "\"shipType\":\"Bulk Carrier\",\"shipTonnage\":" + (5_000 + random.nextInt(200_000)) + ","
+                                    + "\"ownerIds\":[" + randomOwnerId() + "]}")));
+            case UPDATE -> send(request("/api/v1/ships/" + (1 + random.nextInt(seededShips)))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(
+                            "{\"shipName\":\"Renamed Vessel " + random.nextInt(1_000) + "\","
+                                    + "\"shipType\":\"Container Ship\",\"shipTonnage\":" + (5_000 + random.nextInt(200_000)) + "}")));
+            case DELETE_OWNER -> deleteOwner();
+        };
+    }
+
+    /**
+     * Deletes the oldest live owner. A replacement owner is created first so the pool
+     * of owners available to creates never runs dry.
+     */
+
+    private int deleteOwner() throws IOException, InterruptedException {
+        HttpResponse<String> created = client.send(request("/api/v1/owners")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"ownerName\":\"Replacement Line " + nextOwnerName.incrementAndGet() + "-" + System.nanoTime() + "\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (created.statusCode() == 201) {
+            String body = created.body();
+            int start = body.indexOf("\"ownerId\":") + "\"ownerId\":".length();
+            int end = start;
+            while (end < body.length() && Character.isDigit(body.charAt(end))) {
+                end++;
+            }
+            synchronized (liveOwnerIds) {
+                liveOwnerIds.add(Long.parseLong(body.substring(start, end)));
+            }
+        }
+        Long victim;
+        synchronized (liveOwnerIds) {
+            if (liveOwnerIds.isEmpty()) {
+                return created.statusCode();
+            }
+            victim = liveOwnerIds.remove(0);
+        }
+        return send(request("/api/v1/owners/" + victim).DELETE());
+    }
+
+    /**
+     * A random owner that has not been deleted. The oldest owners, next in line for
+     * deletion, are skipped, so a create racing a concurrent owner delete rarely names
+     * an owner that is gone by the time it lands.
+     */
+
+    private long randomOwnerId() {
+        synchronized (liveOwnerIds) {
+            int size = liveOwnerIds.size();
+            if (size == 0) {
+                return 1L;
+            }
+            int skip = Math.min(OWNERS_NEXT_IN_LINE, size - 1);
+            return liveOwnerIds.get(skip + ThreadLocalRandom.current().nextInt(size - skip));
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    private int send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        return client.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static Operation[] buildWheel(Map<Operation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (total <= 0) {
+            throw new IllegalArgumentException("Workload mix must have a positive total weight");
+        }
+        Operation[] wheel = new Operation[total];
+        int index = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                wheel[index++] = entry.getKey();
+            }
+        }
+        return wheel;
+    }
+}
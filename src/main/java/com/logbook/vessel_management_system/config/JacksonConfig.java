@@ -0,0 +1,26 @@
+// src/main/java/com/logbook/vessel_management_system/config/JacksonConfig.java
+package com.logbook.vessel_management_system.config;
+
+import com.logbook.vessel_management_system.dto.SparseFields;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson settings on top of Spring Boot's auto-configured ObjectMapper builder,
+ * which also feeds the CBOR and Smile converters.
+ */
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * ShipDto and OwnerDto carry the sparse fieldset filter; without a request for
+     * specific fields it writes every property.
+     */
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsFilterCustomizer() {
+        return builder -> builder.filters(SparseFields.defaultFilters());
+    }
+}
@@ -0,0 +1,30 @@
+// src/main/java/com/logbook/vessel_management_system/config/LatencyConfig.java
+package com.logbook.vessel_management_system.config;
+
+import com.logbook.vessel_management_system.diagnostics.LatencyInterceptor;
+import com.logbook.vessel_management_system.diagnostics.LatencyTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers per-endpoint latency recording for the ship and owner APIs.
+ *
+ * Strategy Pattern: Plugs an interceptor into Spring MVC's handler execution chain;
+ * the histograms themselves live in {@link LatencyTracker}.
+ */
+
+@Configuration
+@RequiredArgsConstructor
+public class LatencyConfig implements WebMvcConfigurer {
+
+    private final LatencyTracker latencyTracker;
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new LatencyInterceptor(latencyTracker))
+                .addPathPatterns("/api/v1/ships/**", "/api/v1/owners/**");
+    }
+}
@@ -0,0 +1,26 @@
+// src/main/java/com/logbook/vessel_management_system/config/MetricsConfig.java
+package com.logbook.vessel_management_system.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics wiring on top of Spring Boot's Actuator auto-configuration.
+ *
+ * Out of the box Boot already records http.server.requests per endpoint,
+ * spring.data.repository.invocations per repository method, hibernate.* session
+ * statistics and hikaricp.connections.* pool metrics. This adds the aspect that
+ * turns @Timed on the service classes into vms.service timers tagged with class
+ * and method.
+ */
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+// src/main/java/com/logbook/vessel_management_system/config/SchedulingConfig.java
+package com.logbook.vessel_management_system.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's @Scheduled support for background housekeeping tasks
+ * such as keep-alive heartbeats on long-lived streaming connections.
+ *
+ * The tasks share one pool sized by spring.task.scheduling.pool.size, so a slow run
+ * of one (a snapshot write, an outbox batch) does not hold up the others.
+ */
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,55 @@
+// src/main/java/com/logbook/vessel_management_system/config/SqlDiagnosticsConfig.java
+package com.logbook.vessel_management_system.config;
+
+import com.logbook.vessel_management_system.diagnostics.SqlBudgetInterceptor;
+import com.logbook.vessel_management_system.diagnostics.SqlStatementInspector;
+import com.logbook.vessel_management_system.diagnostics.SqlTimingSessionListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-request SQL budget detection (N+1 queries, statement-heavy and DB-slow endpoints).
+ *
+ * Strategy Pattern: Plugs a statement inspector and session event listener into
+ * Hibernate and a handler interceptor into Spring MVC. When no request window is
+ * open the Hibernate hooks cost one ThreadLocal lookup per statement.
+ */
+
+@Configuration
+@ConditionalOnProperty(prefix = "vms.sql-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlDiagnosticsConfig implements WebMvcConfigurer {
+
+    @Value("${vms.sql-budget.max-statements:10}")
+    private int maxStatements;
+
+    @Value("${vms.sql-budget.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Value("${vms.sql-budget.max-db-time-ms:250}")
+    private long maxDbTimeMillis;
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlDiagnosticsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+        };
+    }
+
+    @Bean
+    public SqlBudgetInterceptor sqlBudgetInterceptor() {
+        return new SqlBudgetInterceptor(maxStatements, repeatThreshold, maxDbTimeMillis);
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(sqlBudgetInterceptor()).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,32 @@
+// src/main/java/com/logbook/vessel_management_system/config/StartupConfig.java
+package com.logbook.vessel_management_system.config;
+
+import com.logbook.vessel_management_system.diagnostics.FlightRecorderService;
+import com.logbook.vessel_management_system.diagnostics.LatencyTracker;
+import com.logbook.vessel_management_system.outbox.OutboxRelay;
+import com.logbook.vessel_management_system.service.FleetChangeBroadcaster;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup tuning for the fast-startup profile (spring.main.lazy-initialization=true).
+ *
+ * Lazy beans are only created on first use, which would silently disable work that
+ * is registered when a bean is created rather than when it is called: @Scheduled
+ * methods (outbox relay, stream heartbeats, latency window rotation) and the
+ * continuous flight recording. Those beans stay eager.
+ */
+
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerBackgroundBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                OutboxRelay.class,
+                FleetChangeBroadcaster.class,
+                LatencyTracker.class,
+                FlightRecorderService.class);
+    }
+}
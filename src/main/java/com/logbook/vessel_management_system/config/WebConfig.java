@@ -1,12 +1,29 @@
 // src/main/java/com/logbook/vessel_management_system/config/WebConfig.java
 package com.logbook.vessel_management_system.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.logbook.vessel_management_system.converter.FleetProtobufHttpMessageConverter;
+import com.logbook.vessel_management_system.diagnostics.TimedJacksonHttpMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.lang.NonNull;
 import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Web configuration class.
@@ -19,6 +36,12 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilders;
+
+    public WebConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilders) {
+        this.objectMapperBuilders = objectMapperBuilders;
+    }
+
     /**
      * Strategy Pattern: Implements the resource handling strategy from the
      * WebMvcConfigurer interface.
@@ -30,6 +53,14 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/favicon.ico")
                 .addResourceLocations("classpath:/static/")
                 .setCachePeriod(86400); // Cache for 1 day
+
+        // Committed OpenAPI spec (generated by OpenApiSpecIntegrationTest): served precompressed (.gz) to clients that accept gzip,
+        // cached for an hour and revalidated with Last-Modified after that
+        registry.addResourceHandler("/openapi/**")
+                .addResourceLocations("classpath:/static/openapi/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
     }
 
     /**
@@ -45,4 +76,36 @@ public class WebConfig implements WebMvcConfigurer {
                 .ignoreAcceptHeader(false)
                 .defaultContentType(MediaType.APPLICATION_JSON);
     }
+
+    /**
+     * Decorator Pattern: Replaces Boot's default JSON converter with one that times
+     * serialization for the Server-Timing header; the auto-configured ObjectMapper
+     * (and therefore every spring.jackson.* setting) is kept.
+     */
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+
+    /**
+     * Strategy Pattern: Adds compact binary representations selected by the Accept header:
+     * CBOR ({@code application/cbor}), Smile ({@code application/x-jackson-smile}) and
+     * protobuf ({@code application/x-protobuf}, schema in src/main/proto/fleet.proto).
+     * They are appended after the default converters so that JSON stays the answer for
+     * clients that accept anything. Spring MVC already registers CBOR and Smile converters
+     * when the dataformats are present, but with a plain ObjectMapper; they are replaced
+     * with ones that share the application's spring.jackson.* settings.
+     */
+
+    @Override
+    public void extendMessageConverters(@NonNull List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilders.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilders.getObject().factory(new SmileFactory()).build()));
+        converters.add(new FleetProtobufHttpMessageConverter());
+    }
 }
\ No newline at end of file
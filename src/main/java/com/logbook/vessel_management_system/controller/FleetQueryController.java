@@ -0,0 +1,129 @@
+// src/main/java/com/logbook/vessel_management_system/controller/FleetQueryController.java
+package com.logbook.vessel_management_system.controller;
+
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.readmodel.ShipQuery;
+import com.logbook.vessel_management_system.readmodel.ShipReadModel;
+import com.logbook.vessel_management_system.readmodel.ShipTypeTonnage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * REST controller for fleet-wide filter, sort and aggregate queries, answered from the
+ * in-memory ship read model rather than the database. Results reflect committed
+ * changes as soon as the committing request has returned.
+ *
+ * Dependency Injection Pattern: Uses constructor injection via @RequiredArgsConstructor
+ * to inject the ShipReadModel dependency.
+ */
+
+@RestController
+@RequestMapping("/api/v1/fleet")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "vms.read-model", name = "enabled", havingValue = "true")
+@Tag(name = "Fleet Queries", description = "APIs for filtering, sorting and aggregating the whole fleet")
+public class FleetQueryController {
+
+    private static final int MAX_LIMIT = 10_000;
+
+    private final ShipReadModel shipReadModel;
+
+    @Operation(
+        summary = "Query ships",
+        description = "Filters ships by type, tonnage range and owner, then sorts and pages the result"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved matching ships",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ShipDto.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown sort key or direction, or offset/limit out of range",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    @GetMapping("/ships")
+    public ResponseEntity<List<ShipDto>> findShips(
+            @RequestParam(required = false)
+            @Parameter(description = "Exact ship type", example = "Tanker")
+            String shipType,
+            @RequestParam(required = false)
+            @Parameter(description = "Smallest tonnage to include", example = "50000")
+            Integer minTonnage,
+            @RequestParam(required = false)
+            @Parameter(description = "Largest tonnage to include", example = "200000")
+            Integer maxTonnage,
+            @RequestParam(required = false)
+            @Parameter(description = "Only ships owned by this owner", example = "1")
+            Long ownerId,
+            @RequestParam(defaultValue = "id")
+            @Parameter(description = "Sort key: id, tonnage or name", example = "tonnage")
+            String sort,
+            @RequestParam(defaultValue = "asc")
+            @Parameter(description = "Sort direction: asc or desc", example = "desc")
+            String direction,
+            @RequestParam(defaultValue = "0")
+            @Parameter(description = "Number of matching ships to skip", example = "0")
+            int offset,
+            @RequestParam(defaultValue = "100")
+            @Parameter(description = "Maximum number of ships to return (at most 10000)", example = "100")
+            int limit) {
+        if (limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be at most " + MAX_LIMIT);
+        }
+        ShipQuery query = new ShipQuery(shipType, minTonnage, maxTonnage, ownerId,
+                ShipQuery.SortKey.valueOf(sort.toUpperCase(Locale.ROOT)), descending(direction), offset, limit);
+        return ResponseEntity.ok(shipReadModel.find(query));
+    }
+
+    @Operation(
+        summary = "Tonnage by ship type",
+        description = "Ship count and total, smallest, largest and mean tonnage per ship type over the ships matching the filters"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully computed the aggregate",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ShipTypeTonnage.class)))
+        )
+    })
+    @GetMapping("/ship-types")
+    public ResponseEntity<List<ShipTypeTonnage>> tonnageByType(
+            @RequestParam(required = false)
+            @Parameter(description = "Smallest tonnage to include", example = "50000")
+            Integer minTonnage,
+            @RequestParam(required = false)
+            @Parameter(description = "Largest tonnage to include", example = "200000")
+            Integer maxTonnage,
+            @RequestParam(required = false)
+            @Parameter(description = "Only ships owned by this owner", example = "1")
+            Long ownerId) {
+        return ResponseEntity.ok(shipReadModel.tonnageByType(ShipQuery.filter(null, minTonnage, maxTonnage, ownerId)));
+    }
+
+    private static boolean descending(String direction) {
+        return switch (direction.toLowerCase(Locale.ROOT)) {
+            case "asc" -> false;
+            case "desc" -> true;
+            default -> throw new IllegalArgumentException("direction must be asc or desc");
+        };
+    }
+}
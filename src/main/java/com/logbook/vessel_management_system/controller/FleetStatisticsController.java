@@ -0,0 +1,92 @@
+// src/main/java/com/logbook/vessel_management_system/controller/FleetStatisticsController.java
+package com.logbook.vessel_management_system.controller;
+
+import com.logbook.vessel_management_system.readmodel.FleetStatistics;
+import com.logbook.vessel_management_system.readmodel.StatisticsRebuild;
+import com.logbook.vessel_management_system.readmodel.TonnageDistribution;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for approximate tonnage statistics, answered from in-memory
+ * quantile sketches kept per ship type and per owner rather than by scanning
+ * Category_Table.
+ *
+ * Dependency Injection Pattern: Uses constructor injection via @RequiredArgsConstructor
+ * to inject the FleetStatistics dependency.
+ */
+
+@RestController
+@RequestMapping("/api/v1/fleet/statistics")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "vms.fleet-statistics", name = "enabled", havingValue = "true")
+@Tag(name = "Fleet Statistics", description = "APIs for approximate tonnage percentiles and histograms")
+public class FleetStatisticsController {
+
+    private final FleetStatistics fleetStatistics;
+
+    @Operation(
+        summary = "Tonnage distribution",
+        description = "Tonnage percentiles and histogram of the whole fleet, of one or more ship types, or of one or more owners' fleets"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully computed the distribution",
+            content = @Content(schema = @Schema(implementation = TonnageDistribution.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Both shipType and ownerId given, a quantile outside [0, 1] or boundaries not ascending",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    @GetMapping("/tonnage")
+    public ResponseEntity<TonnageDistribution> tonnage(
+            @RequestParam(required = false)
+            @Parameter(description = "Ship types to include, merged into one group", example = "Tanker")
+            List<String> shipType,
+            @RequestParam(required = false)
+            @Parameter(description = "Owners whose fleets to include, merged into one group", example = "1")
+            List<Long> ownerId,
+            @RequestParam(defaultValue = "0.5,0.9,0.99")
+            @Parameter(description = "Comma-separated quantiles between 0 and 1", example = "0.5,0.9")
+            double[] quantiles,
+            @RequestParam(required = false)
+            @Parameter(description = "Comma-separated ascending histogram boundaries in gross tons; no histogram when omitted", example = "10000,50000,100000")
+            int[] boundaries) {
+        return ResponseEntity.ok(fleetStatistics.distribution(shipType, ownerId, quantiles,
+                boundaries != null ? boundaries : new int[0]));
+    }
+
+    @Operation(
+        summary = "Rebuild tonnage statistics",
+        description = "Rebuilds every sketch from the database and reports how many incrementally maintained sketches differed"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully rebuilt the statistics",
+            content = @Content(schema = @Schema(implementation = StatisticsRebuild.class))
+        )
+    })
+    @PostMapping("/rebuild")
+    public ResponseEntity<StatisticsRebuild> rebuild() {
+        return ResponseEntity.ok(fleetStatistics.rebuild());
+    }
+}
@@ -0,0 +1,76 @@
+// src/main/java/com/logbook/vessel_management_system/controller/LargestShipsController.java
+package com.logbook.vessel_management_system.controller;
+
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.readmodel.LargestShips;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for the largest ships of the fleet, of a ship type or of an owner,
+ * ranked in memory and read from the tonnage index only when more ships are asked
+ * for than are kept ranked.
+ *
+ * Dependency Injection Pattern: Uses constructor injection via @RequiredArgsConstructor
+ * to inject the LargestShips dependency.
+ */
+
+@RestController
+@RequestMapping("/api/v1/fleet")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "vms.largest-ships", name = "enabled", havingValue = "true")
+@Tag(name = "Largest Ships", description = "APIs for the largest ships by tonnage")
+public class LargestShipsController {
+
+    private static final int MAX_LIMIT = 10_000;
+
+    private final LargestShips largestShips;
+
+    @Operation(
+        summary = "Largest ships",
+        description = "The k ships with the highest tonnage, largest first, in the whole fleet, of one ship type or of one owner"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved the largest ships",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ShipDto.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Both shipType and ownerId given, or limit out of range",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    @GetMapping("/largest-ships")
+    public ResponseEntity<List<ShipDto>> largestShips(
+            @RequestParam(required = false)
+            @Parameter(description = "Only ships of this type", example = "Tanker")
+            String shipType,
+            @RequestParam(required = false)
+            @Parameter(description = "Only ships owned by this owner", example = "1")
+            Long ownerId,
+            @RequestParam(defaultValue = "10")
+            @Parameter(description = "Number of ships to return (at most 10000)", example = "10")
+            int limit) {
+        if (limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be at most " + MAX_LIMIT);
+        }
+        return ResponseEntity.ok(largestShips.largest(shipType, ownerId, limit));
+    }
+}
@@ -2,6 +2,9 @@
 package com.logbook.vessel_management_system.controller;
 
 import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.OwnerField;
+import com.logbook.vessel_management_system.dto.SparseFields;
+import com.logbook.vessel_management_system.service.FleetJsonStreamer;
 import com.logbook.vessel_management_system.service.OwnerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,12 +14,16 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST controller for owner management operations.
@@ -32,6 +39,7 @@ import java.util.List;
 public class OwnerController {
 
     private final OwnerService ownerService;
+    private final FleetJsonStreamer fleetJsonStreamer;
 
     @Operation(
         summary = "Get all owners",
@@ -51,8 +59,32 @@ public class OwnerController {
      */
 
     @GetMapping
-    public ResponseEntity<List<OwnerDto>> getAllOwners() {
-        return ResponseEntity.ok(ownerService.getAllOwners());
+    public ResponseEntity<List<OwnerDto>> getAllOwners(
+            @RequestParam(name = SparseFields.REQUEST_PARAMETER, required = false)
+            @Parameter(description = "Comma-separated owner fields to return (ownerId, ownerName, shipIds); all when omitted", example = "ownerId,ownerName")
+            String fields) {
+        return ResponseEntity.ok(ownerService.getAllOwners(SparseFields.parse(fields, OwnerField.class)));
+    }
+
+    /**
+     * Iterator Pattern: JSON clients (the default) get the list written row by row
+     * straight to the servlet output stream while it is read from the database;
+     * other formats negotiated through Accept are served by getAllOwners.
+     */
+
+    @Operation(
+        summary = "Get all owners",
+        description = "Retrieves all owners; JSON responses are streamed as the rows are read"
+    )
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public void streamAllOwners(
+            @RequestParam(name = SparseFields.REQUEST_PARAMETER, required = false)
+            @Parameter(description = "Comma-separated owner fields to return (ownerId, ownerName, shipIds); all when omitted", example = "ownerId,ownerName")
+            String fields,
+            HttpServletResponse response) throws IOException {
+        Set<OwnerField> selected = SparseFields.parse(fields, OwnerField.class);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        fleetJsonStreamer.writeOwners(selected, response.getOutputStream());
     }
 
     @Operation(
@@ -1,9 +1,15 @@
 // src/main/java/com/logbook/vessel_management_system/controller/ShipController.java
 package com.logbook.vessel_management_system.controller;
 
+import com.logbook.vessel_management_system.diagnostics.SqlBudget;
 import com.logbook.vessel_management_system.dto.CreateShipRequest;
 import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.ShipField;
+import com.logbook.vessel_management_system.dto.SparseFields;
 import com.logbook.vessel_management_system.dto.UpdateShipRequest;
+import com.logbook.vessel_management_system.service.FleetChangeBroadcaster;
+import com.logbook.vessel_management_system.service.FleetJsonStreamer;
+import com.logbook.vessel_management_system.service.ShipListingSnapshot;
 import com.logbook.vessel_management_system.service.ShipService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,13 +19,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST controller for ship management operations.
@@ -35,6 +48,9 @@ import java.util.List;
 public class ShipController {
 
     private final ShipService shipService;
+    private final FleetChangeBroadcaster fleetChangeBroadcaster;
+    private final FleetJsonStreamer fleetJsonStreamer;
+    private final ObjectProvider<ShipListingSnapshot> shipListingSnapshot;
 
     @Operation(
         summary = "Get all ships",
@@ -55,8 +71,66 @@ public class ShipController {
      */
 
     @GetMapping
-    public ResponseEntity<List<ShipDto>> getAllShips() {
-        return ResponseEntity.ok(shipService.getAllShips());
+    public ResponseEntity<List<ShipDto>> getAllShips(
+            @RequestParam(name = SparseFields.REQUEST_PARAMETER, required = false)
+            @Parameter(description = "Comma-separated ship fields to return (id, shipName, imoNumber, shipType, shipTonnage, ownerIds); all when omitted", example = "id,shipName,imoNumber")
+            String fields) {
+        return ResponseEntity.ok(shipService.getAllShips(SparseFields.parse(fields, ShipField.class)));
+    }
+
+    /**
+     * Iterator Pattern: JSON clients (the default) get the list written row by row
+     * straight to the servlet output stream while it is read from the database;
+     * other formats negotiated through Accept are served by getAllShips. With
+     * vms.ship-snapshot.enabled the full listing comes from the pre-serialized snapshot.
+     */
+
+    @Operation(
+        summary = "Get all ships",
+        description = "Retrieves all ships; JSON responses are streamed as the rows are read"
+    )
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public void streamAllShips(
+            @RequestParam(name = SparseFields.REQUEST_PARAMETER, required = false)
+            @Parameter(description = "Comma-separated ship fields to return (id, shipName, imoNumber, shipType, shipTonnage, ownerIds); all when omitted", example = "id,shipName,imoNumber")
+            String fields,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Set<ShipField> selected = SparseFields.parse(fields, ShipField.class);
+        ShipListingSnapshot snapshot = shipListingSnapshot.getIfAvailable();
+        if (snapshot != null && selected.size() == ShipField.values().length && snapshot.serve(request, response)) {
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        fleetJsonStreamer.writeShips(selected, response.getOutputStream());
+    }
+
+    @Operation(
+        summary = "Stream fleet changes",
+        description = "Opens a Server-Sent Events stream of committed ship and owner changes " +
+                "(ship.created, ship.updated, ship.deleted, owner.created, owner.deleted). " +
+                "Reconnecting clients can send Last-Event-ID to resume; a 'reset' event means the gap " +
+                "could not be replayed and the client should reload the full lists."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Event stream opened",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+        )
+    })
+
+    /**
+     * Observer Pattern: Replaces dashboard polling of the ship list with a push
+     * stream of change notifications.
+     */
+
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(name = "Last-Event-ID", required = false)
+            @Parameter(description = "Id of the last event received, used to resume after a reconnect", example = "k3v9x2mqa1-42")
+            String lastEventId) {
+        return fleetChangeBroadcaster.subscribe(lastEventId);
     }
 
     @Operation(
@@ -76,11 +150,15 @@ public class ShipController {
         )
     })
     @GetMapping("/{shipId}")
+    @SqlBudget(2)
     public ResponseEntity<ShipDto> getShipById(
             @PathVariable 
             @Parameter(description = "Unique identifier of the ship", required = true, example = "1")
-            Long shipId) {
-        ShipDto ship = shipService.getShipById(shipId);
+            Long shipId,
+            @RequestParam(name = SparseFields.REQUEST_PARAMETER, required = false)
+            @Parameter(description = "Comma-separated ship fields to return (id, shipName, imoNumber, shipType, shipTonnage, ownerIds); all when omitted", example = "id,shipName,imoNumber")
+            String fields) {
+        ShipDto ship = shipService.getShipById(shipId, SparseFields.parse(fields, ShipField.class));
         return ResponseEntity.ok(ship);
     }
 
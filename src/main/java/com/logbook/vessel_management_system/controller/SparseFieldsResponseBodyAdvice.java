@@ -0,0 +1,40 @@
+// src/main/java/com/logbook/vessel_management_system/controller/SparseFieldsResponseBodyAdvice.java
+package com.logbook.vessel_management_system.controller;
+
+import com.logbook.vessel_management_system.dto.SparseFields;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Decorator Pattern: Applies the {@code ?fields=} selection of the ship and owner
+ * endpoints to Jackson-written responses (JSON, CBOR, Smile) by attaching filters to
+ * the body. Only invoked when a Jackson converter was selected; the protobuf writer
+ * omits the unselected fields on its own because they were never loaded.
+ */
+
+@RestControllerAdvice(assignableTypes = {ShipController.class, OwnerController.class})
+public class SparseFieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(@NonNull MappingJacksonValue bodyContainer,
+                                           @NonNull MediaType contentType,
+                                           @NonNull MethodParameter returnType,
+                                           @NonNull ServerHttpRequest request,
+                                           @NonNull ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            HttpServletRequest httpRequest = servletRequest.getServletRequest();
+            String fields = httpRequest.getParameter(SparseFields.REQUEST_PARAMETER);
+            if (fields != null && !fields.isBlank()) {
+                bodyContainer.setFilters(SparseFields.filtersFor(fields));
+            }
+        }
+    }
+}
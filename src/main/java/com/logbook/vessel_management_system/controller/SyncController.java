@@ -0,0 +1,63 @@
+// src/main/java/com/logbook/vessel_management_system/controller/SyncController.java
+package com.logbook.vessel_management_system.controller;
+
+import com.logbook.vessel_management_system.dto.SyncChangesDto;
+import com.logbook.vessel_management_system.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for incremental (delta) synchronization of ships and owners.
+ *
+ * Dependency Injection Pattern: Uses constructor injection via @RequiredArgsConstructor
+ * to inject the SyncService dependency.
+ */
+
+@RestController
+@RequestMapping("/api/v1/sync")
+@RequiredArgsConstructor
+@Tag(name = "Synchronization", description = "APIs for incrementally syncing ships and owners")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @Operation(
+        summary = "Get changes since a revision",
+        description = "Returns ships and owners written after the given revision and tombstones for those deleted. " +
+                "Start with since=-1 (the default) to receive every row, including those written before " +
+                "revision tracking at revision 0, then pass the returned toRevision on the next call until hasMore is false."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved changes",
+            content = @Content(schema = @Schema(implementation = SyncChangesDto.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Revision below -1 or limit out of range",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<SyncChangesDto> getChanges(
+            @RequestParam(defaultValue = "-1")
+            @Parameter(description = "Last revision the client has applied, or -1 to sync from the start", example = "1000")
+            long since,
+            @RequestParam(defaultValue = "500")
+            @Parameter(description = "Maximum number of rows per entity kind in this page", example = "500")
+            int limit) {
+        return ResponseEntity.ok(syncService.getChangesSince(since, limit));
+    }
+}
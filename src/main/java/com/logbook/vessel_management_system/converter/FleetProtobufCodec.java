@@ -0,0 +1,270 @@
+// src/main/java/com/logbook/vessel_management_system/converter/FleetProtobufCodec.java
+package com.logbook.vessel_management_system.converter;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.logbook.vessel_management_system.dto.LongIdSet;
+import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.ShipDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Adapter Pattern: Reads and writes ShipDto and OwnerDto in the protobuf wire format
+ * described by src/main/proto/fleet.proto, straight from and into the DTOs. Null fields
+ * are omitted (the schema declares them optional) and repeated ids are packed.
+ */
+
+public final class FleetProtobufCodec {
+
+    // Ship
+    private static final int SHIP_ID = 1;
+    private static final int SHIP_NAME = 2;
+    private static final int SHIP_IMO_NUMBER = 3;
+    private static final int SHIP_TYPE = 4;
+    private static final int SHIP_TONNAGE = 5;
+    private static final int SHIP_OWNER_IDS = 6;
+
+    // Owner
+    private static final int OWNER_ID = 1;
+    private static final int OWNER_NAME = 2;
+    private static final int OWNER_SHIP_IDS = 3;
+
+    // ShipList / OwnerList
+    private static final int LIST_ITEMS = 1;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private FleetProtobufCodec() {
+    }
+
+    public static void writeShip(ShipDto ship, OutputStream outputStream) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(outputStream, BUFFER_SIZE);
+        writeShipFields(ship, out);
+        out.flush();
+    }
+
+    public static void writeShips(List<ShipDto> ships, OutputStream outputStream) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(outputStream, BUFFER_SIZE);
+        for (ShipDto ship : ships) {
+            out.writeTag(LIST_ITEMS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(shipSize(ship));
+            writeShipFields(ship, out);
+        }
+        out.flush();
+    }
+
+    public static void writeOwner(OwnerDto owner, OutputStream outputStream) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(outputStream, BUFFER_SIZE);
+        writeOwnerFields(owner, out);
+        out.flush();
+    }
+
+    public static void writeOwners(List<OwnerDto> owners, OutputStream outputStream) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(outputStream, BUFFER_SIZE);
+        for (OwnerDto owner : owners) {
+            out.writeTag(LIST_ITEMS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(ownerSize(owner));
+            writeOwnerFields(owner, out);
+        }
+        out.flush();
+    }
+
+    public static ShipDto readShip(InputStream inputStream) throws IOException {
+        return readShipFields(CodedInputStream.newInstance(inputStream));
+    }
+
+    public static List<ShipDto> readShips(InputStream inputStream) throws IOException {
+        CodedInputStream in = CodedInputStream.newInstance(inputStream);
+        List<ShipDto> ships = new ArrayList<>();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (tag == WireFormat.makeTag(LIST_ITEMS, WireFormat.WIRETYPE_LENGTH_DELIMITED)) {
+                int previousLimit = in.pushLimit(in.readRawVarint32());
+                ships.add(readShipFields(in));
+                in.popLimit(previousLimit);
+            } else {
+                in.skipField(tag);
+            }
+        }
+        return ships;
+    }
+
+    public static OwnerDto readOwner(InputStream inputStream) throws IOException {
+        return readOwnerFields(CodedInputStream.newInstance(inputStream));
+    }
+
+    public static List<OwnerDto> readOwners(InputStream inputStream) throws IOException {
+        CodedInputStream in = CodedInputStream.newInstance(inputStream);
+        List<OwnerDto> owners = new ArrayList<>();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (tag == WireFormat.makeTag(LIST_ITEMS, WireFormat.WIRETYPE_LENGTH_DELIMITED)) {
+                int previousLimit = in.pushLimit(in.readRawVarint32());
+                owners.add(readOwnerFields(in));
+                in.popLimit(previousLimit);
+            } else {
+                in.skipField(tag);
+            }
+        }
+        return owners;
+    }
+
+    private static int shipSize(ShipDto ship) {
+        int size = 0;
+        if (ship.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(SHIP_ID, ship.getId());
+        }
+        if (ship.getShipName() != null) {
+            size += CodedOutputStream.computeStringSize(SHIP_NAME, ship.getShipName());
+        }
+        if (ship.getImoNumber() != null) {
+            size += CodedOutputStream.computeStringSize(SHIP_IMO_NUMBER, ship.getImoNumber());
+        }
+        if (ship.getShipType() != null) {
+            size += CodedOutputStream.computeStringSize(SHIP_TYPE, ship.getShipType());
+        }
+        if (ship.getShipTonnage() != null) {
+            size += CodedOutputStream.computeInt32Size(SHIP_TONNAGE, ship.getShipTonnage());
+        }
+        return size + packedSize(SHIP_OWNER_IDS, ship.getOwnerIds());
+    }
+
+    private static void writeShipFields(ShipDto ship, CodedOutputStream out) throws IOException {
+        if (ship.getId() != null) {
+            out.writeInt64(SHIP_ID, ship.getId());
+        }
+        if (ship.getShipName() != null) {
+            out.writeString(SHIP_NAME, ship.getShipName());
+        }
+        if (ship.getImoNumber() != null) {
+            out.writeString(SHIP_IMO_NUMBER, ship.getImoNumber());
+        }
+        if (ship.getShipType() != null) {
+            out.writeString(SHIP_TYPE, ship.getShipType());
+        }
+        if (ship.getShipTonnage() != null) {
+            out.writeInt32(SHIP_TONNAGE, ship.getShipTonnage());
+        }
+        writePacked(SHIP_OWNER_IDS, ship.getOwnerIds(), out);
+    }
+
+    private static ShipDto readShipFields(CodedInputStream in) throws IOException {
+        ShipDto ship = new ShipDto();
+        LongIdSet.Builder ownerIds = LongIdSet.builder(4);
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case SHIP_ID -> ship.setId(in.readInt64());
+                case SHIP_NAME -> ship.setShipName(in.readStringRequireUtf8());
+                case SHIP_IMO_NUMBER -> ship.setImoNumber(in.readStringRequireUtf8());
+                case SHIP_TYPE -> ship.setShipType(in.readStringRequireUtf8());
+                case SHIP_TONNAGE -> ship.setShipTonnage(in.readInt32());
+                case SHIP_OWNER_IDS -> readRepeatedInt64(tag, in, ownerIds);
+                default -> in.skipField(tag);
+            }
+        }
+        ship.setOwnerIds(ownerIds.build());
+        return ship;
+    }
+
+    private static int ownerSize(OwnerDto owner) {
+        int size = 0;
+        if (owner.getOwnerId() != null) {
+            size += CodedOutputStream.computeInt64Size(OWNER_ID, owner.getOwnerId());
+        }
+        if (owner.getOwnerName() != null) {
+            size += CodedOutputStream.computeStringSize(OWNER_NAME, owner.getOwnerName());
+        }
+        return size + packedSize(OWNER_SHIP_IDS, owner.getShipIds());
+    }
+
+    private static void writeOwnerFields(OwnerDto owner, CodedOutputStream out) throws IOException {
+        if (owner.getOwnerId() != null) {
+            out.writeInt64(OWNER_ID, owner.getOwnerId());
+        }
+        if (owner.getOwnerName() != null) {
+            out.writeString(OWNER_NAME, owner.getOwnerName());
+        }
+        writePacked(OWNER_SHIP_IDS, owner.getShipIds(), out);
+    }
+
+    private static OwnerDto readOwnerFields(CodedInputStream in) throws IOException {
+        OwnerDto owner = new OwnerDto();
+        LongIdSet.Builder shipIds = LongIdSet.builder(4);
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case OWNER_ID -> owner.setOwnerId(in.readInt64());
+                case OWNER_NAME -> owner.setOwnerName(in.readStringRequireUtf8());
+                case OWNER_SHIP_IDS -> readRepeatedInt64(tag, in, shipIds);
+                default -> in.skipField(tag);
+            }
+        }
+        owner.setShipIds(shipIds.build());
+        return owner;
+    }
+
+    private static int packedDataSize(Set<Long> values) {
+        int dataSize = 0;
+        if (values instanceof LongIdSet ids) {
+            for (int i = 0; i < ids.size(); i++) {
+                dataSize += CodedOutputStream.computeInt64SizeNoTag(ids.getLong(i));
+            }
+        } else {
+            for (long value : values) {
+                dataSize += CodedOutputStream.computeInt64SizeNoTag(value);
+            }
+        }
+        return dataSize;
+    }
+
+    private static int packedSize(int fieldNumber, Set<Long> values) {
+        if (values == null || values.isEmpty()) {
+            return 0;
+        }
+        int dataSize = packedDataSize(values);
+        return CodedOutputStream.computeTagSize(fieldNumber)
+                + CodedOutputStream.computeUInt32SizeNoTag(dataSize)
+                + dataSize;
+    }
+
+    private static void writePacked(int fieldNumber, Set<Long> values, CodedOutputStream out) throws IOException {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        out.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(packedDataSize(values));
+        if (values instanceof LongIdSet ids) {
+            for (int i = 0; i < ids.size(); i++) {
+                out.writeInt64NoTag(ids.getLong(i));
+            }
+        } else {
+            for (long value : values) {
+                out.writeInt64NoTag(value);
+            }
+        }
+    }
+
+    /**
+     * Parsers must accept both packed and unpacked encodings of repeated scalars.
+     */
+
+    private static void readRepeatedInt64(int tag, CodedInputStream in, LongIdSet.Builder target) throws IOException {
+        if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+            int previousLimit = in.pushLimit(in.readRawVarint32());
+            while (in.getBytesUntilLimit() > 0) {
+                target.add(in.readInt64());
+            }
+            in.popLimit(previousLimit);
+        } else {
+            target.add(in.readInt64());
+        }
+    }
+}
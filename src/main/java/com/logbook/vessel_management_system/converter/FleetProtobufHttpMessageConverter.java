@@ -0,0 +1,117 @@
+// src/main/java/com/logbook/vessel_management_system/converter/FleetProtobufHttpMessageConverter.java
+package com.logbook.vessel_management_system.converter;
+
+import com.logbook.vessel_management_system.diagnostics.RequestTimings;
+import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Adapter Pattern: Exposes FleetProtobufCodec as an HTTP message converter for
+ * {@code application/x-protobuf}. Only ships, owners and lists of them have a schema;
+ * the declared generic type decides between the single and the list message.
+ */
+
+public class FleetProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private enum Shape { SHIP, SHIP_LIST, OWNER, OWNER_LIST }
+
+    public FleetProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return clazz == ShipDto.class || clazz == OwnerDto.class;
+    }
+
+    @Override
+    public boolean canRead(@NonNull Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return shapeOf(type) != null && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, @NonNull Class<?> clazz, @Nullable MediaType mediaType) {
+        return shapeOf(type != null ? type : clazz) != null && canWrite(mediaType);
+    }
+
+    @Override
+    @NonNull
+    public Object read(@NonNull Type type, @Nullable Class<?> contextClass, @NonNull HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        Shape shape = shapeOf(type);
+        if (shape == null) {
+            throw new HttpMessageNotReadableException("No protobuf schema for " + type, inputMessage);
+        }
+        return switch (shape) {
+            case SHIP -> FleetProtobufCodec.readShip(inputMessage.getBody());
+            case SHIP_LIST -> FleetProtobufCodec.readShips(inputMessage.getBody());
+            case OWNER -> FleetProtobufCodec.readOwner(inputMessage.getBody());
+            case OWNER_LIST -> FleetProtobufCodec.readOwners(inputMessage.getBody());
+        };
+    }
+
+    @Override
+    @NonNull
+    protected Object readInternal(@NonNull Class<?> clazz, @NonNull HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(@NonNull Object object, @Nullable Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        Shape shape = shapeOf(type != null ? type : object.getClass());
+        if (shape == null) {
+            throw new HttpMessageNotWritableException("No protobuf schema for " + object.getClass().getName());
+        }
+        long start = RequestTimings.start();
+        try {
+            switch (shape) {
+                case SHIP -> FleetProtobufCodec.writeShip((ShipDto) object, outputMessage.getBody());
+                case SHIP_LIST -> FleetProtobufCodec.writeShips((List<ShipDto>) object, outputMessage.getBody());
+                case OWNER -> FleetProtobufCodec.writeOwner((OwnerDto) object, outputMessage.getBody());
+                case OWNER_LIST -> FleetProtobufCodec.writeOwners((List<OwnerDto>) object, outputMessage.getBody());
+            }
+        } finally {
+            RequestTimings.stop(RequestTimings.Phase.SERIALIZE, start);
+        }
+    }
+
+    @Nullable
+    private static Shape shapeOf(Type type) {
+        ResolvableType resolved = ResolvableType.forType(type);
+        Class<?> raw = resolved.resolve();
+        if (raw == ShipDto.class) {
+            return Shape.SHIP;
+        }
+        if (raw == OwnerDto.class) {
+            return Shape.OWNER;
+        }
+        if (raw != null && List.class.isAssignableFrom(raw)) {
+            Class<?> element = resolved.asCollection().resolveGeneric(0);
+            if (element == ShipDto.class) {
+                return Shape.SHIP_LIST;
+            }
+            if (element == OwnerDto.class) {
+                return Shape.OWNER_LIST;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,111 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/FlightRecorderService.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Continuous Java Flight Recorder recording with on-demand dumps.
+ *
+ * The recording uses the JDK's low-overhead "default" settings plus the custom
+ * vms.* events, is kept on disk in a ring bounded by vms.jfr.max-age and
+ * vms.jfr.max-size, and can be dumped for the last N minutes without stopping it.
+ */
+
+@Slf4j
+@Component
+public class FlightRecorderService {
+
+    static final String RECORDING_NAME = "vms-continuous";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final Path dumpDirectory;
+
+    private Recording recording;
+
+    public FlightRecorderService(@Value("${vms.jfr.enabled:false}") boolean enabled,
+                                 @Value("${vms.jfr.max-age-minutes:60}") long maxAgeMinutes,
+                                 @Value("${vms.jfr.max-size-mb:512}") long maxSizeMb,
+                                 @Value("${vms.jfr.dump-directory:jfr}") String dumpDirectory) {
+        this.enabled = enabled;
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.dumpDirectory = Path.of(dumpDirectory);
+    }
+
+    @PostConstruct
+    void start() throws IOException, ParseException {
+        if (!enabled || !FlightRecorder.isAvailable()) {
+            return;
+        }
+        recording = new Recording(Configuration.getConfiguration("default"));
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeBytes);
+        recording.enable(ServiceOperationEvent.class);
+        recording.enable(TransactionCommitEvent.class);
+        recording.start();
+        log.info("Continuous flight recording started (max age {}, max size {} MB)", maxAge, maxSizeBytes / (1024 * 1024));
+    }
+
+    public boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * Writes the last {@code minutes} of the continuous recording to a new file in the
+     * dump directory and returns its path. Uses the JFR.dump diagnostic command, which
+     * (unlike Recording.dump) can cut the recording to a time window.
+     */
+
+    public Path dumpLast(int minutes) throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("Continuous flight recording is not running; set vms.jfr.enabled=true.");
+        }
+        if (minutes < 1 || maxAge.toMinutes() < minutes) {
+            throw new IllegalArgumentException("minutes must be between 1 and " + maxAge.toMinutes());
+        }
+
+        Files.createDirectories(dumpDirectory);
+        Path file = dumpDirectory.resolve("vms-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "-last" + minutes + "m.jfr").toAbsolutePath();
+        String[] arguments = {"name=" + RECORDING_NAME, "filename=" + file, "begin=-" + minutes + "m"};
+        try {
+            ManagementFactory.getPlatformMBeanServer().invoke(new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                    "jfrDump", new Object[]{arguments}, new String[]{String[].class.getName()});
+        } catch (JMException e) {
+            throw new IOException("JFR.dump failed", e);
+        }
+        log.info("Dumped last {} minutes of flight recording to {}", minutes, file);
+        return file;
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/FlightRecordingEndpoint.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Actuator endpoint (POST /actuator/jfr on the management port, optional
+ * {@code minutes}, default 10): dumps the last minutes of the continuous flight
+ * recording to disk on the server; open the returned file with JDK Mission Control.
+ */
+
+@Component
+@Endpoint(id = "jfr")
+@RequiredArgsConstructor
+public class FlightRecordingEndpoint {
+
+    private static final int DEFAULT_MINUTES = 10;
+
+    private final FlightRecorderService flightRecorderService;
+
+    @WriteOperation
+    public Map<String, Object> dump(@Nullable Integer minutes) throws IOException {
+        int window = minutes != null ? minutes : DEFAULT_MINUTES;
+        Path file;
+        try {
+            file = flightRecorderService.dumpLast(window);
+        } catch (IllegalArgumentException e) {
+            // Answered with 400 like the other request validation errors
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return Map.of("file", file.toString(), "minutes", window);
+    }
+}
@@ -0,0 +1,80 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/JfrServiceOperationAspect.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Emits a {@link ServiceOperationEvent} around every ShipService and OwnerService
+ * method. When no recording has the event enabled the advice only checks
+ * {@code isEnabled()} and proceeds.
+ *
+ * Services that delegate to another service (RegistryShipService to ShipServiceImpl on
+ * writes and registry misses) match the pointcut twice; only the outermost call on a
+ * thread records an event, so every operation is counted once.
+ */
+
+@Aspect
+@Component
+public class JfrServiceOperationAspect {
+
+    private static final ThreadLocal<Boolean> IN_OPERATION = new ThreadLocal<>();
+
+    @Around("execution(* com.logbook.vessel_management_system.service.ShipService+.*(..)) "
+            + "|| execution(* com.logbook.vessel_management_system.service.OwnerService+.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        if (!event.isEnabled() || IN_OPERATION.get() != null) {
+            return joinPoint.proceed();
+        }
+
+        IN_OPERATION.set(Boolean.TRUE);
+        event.begin();
+        boolean failed = true;
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            IN_OPERATION.remove();
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.operation = joinPoint.getSignature().getName();
+                event.entityId = entityId(joinPoint.getArgs(), result);
+                event.rowCount = rowCount(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private static long entityId(Object[] args, Object result) {
+        for (Object arg : args) {
+            if (arg instanceof Long id) {
+                return id;
+            }
+        }
+        if (result instanceof ShipDto ship && ship.getId() != null) {
+            return ship.getId();
+        }
+        if (result instanceof OwnerDto owner && owner.getOwnerId() != null) {
+            return owner.getOwnerId();
+        }
+        return -1;
+    }
+
+    private static int rowCount(Object result) {
+        if (result instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        return result != null ? 1 : 0;
+    }
+}
@@ -0,0 +1,59 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/JfrTransactionListener.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Emits a {@link TransactionCommitEvent} for every commit and rollback of a
+ * transaction started by the Spring transaction manager.
+ */
+
+@Component
+public class JfrTransactionListener implements TransactionExecutionListener {
+
+    private static final ThreadLocal<TransactionCommitEvent> PENDING = new ThreadLocal<>();
+
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        begin(transaction, false);
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        end(commitFailure);
+    }
+
+    @Override
+    public void beforeRollback(TransactionExecution transaction) {
+        begin(transaction, true);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, @Nullable Throwable rollbackFailure) {
+        end(rollbackFailure);
+    }
+
+    private static void begin(TransactionExecution transaction, boolean rollback) {
+        TransactionCommitEvent event = new TransactionCommitEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.transactionName = transaction.getTransactionName();
+        event.readOnly = transaction.isReadOnly();
+        event.rolledBack = rollback;
+        event.begin();
+        PENDING.set(event);
+    }
+
+    private static void end(@Nullable Throwable failure) {
+        TransactionCommitEvent event = PENDING.get();
+        if (event != null) {
+            PENDING.remove();
+            event.failed = failure != null;
+            event.commit();
+        }
+    }
+}
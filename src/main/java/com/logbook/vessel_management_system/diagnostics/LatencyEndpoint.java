@@ -0,0 +1,28 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/LatencyEndpoint.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint (GET /actuator/latency on the management port): latency
+ * percentiles (ms) per endpoint and status class over 1 minute, 5 minute and 1 hour
+ * windows, with the SLO burn rate of each window.
+ */
+
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+
+    private final LatencyTracker latencyTracker;
+
+    @ReadOperation
+    public List<LatencyTracker.EndpointReport> latency() {
+        return latencyTracker.report();
+    }
+}
@@ -0,0 +1,45 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/LatencyInterceptor.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Measures each handler invocation from dispatch to completion (including response
+ * serialization) and records it in the {@link LatencyTracker}. Streaming requests are
+ * not recorded: their duration is the client's subscription time, not latency.
+ */
+
+@RequiredArgsConstructor
+public class LatencyInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = LatencyInterceptor.class.getName() + ".start";
+
+    private final LatencyTracker latencyTracker;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        request.removeAttribute(START_ATTRIBUTE);
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        if (request.getAttribute(START_ATTRIBUTE) instanceof Long start && handler instanceof HandlerMethod handlerMethod) {
+            long elapsed = System.nanoTime() - start;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            latencyTracker.record(handlerMethod.getMethod(), request.getMethod() + " " + pattern, response.getStatus(), elapsed);
+        }
+    }
+}
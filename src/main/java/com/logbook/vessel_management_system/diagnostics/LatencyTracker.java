@@ -0,0 +1,285 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/LatencyTracker.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Per-endpoint latency histograms over rolling windows, with SLO burn rates.
+ *
+ * Request threads record into an HdrHistogram {@link Recorder} per endpoint and
+ * status class, which is wait-free (a few tens of nanoseconds, no allocation). Every
+ * {@value #SLOT_SECONDS} seconds the recorders are swapped into a ring of interval
+ * histograms, and every five minutes those are folded into a second ring, giving
+ * 1 minute, 5 minute and 1 hour windows from a fixed number of histograms.
+ *
+ * A request is "bad" for the SLO when it is slower than vms.latency.slo.threshold-ms
+ * or returned a 5xx status; the burn rate of a window is its bad fraction divided by
+ * the error budget (1 - vms.latency.slo.target). A burn rate of 1 spends the budget
+ * exactly over the SLO period.
+ *
+ * Rotation runs on its own thread rather than the shared @Scheduled pool, so a slow
+ * snapshot write or outbox poll cannot stretch a slot and skew every window.
+ */
+
+@Slf4j
+@Component
+public class LatencyTracker {
+
+    static final int SLOT_SECONDS = 15;
+    private static final int SLOTS_PER_MINUTE = 60 / SLOT_SECONDS;
+    private static final int SHORT_SLOTS = 5 * SLOTS_PER_MINUTE;
+    private static final int LONG_SLOTS = 12;
+    private static final long HIGHEST_TRACKABLE_MICROS = 60_000_000;
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx"};
+    private static final int SERVER_ERROR = 4;
+    private static final String[] WINDOW_NAMES = {"1m", "5m", "1h"};
+    private final ConcurrentHashMap<Method, EndpointSeries> series = new ConcurrentHashMap<>();
+    private final long sloThresholdMicros;
+    private final double sloTarget;
+    private final ScheduledExecutorService rotator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "latency-rotation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LatencyTracker(@Value("${vms.latency.slo.threshold-ms:250}") long sloThresholdMillis,
+                          @Value("${vms.latency.slo.target:0.99}") double sloTarget) {
+        if (sloTarget <= 0 || sloTarget >= 1) {
+            throw new IllegalArgumentException("vms.latency.slo.target must be between 0 and 1 (exclusive)");
+        }
+        this.sloThresholdMicros = sloThresholdMillis * 1000;
+        this.sloTarget = sloTarget;
+    }
+
+    /**
+     * Records one completed request. {@code endpoint} is only used the first time a
+     * handler method is seen.
+     */
+
+    public void record(Method handler, String endpoint, int status, long elapsedNanos) {
+        EndpointSeries endpointSeries = series.get(handler);
+        if (endpointSeries == null) {
+            endpointSeries = series.computeIfAbsent(handler, key -> new EndpointSeries(endpoint));
+        }
+        int statusClass = Math.max(0, Math.min(4, status / 100 - 1));
+        long micros = Math.max(1, Math.min(HIGHEST_TRACKABLE_MICROS, elapsedNanos / 1000));
+        endpointSeries.window(statusClass).recorder.recordValue(micros);
+    }
+
+    @PostConstruct
+    public void start() {
+        rotator.scheduleAtFixedRate(() -> {
+            try {
+                rotate();
+            } catch (RuntimeException e) {
+                // An exception would cancel every later rotation
+                log.warn("Could not rotate the latency windows", e);
+            }
+        }, SLOT_SECONDS, SLOT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rotator.shutdownNow();
+    }
+
+    public void rotate() {
+        series.values().forEach(EndpointSeries::rotate);
+    }
+
+    public List<EndpointReport> report() {
+        List<EndpointReport> reports = new ArrayList<>();
+        for (EndpointSeries endpointSeries : series.values()) {
+            reports.add(endpointSeries.report());
+        }
+        reports.sort(Comparator.comparing(EndpointReport::endpoint));
+        return reports;
+    }
+
+    private final class EndpointSeries {
+
+        private final String endpoint;
+        private final AtomicReferenceArray<SlotWindow> windows = new AtomicReferenceArray<>(STATUS_CLASSES.length);
+
+        EndpointSeries(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        SlotWindow window(int statusClass) {
+            SlotWindow window = windows.get(statusClass);
+            if (window == null) {
+                windows.compareAndSet(statusClass, null, new SlotWindow());
+                window = windows.get(statusClass);
+            }
+            return window;
+        }
+
+        synchronized void rotate() {
+            for (int statusClass = 0; statusClass < windows.length(); statusClass++) {
+                SlotWindow window = windows.get(statusClass);
+                if (window != null) {
+                    window.rotate();
+                }
+            }
+        }
+
+        synchronized EndpointReport report() {
+            Map<String, Map<String, WindowStats>> byStatus = new LinkedHashMap<>();
+            Map<String, Histogram> nonErrors = new LinkedHashMap<>();
+            Map<String, Long> serverErrors = new LinkedHashMap<>();
+            for (String window : WINDOW_NAMES) {
+                nonErrors.put(window, newHistogram());
+                serverErrors.put(window, 0L);
+            }
+
+            for (int statusClass = 0; statusClass < windows.length(); statusClass++) {
+                SlotWindow slotWindow = windows.get(statusClass);
+                if (slotWindow == null) {
+                    continue;
+                }
+                Map<String, WindowStats> stats = new LinkedHashMap<>();
+                for (String window : WINDOW_NAMES) {
+                    Histogram histogram = slotWindow.aggregate(window);
+                    stats.put(window, WindowStats.of(histogram));
+                    if (statusClass == SERVER_ERROR) {
+                        serverErrors.put(window, histogram.getTotalCount());
+                    } else {
+                        nonErrors.get(window).add(histogram);
+                    }
+                }
+                byStatus.put(STATUS_CLASSES[statusClass], stats);
+            }
+
+            Map<String, Double> burnRates = new LinkedHashMap<>();
+            for (String window : WINDOW_NAMES) {
+                burnRates.put(window, burnRate(nonErrors.get(window), serverErrors.get(window)));
+            }
+            return new EndpointReport(endpoint, byStatus, burnRates);
+        }
+    }
+
+    private double burnRate(Histogram nonErrors, long serverErrors) {
+        long total = nonErrors.getTotalCount() + serverErrors;
+        if (total == 0) {
+            return 0;
+        }
+        long slow = nonErrors.getTotalCount() - nonErrors.getCountBetweenValues(0, sloThresholdMicros);
+        double badFraction = (double) (slow + serverErrors) / total;
+        return Math.round(badFraction / (1 - sloTarget) * 100) / 100.0;
+    }
+
+    /**
+     * Interval histograms of one endpoint and status class.
+     */
+
+    private static final class SlotWindow {
+
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram[] shortSlots = new Histogram[SHORT_SLOTS];
+        private final Histogram[] longSlots = new Histogram[LONG_SLOTS];
+        private final Histogram currentLongSlot = newHistogram();
+        private Histogram spare;
+        private int shortIndex;
+        private int longIndex;
+
+        void rotate() {
+            Histogram interval = recorder.getIntervalHistogram(spare);
+            spare = shortSlots[shortIndex];
+            shortSlots[shortIndex] = interval;
+            currentLongSlot.add(interval);
+            shortIndex = (shortIndex + 1) % SHORT_SLOTS;
+
+            if (shortIndex == 0) {
+                Histogram completed = longSlots[longIndex] != null ? longSlots[longIndex] : newHistogram();
+                completed.reset();
+                completed.add(currentLongSlot);
+                longSlots[longIndex] = completed;
+                longIndex = (longIndex + 1) % LONG_SLOTS;
+                currentLongSlot.reset();
+            }
+        }
+
+        Histogram aggregate(String window) {
+            Histogram sum = newHistogram();
+            switch (window) {
+                case "1m" -> {
+                    for (int i = 1; i <= SLOTS_PER_MINUTE; i++) {
+                        addIfPresent(sum, shortSlots[Math.floorMod(shortIndex - i, SHORT_SLOTS)]);
+                    }
+                }
+                case "5m" -> {
+                    for (Histogram slot : shortSlots) {
+                        addIfPresent(sum, slot);
+                    }
+                }
+                default -> {
+                    // The oldest long slot is dropped so the partial current one keeps the window near one hour
+                    for (int i = 1; i < LONG_SLOTS; i++) {
+                        addIfPresent(sum, longSlots[Math.floorMod(longIndex - i, LONG_SLOTS)]);
+                    }
+                    sum.add(currentLongSlot);
+                }
+            }
+            return sum;
+        }
+
+        private static void addIfPresent(Histogram sum, Histogram slot) {
+            if (slot != null) {
+                sum.add(slot);
+            }
+        }
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * Latency of one window in milliseconds.
+     */
+
+    public record WindowStats(long count, double p50, double p90, double p99, double p999, double max) {
+
+        static WindowStats of(Histogram histogram) {
+            if (histogram.getTotalCount() == 0) {
+                return new WindowStats(0, 0, 0, 0, 0, 0);
+            }
+            return new WindowStats(histogram.getTotalCount(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return Math.round(micros / 10.0) / 100.0;
+        }
+    }
+
+    /**
+     * Window statistics per status class and SLO burn rate per window for one endpoint.
+     */
+
+    public record EndpointReport(String endpoint, Map<String, Map<String, WindowStats>> statusClasses, Map<String, Double> burnRates) {
+    }
+}
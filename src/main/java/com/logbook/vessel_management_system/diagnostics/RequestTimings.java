@@ -0,0 +1,133 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/RequestTimings.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import java.util.Locale;
+
+/**
+ * Latency breakdown of one opted-in HTTP request, accumulated from System.nanoTime()
+ * spans recorded by the Hibernate, transaction, mapping and serialization hooks.
+ *
+ * Bound to the request thread by {@link ServerTimingFilter}. For requests that did
+ * not ask for timings {@link #start()} returns 0 and {@link #stop} ignores it, so an
+ * instrumented call site costs one ThreadLocal lookup.
+ */
+
+public final class RequestTimings {
+
+    public enum Phase {
+        DB("db", "Statement execution"),
+        TX("tx", "Transaction begin and commit"),
+        MAP("map", "Entity to DTO mapping, including lazy loads"),
+        SERIALIZE("ser", "Response serialization");
+
+        final String metricName;
+        final String description;
+
+        Phase(String metricName, String description) {
+            this.metricName = metricName;
+            this.description = description;
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private long transactionStart;
+
+    private RequestTimings() {
+    }
+
+    static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Opens a span; returns 0 when the current request is not being timed.
+     */
+
+    public static long start() {
+        return CURRENT.get() != null ? System.nanoTime() : 0;
+    }
+
+    public static void stop(Phase phase, long start) {
+        if (start != 0) {
+            RequestTimings timings = CURRENT.get();
+            if (timings != null) {
+                timings.phaseNanos[phase.ordinal()] += System.nanoTime() - start;
+            }
+        }
+    }
+
+    void addDatabaseTime(long nanos) {
+        phaseNanos[Phase.DB.ordinal()] += nanos;
+    }
+
+    /**
+     * Counts a pull from an open result set as database time: the span since
+     * {@code fetchStart}, less any statement execution recorded in it meanwhile (the
+     * first pull from a lazy stream executes the query). Returns the whole span.
+     */
+
+    public long addFetchTime(long fetchStart, long databaseNanosAtStart) {
+        long elapsed = System.nanoTime() - fetchStart;
+        long executed = phaseNanos[Phase.DB.ordinal()] - databaseNanosAtStart;
+        phaseNanos[Phase.DB.ordinal()] += Math.max(0, elapsed - executed);
+        return elapsed;
+    }
+
+    void transactionPhaseStarted() {
+        transactionStart = System.nanoTime();
+    }
+
+    void transactionPhaseEnded() {
+        if (transactionStart != 0) {
+            phaseNanos[Phase.TX.ordinal()] += System.nanoTime() - transactionStart;
+            transactionStart = 0;
+        }
+    }
+
+    public long getNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Renders the Server-Timing header value, e.g.
+     * {@code db;dur=3.1;desc="Statement execution", ..., total;dur=9.8}.
+     */
+
+    String toHeaderValue(long totalNanos) {
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : Phase.values()) {
+            header.append(phase.metricName).append(";dur=").append(millis(phaseNanos[phase.ordinal()]))
+                    .append(";desc=\"").append(phase.description).append("\", ");
+        }
+        return header.append("total;dur=").append(millis(totalNanos)).toString();
+    }
+
+    String toLogFields(long totalNanos) {
+        StringBuilder fields = new StringBuilder(96);
+        for (Phase phase : Phase.values()) {
+            fields.append(phase.metricName).append("_ms=").append(millis(phaseNanos[phase.ordinal()])).append(' ');
+        }
+        return fields.append("total_ms=").append(millis(totalNanos)).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,68 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/ServerTimingFilter.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Adds a Server-Timing header to responses of requests that send
+ * {@value #REQUEST_HEADER}: true, splitting the request into database, transaction,
+ * mapping and serialization time, and writes the same breakdown as one key=value
+ * line to the {@code vms.server-timing} logger.
+ *
+ * The header has to precede the body, so opted-in responses are buffered until the
+ * handler completes. Requests without the header pass straight through, and
+ * event-stream requests are never buffered.
+ */
+
+@Slf4j(topic = "vms.server-timing")
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "vms.server-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_HEADER = "X-Server-Timing";
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        return !"true".equalsIgnoreCase(request.getHeader(REQUEST_HEADER))
+                || (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin();
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, buffered);
+        } finally {
+            RequestTimings.end();
+        }
+
+        long total = timings.getElapsedNanos();
+        buffered.setHeader("Server-Timing", timings.toHeaderValue(total));
+        buffered.copyBodyToResponse();
+
+        if (log.isInfoEnabled()) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            log.info("method={} endpoint={} status={} {}", request.getMethod(),
+                    pattern != null ? pattern : request.getRequestURI(), buffered.getStatus(), timings.toLogFields(total));
+        }
+    }
+}
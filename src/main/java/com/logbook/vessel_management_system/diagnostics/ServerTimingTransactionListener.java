@@ -0,0 +1,61 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/ServerTimingTransactionListener.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Feeds transaction begin and completion time (commit includes the final flush)
+ * into the current {@link RequestTimings}. Spring Boot registers listener beans on
+ * the transaction manager.
+ */
+
+@Component
+public class ServerTimingTransactionListener implements TransactionExecutionListener {
+
+    @Override
+    public void beforeBegin(TransactionExecution transaction) {
+        phaseStarted();
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        phaseEnded();
+    }
+
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        phaseStarted();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        phaseEnded();
+    }
+
+    @Override
+    public void beforeRollback(TransactionExecution transaction) {
+        phaseStarted();
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, @Nullable Throwable rollbackFailure) {
+        phaseEnded();
+    }
+
+    private static void phaseStarted() {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.transactionPhaseStarted();
+        }
+    }
+
+    private static void phaseEnded() {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.transactionPhaseEnded();
+        }
+    }
+}
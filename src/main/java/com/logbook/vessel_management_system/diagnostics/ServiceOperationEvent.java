@@ -0,0 +1,38 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/ServiceOperationEvent.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one ShipService / OwnerService call. Its duration lines up with
+ * the allocation, lock and I/O events recorded on the same thread in that window.
+ */
+
+@Name("vms.ServiceOperation")
+@Label("Service Operation")
+@Category({"Vessel Management", "Service"})
+@Description("One call into the ship or owner service layer")
+@StackTrace(false)
+class ServiceOperationEvent extends jdk.jfr.Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Entity Id")
+    @Description("Id of the ship or owner the operation targeted or created, -1 if none")
+    long entityId = -1;
+
+    @Label("Row Count")
+    @Description("Number of DTOs returned")
+    int rowCount;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,21 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/SqlBudget.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements one request to the annotated endpoint may issue.
+ * Endpoints without the annotation use vms.sql-budget.max-statements.
+ */
+
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    int value();
+}
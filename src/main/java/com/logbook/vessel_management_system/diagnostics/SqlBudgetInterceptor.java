@@ -0,0 +1,88 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/SqlBudgetInterceptor.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Opens a {@link SqlStatementStats} window around each handler invocation, including
+ * response serialization (where lazy loads surface), and checks it against the budget
+ * when the request completes.
+ *
+ * A request is flagged when it exceeds its statement budget ({@link SqlBudget} on the
+ * handler, or the configured default), repeats one statement at least the configured
+ * number of times, or spends longer than the configured time in the database. The
+ * stats are left on the request under {@link #STATS_ATTRIBUTE} so tests can assert
+ * them per endpoint.
+ */
+
+@Slf4j
+public class SqlBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String STATS_ATTRIBUTE = SqlStatementStats.class.getName();
+
+    private final int defaultMaxStatements;
+    private final int repeatThreshold;
+    private final long maxDbTimeNanos;
+
+    public SqlBudgetInterceptor(int defaultMaxStatements, int repeatThreshold, long maxDbTimeMillis) {
+        this.defaultMaxStatements = defaultMaxStatements;
+        this.repeatThreshold = repeatThreshold;
+        this.maxDbTimeNanos = maxDbTimeMillis * 1_000_000;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        request.setAttribute(STATS_ATTRIBUTE, SqlStatementStats.begin());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        // Streaming responses continue on other threads; only the synchronous part is measured
+        SqlStatementStats.end();
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        SqlStatementStats.end();
+        if (stats == null || stats.getStatementCount() == 0) {
+            return;
+        }
+
+        int budget = budgetFor(handler);
+        boolean overBudget = stats.getStatementCount() > budget;
+        boolean repeated = stats.getMaxRepeats() >= repeatThreshold;
+        boolean slow = stats.getDbTimeNanos() > maxDbTimeNanos;
+        if (overBudget || repeated || slow) {
+            log.warn("SQL budget violation on {} {}: {} statements (budget {}), {} ms in the database; most repeated statement ran {}x: {}",
+                    request.getMethod(), endpoint(request), stats.getStatementCount(), budget,
+                    String.format("%.1f", stats.getDbTimeMillis()), stats.getMaxRepeats(), stats.getMostRepeatedStatement());
+        }
+    }
+
+    public int budgetFor(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            SqlBudget budget = handlerMethod.getMethodAnnotation(SqlBudget.class);
+            if (budget == null) {
+                budget = handlerMethod.getBeanType().getAnnotation(SqlBudget.class);
+            }
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return defaultMaxStatements;
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
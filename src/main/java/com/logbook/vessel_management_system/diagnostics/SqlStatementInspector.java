@@ -0,0 +1,21 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/SqlStatementInspector.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares into the current request's
+ * {@link SqlStatementStats}. The SQL is returned unchanged.
+ */
+
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.recordStatement(sql);
+        }
+        return sql;
+    }
+}
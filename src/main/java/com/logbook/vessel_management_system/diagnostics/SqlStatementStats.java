@@ -0,0 +1,67 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/SqlStatementStats.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL activity of one HTTP request: statement count, time spent executing statements
+ * and how often each distinct statement ran.
+ *
+ * Bound to the request thread between {@link #begin()} and {@link #end()}; outside of
+ * that window {@link #current()} is null and the Hibernate hooks do nothing. Hibernate
+ * renders each query to the same parameterized SQL string every time, so counting by
+ * string identifies repeated statement shapes such as N+1 lazy loads.
+ */
+
+@Getter
+public class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long dbTimeNanos;
+    private int maxRepeats;
+    private String mostRepeatedStatement;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String sql) {
+        statementCount++;
+        int repeats = statementCounts.merge(sql, 1, Integer::sum);
+        if (repeats > maxRepeats) {
+            maxRepeats = repeats;
+            mostRepeatedStatement = sql;
+        }
+    }
+
+    void recordExecution(long nanos) {
+        dbTimeNanos += nanos;
+    }
+
+    public double getDbTimeMillis() {
+        return dbTimeNanos / 1_000_000.0;
+    }
+
+    public int getDistinctStatementCount() {
+        return statementCounts.size();
+    }
+}
@@ -0,0 +1,50 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/SqlTimingSessionListener.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds JDBC execution time (single statements and batches) to the current request's
+ * {@link SqlStatementStats} and {@link RequestTimings}. Hibernate creates one instance per session, and a
+ * session is only used by one thread at a time.
+ */
+
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private transient long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        if (executionStart != 0) {
+            long elapsed = System.nanoTime() - executionStart;
+            SqlStatementStats stats = SqlStatementStats.current();
+            if (stats != null) {
+                stats.recordExecution(elapsed);
+            }
+            RequestTimings timings = RequestTimings.current();
+            if (timings != null) {
+                timings.addDatabaseTime(elapsed);
+            }
+        }
+        executionStart = 0;
+    }
+}
@@ -0,0 +1,35 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/TimedJacksonHttpMessageConverter.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON converter that records the time spent writing a response body (including
+ * lazy loads triggered by serialization) as the {@code ser} Server-Timing phase.
+ */
+
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object object, @Nullable Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = RequestTimings.start();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTimings.stop(RequestTimings.Phase.SERIALIZE, start);
+        }
+    }
+}
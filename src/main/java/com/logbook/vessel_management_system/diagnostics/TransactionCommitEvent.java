@@ -0,0 +1,32 @@
+// src/main/java/com/logbook/vessel_management_system/diagnostics/TransactionCommitEvent.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering a transaction commit or rollback, including the final flush.
+ */
+
+@Name("vms.TransactionCommit")
+@Label("Transaction Commit")
+@Category({"Vessel Management", "Transaction"})
+@Description("Completion (commit or rollback) of a Spring-managed transaction")
+@StackTrace(false)
+class TransactionCommitEvent extends jdk.jfr.Event {
+
+    @Label("Transaction")
+    String transactionName;
+
+    @Label("Rolled Back")
+    boolean rolledBack;
+
+    @Label("Read Only")
+    boolean readOnly;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -27,6 +27,7 @@ public class CreateShipRequest {
     @Schema(description = "International Maritime Organization number (7 digits)", example = "9744001", required = true)
     private String imoNumber;
 
+    @Size(max = 100, message = "Ship type must be at most 100 characters")
     @Schema(description = "Type/category of the ship", example = "Cruise Ship")
     private String shipType;
     
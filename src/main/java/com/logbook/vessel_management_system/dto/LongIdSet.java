@@ -0,0 +1,218 @@
+// src/main/java/com/logbook/vessel_management_system/dto/LongIdSet.java
+package com.logbook.vessel_management_system.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable set of entity ids backed by a sorted {@code long[]}: one array instead of a
+ * HashMap node and a boxed Long per id. It is a regular {@code Set<Long>} for callers
+ * (ids are boxed only when read through that view), and the nested Jackson serializer
+ * and deserializer write and read it as the same JSON number array as any other set.
+ */
+
+public final class LongIdSet extends AbstractSet<Long> {
+
+    private static final long[] NO_IDS = new long[0];
+    private static final LongIdSet EMPTY = new LongIdSet(NO_IDS);
+
+    private final long[] ids;
+
+    private LongIdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static LongIdSet of() {
+        return EMPTY;
+    }
+
+    public static LongIdSet of(long... ids) {
+        return ids.length == 0 ? EMPTY : sortedDistinct(ids.clone(), ids.length);
+    }
+
+    public static LongIdSet copyOf(Collection<Long> ids) {
+        if (ids instanceof LongIdSet set) {
+            return set;
+        }
+        Builder builder = builder(ids.size());
+        for (Long id : ids) {
+            builder.add(id);
+        }
+        return builder.build();
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * Id at the given position in ascending order; lets hot paths iterate without boxing.
+     */
+
+    public long getLong(int index) {
+        return ids[index];
+    }
+
+    public boolean containsLong(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Long id && containsLong(id);
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < ids.length;
+            }
+
+            @Override
+            public Long next() {
+                if (next >= ids.length) {
+                    throw new NoSuchElementException();
+                }
+                return ids[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof LongIdSet other) {
+            return Arrays.equals(ids, other.ids);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        // Same value as AbstractSet.hashCode (sum of Long.hashCode), without boxing
+        int hash = 0;
+        for (long id : ids) {
+            hash += Long.hashCode(id);
+        }
+        return hash;
+    }
+
+    private static LongIdSet sortedDistinct(long[] ids, int length) {
+        Arrays.sort(ids, 0, length);
+        int distinct = 0;
+        for (int i = 0; i < length; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return new LongIdSet(distinct == ids.length ? ids : Arrays.copyOf(ids, distinct));
+    }
+
+    /**
+     * Collects ids in any order, duplicates allowed; {@link #build()} sorts them once.
+     */
+
+    public static final class Builder {
+
+        private long[] ids;
+        private int size;
+
+        private Builder(int expectedSize) {
+            this.ids = expectedSize > 0 ? new long[expectedSize] : NO_IDS;
+        }
+
+        public Builder add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(4, size * 2));
+            }
+            ids[size++] = id;
+            return this;
+        }
+
+        public LongIdSet build() {
+            LongIdSet set = size == 0 ? EMPTY : sortedDistinct(ids, size);
+            // The set may keep the array, so the builder must not write to it again
+            ids = NO_IDS;
+            size = 0;
+            return set;
+        }
+    }
+
+    /**
+     * Writes an id set as a JSON array of numbers, straight from the array for LongIdSet.
+     */
+
+    public static class Serializer extends StdSerializer<Set<Long>> {
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Serializer() {
+            super((Class<Set<Long>>) (Class) Set.class);
+        }
+
+        @Override
+        public void serialize(Set<Long> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray(value, value.size());
+            if (value instanceof LongIdSet set) {
+                for (long id : set.ids) {
+                    gen.writeNumber(id);
+                }
+            } else {
+                for (Long id : value) {
+                    gen.writeNumber(id);
+                }
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Reads a JSON array of numbers into a LongIdSet without boxing.
+     */
+
+    public static class Deserializer extends StdDeserializer<Set<Long>> {
+
+        public Deserializer() {
+            super(Set.class);
+        }
+
+        @Override
+        public Set<Long> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                @SuppressWarnings("unchecked")
+                Set<Long> unexpected = (Set<Long>) ctxt.handleUnexpectedToken(Set.class, p);
+                return unexpected;
+            }
+            Builder builder = builder(4);
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_NUMBER_INT) {
+                    builder.add(p.getLongValue());
+                } else {
+                    builder.add(_parseLongPrimitive(p, ctxt));
+                }
+            }
+            return builder.build();
+        }
+    }
+}
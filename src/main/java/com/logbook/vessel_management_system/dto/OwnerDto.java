@@ -1,6 +1,9 @@
 // src/main/java/com/logbook/vessel_management_system/dto/OwnerDto.java
 package com.logbook.vessel_management_system.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
@@ -13,6 +16,7 @@ import java.util.Set;
  */
 
 @Data
+@JsonFilter(SparseFields.FILTER_ID)
 @Schema(description = "Owner data transfer object containing owner information and associated ships")
 public class OwnerDto {
     
@@ -24,5 +28,7 @@ public class OwnerDto {
     private String ownerName;
     
     @Schema(description = "Set of ship IDs owned by this owner", example = "[1, 2, 3]")
-    private Set<Long> shipIds; // IDs of ships owned by this owner
+    @JsonSerialize(using = LongIdSet.Serializer.class)
+    @JsonDeserialize(using = LongIdSet.Deserializer.class)
+    private Set<Long> shipIds; // IDs of ships owned by this owner (LongIdSet when built by the services)
 }
\ No newline at end of file
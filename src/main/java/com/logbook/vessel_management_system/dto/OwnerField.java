@@ -0,0 +1,24 @@
+// src/main/java/com/logbook/vessel_management_system/dto/OwnerField.java
+package com.logbook.vessel_management_system.dto;
+
+/**
+ * Fields of OwnerDto selectable with {@code ?fields=}. The ship ids are only loaded
+ * from Ship_Ownership_Link_Table when they are selected.
+ */
+
+public enum OwnerField implements SparseFields.Field {
+    OWNER_ID("ownerId"),
+    OWNER_NAME("ownerName"),
+    SHIP_IDS("shipIds");
+
+    private final String jsonName;
+
+    OwnerField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    @Override
+    public String getJsonName() {
+        return jsonName;
+    }
+}
@@ -1,6 +1,9 @@
 // src/main/java/com/logbook/vessel_management_system/dto/ShipDto.java
 package com.logbook.vessel_management_system.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import java.util.Set;
@@ -12,6 +15,7 @@ import java.util.Set;
  */
 
 @Data
+@JsonFilter(SparseFields.FILTER_ID)
 @Schema(description = "Ship data transfer object containing complete ship information")
 public class ShipDto {
     
@@ -31,5 +35,7 @@ public class ShipDto {
     private Integer shipTonnage;
     
     @Schema(description = "Set of owner IDs associated with this ship", example = "[1, 2]")
-    private Set<Long> ownerIds;
+    @JsonSerialize(using = LongIdSet.Serializer.class)
+    @JsonDeserialize(using = LongIdSet.Deserializer.class)
+    private Set<Long> ownerIds; // LongIdSet when built by the services
 }
\ No newline at end of file
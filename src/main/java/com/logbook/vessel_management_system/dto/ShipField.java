@@ -0,0 +1,37 @@
+// src/main/java/com/logbook/vessel_management_system/dto/ShipField.java
+package com.logbook.vessel_management_system.dto;
+
+import java.util.Set;
+
+/**
+ * Fields of ShipDto selectable with {@code ?fields=}. Besides shrinking the response,
+ * the selection decides which relations the ship query joins.
+ */
+
+public enum ShipField implements SparseFields.Field {
+    ID("id"),
+    SHIP_NAME("shipName"),
+    IMO_NUMBER("imoNumber"),
+    SHIP_TYPE("shipType"),
+    SHIP_TONNAGE("shipTonnage"),
+    OWNER_IDS("ownerIds");
+
+    private final String jsonName;
+
+    ShipField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    @Override
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Whether the selection needs Category_Table.
+     */
+
+    public static boolean needsDetails(Set<ShipField> fields) {
+        return fields.contains(SHIP_TYPE) || fields.contains(SHIP_TONNAGE);
+    }
+}
@@ -0,0 +1,85 @@
+// src/main/java/com/logbook/vessel_management_system/dto/SparseFields.java
+package com.logbook.vessel_management_system.dto;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.lang.Nullable;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldsets: parsing of the {@code fields} query parameter into the DTO fields
+ * a client asked for, and the Jackson filters that drop the others from the response.
+ * DTOs opt in with {@code @JsonFilter(SparseFields.FILTER_ID)}.
+ */
+
+public final class SparseFields {
+
+    public static final String REQUEST_PARAMETER = "fields";
+
+    public static final String FILTER_ID = "sparseFields";
+
+    /**
+     * A selectable DTO field, identified by its JSON property name.
+     */
+
+    public interface Field {
+        String getJsonName();
+    }
+
+    private SparseFields() {
+    }
+
+    /**
+     * Parses a comma-separated list of JSON property names. A missing or blank
+     * parameter selects every field.
+     *
+     * @throws IllegalArgumentException for names the DTO does not have
+     */
+
+    public static <E extends Enum<E> & Field> Set<E> parse(@Nullable String fields, Class<E> type) {
+        Set<E> selected = EnumSet.noneOf(type);
+        for (String name : names(fields)) {
+            selected.add(Arrays.stream(type.getEnumConstants())
+                    .filter(field -> field.getJsonName().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field '" + name + "'; expected any of "
+                            + Arrays.stream(type.getEnumConstants()).map(Field::getJsonName).collect(Collectors.joining(", ")))));
+        }
+        return selected.isEmpty() ? EnumSet.allOf(type) : selected;
+    }
+
+    /**
+     * Filters applied when a response is not sparse: every property is written.
+     * ObjectMappers that serialize the DTOs must be built with these.
+     */
+
+    public static FilterProvider defaultFilters() {
+        return new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    /**
+     * Filters that write only the requested properties.
+     */
+
+    public static FilterProvider filtersFor(String fields) {
+        return new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names(fields)));
+    }
+
+    private static Set<String> names(@Nullable String fields) {
+        Set<String> names = new LinkedHashSet<>();
+        if (fields != null) {
+            for (String name : fields.split(",")) {
+                if (!name.isBlank()) {
+                    names.add(name.trim());
+                }
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,37 @@
+// src/main/java/com/logbook/vessel_management_system/dto/SyncChangesDto.java
+package com.logbook.vessel_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO Pattern: One page of the delta sync feed. Contains the current state of every
+ * ship and owner written in the revision range (fromRevision, toRevision] plus
+ * tombstones for those deleted in it.
+ */
+
+@Data
+@Schema(description = "Ships, owners and deletions changed since a client's last known revision")
+public class SyncChangesDto {
+
+    @Schema(description = "Revision the client asked to sync from (exclusive); -1 for the start", example = "1000")
+    private long fromRevision;
+
+    @Schema(description = "Revision this page is complete up to (inclusive); pass it as 'since' on the next call", example = "1042")
+    private long toRevision;
+
+    @Schema(description = "True when more changes exist after toRevision", example = "false")
+    private boolean hasMore;
+
+    @Schema(description = "Current state of ships created or updated in the range")
+    private List<ShipDto> ships = new ArrayList<>();
+
+    @Schema(description = "Current state of owners created or updated in the range")
+    private List<OwnerDto> owners = new ArrayList<>();
+
+    @Schema(description = "Ships and owners deleted in the range")
+    private List<TombstoneDto> deletions = new ArrayList<>();
+}
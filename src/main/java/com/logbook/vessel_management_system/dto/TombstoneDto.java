@@ -0,0 +1,23 @@
+// src/main/java/com/logbook/vessel_management_system/dto/TombstoneDto.java
+package com.logbook.vessel_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * DTO Pattern: Deletion marker returned by the delta sync API.
+ */
+
+@Data
+@Schema(description = "Marker for a ship or owner deleted at a given revision")
+public class TombstoneDto {
+
+    @Schema(description = "Kind of entity that was deleted", example = "SHIP", allowableValues = {"SHIP", "OWNER"})
+    private String entityType;
+
+    @Schema(description = "Identifier of the deleted entity", example = "3")
+    private Long entityId;
+
+    @Schema(description = "Revision at which the entity was deleted", example = "1042")
+    private Long revision;
+}
@@ -3,6 +3,7 @@ package com.logbook.vessel_management_system.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 import java.util.Set;
 
@@ -20,6 +21,7 @@ public class UpdateShipRequest {
     @Schema(description = "Name of the ship", example = "MV Symphony of the Seas - Updated", required = true)
     private String shipName;
 
+    @Size(max = 100, message = "Ship type must be at most 100 characters")
     @Schema(description = "Type/category of the ship", example = "Luxury Cruise Ship")
     private String shipType;
     
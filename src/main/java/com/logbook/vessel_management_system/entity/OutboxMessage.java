@@ -0,0 +1,81 @@
+package com.logbook.vessel_management_system.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Entity for the transactional outbox. A row is written in the same transaction as
+ * the ship or owner change it describes, so a change is delivered downstream if and
+ * only if it committed.
+ */
+
+@Entity
+@Table(name = "Outbox_Table")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "Id")
+    private Long id;
+
+    @Column(name = "Aggregate_type", nullable = false, length = 20)
+    private String aggregateType;
+
+    @Column(name = "Aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "Event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "Payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "Created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * Set while a relay is delivering this message; other relays leave it alone until
+     * then. Null for messages no relay has claimed.
+     */
+
+    @Column(name = "Claimed_until")
+    private Instant claimedUntil;
+
+    public OutboxMessage(String aggregateType, Long aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = Instant.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OutboxMessage that = (OutboxMessage) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxMessage{" +
+               "id=" + id +
+               ", eventType='" + eventType + '\'' +
+               ", aggregateId=" + aggregateId +
+               '}';
+    }
+}
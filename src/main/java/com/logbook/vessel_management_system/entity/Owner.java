@@ -29,6 +29,16 @@ public class Owner {
     @Column(name = "Owner_name", nullable = false, unique = true) 
     private String ownerName;
 
+    /**
+     * Monotonically increasing change marker drawn from the revision clock
+     * ({@code Revision_Clock_Table}) by the service layer on every write that affects
+     * this owner. Used by the delta sync API; rows written outside the service layer keep
+     * the default of 0.
+     */
+
+    @Column(name = "Revision", nullable = false)
+    private Long revision = 0L;
+
     @ManyToMany(mappedBy = "owners", fetch = FetchType.LAZY)
     private Set<Ship> ships = new HashSet<>();
 
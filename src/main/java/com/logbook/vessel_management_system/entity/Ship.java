@@ -35,6 +35,16 @@ public class Ship {
     @Column(name = "Imo_number", nullable = false, unique = true) 
     private String imoNumber;
 
+    /**
+     * Monotonically increasing change marker drawn from the revision clock
+     * ({@code Revision_Clock_Table}) by the service layer on every write that affects
+     * this ship. Used by the delta sync API; rows written outside the service layer keep
+     * the default of 0.
+     */
+
+    @Column(name = "Revision", nullable = false)
+    private Long revision = 0L;
+
     @ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE })
     @JoinTable(
         name = "Ship_Ownership_Link_Table", 
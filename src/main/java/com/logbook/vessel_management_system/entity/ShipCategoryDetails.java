@@ -17,7 +17,9 @@ public class ShipCategoryDetails {
     @Column(name = "Ship_id") 
     private Long shipId; 
 
-    @Column(name = "Ship_type") 
+    // Stored as a Ship_Type_Table id; the converter translates through the dictionary cache
+    @Convert(converter = ShipTypeConverter.class)
+    @Column(name = "Ship_type_id")
     private String shipType;
 
     @Column(name = "Ship_tonnage") 
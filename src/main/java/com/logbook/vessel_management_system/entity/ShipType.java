@@ -0,0 +1,56 @@
+package com.logbook.vessel_management_system.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+/**
+ * Entity for one entry of the ship type dictionary. Category_Table stores the
+ * small-integer Type_id instead of repeating the type name on every ship; names
+ * are resolved through the ShipTypeDictionary cache rather than by joining.
+ *
+ * Rows are only ever inserted, never renamed or deleted, so an id means the
+ * same name for the lifetime of the database.
+ */
+
+@Entity
+@Table(name = "Ship_Type_Table")
+@Getter
+@NoArgsConstructor
+public class ShipType {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "Type_id")
+    private Short id;
+
+    @Column(name = "Type_name", nullable = false, unique = true, length = 100)
+    private String name;
+
+    public ShipType(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ShipType shipType = (ShipType) o;
+        return Objects.equals(id, shipType.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "ShipType{" +
+               "id=" + id +
+               ", name='" + name + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,36 @@
+package com.logbook.vessel_management_system.entity;
+
+import com.logbook.vessel_management_system.service.ShipTypeDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Maps ShipCategoryDetails.shipType between its name and the Ship_type_id column
+ * through the {@link ShipTypeDictionary} cache, so entities, JPQL projections and
+ * the API keep working with the type name. It only looks names up: the service layer
+ * registers new names before the flush that converts them.
+ *
+ * Hibernate obtains the converter from the Spring context. The dictionary is looked
+ * up on first use because it depends on the EntityManagerFactory being built.
+ */
+
+@Converter
+public class ShipTypeConverter implements AttributeConverter<String, Short> {
+
+    private final ObjectProvider<ShipTypeDictionary> dictionary;
+
+    public ShipTypeConverter(ObjectProvider<ShipTypeDictionary> dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(String shipType) {
+        return shipType != null ? dictionary.getObject().idOf(shipType) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short shipTypeId) {
+        return shipTypeId != null ? dictionary.getObject().nameOf(shipTypeId) : null;
+    }
+}
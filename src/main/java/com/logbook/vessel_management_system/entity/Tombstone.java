@@ -0,0 +1,66 @@
+package com.logbook.vessel_management_system.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Objects;
+
+/**
+ * Entity recording the deletion of a ship or owner at a given revision, so that
+ * delta sync clients learn about rows that no longer exist.
+ */
+
+@Entity
+@Table(name = "Tombstone_Table")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Tombstone {
+
+    public static final String SHIP = "SHIP";
+    public static final String OWNER = "OWNER";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "Id")
+    private Long id;
+
+    @Column(name = "Entity_type", nullable = false, length = 20)
+    private String entityType;
+
+    @Column(name = "Entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "Revision", nullable = false)
+    private Long revision;
+
+    public Tombstone(String entityType, Long entityId, Long revision) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.revision = revision;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Tombstone tombstone = (Tombstone) o;
+        return Objects.equals(id, tombstone.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "Tombstone{" +
+               "entityType='" + entityType + '\'' +
+               ", entityId=" + entityId +
+               ", revision=" + revision +
+               '}';
+    }
+}
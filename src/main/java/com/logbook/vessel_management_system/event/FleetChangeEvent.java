@@ -0,0 +1,107 @@
+// src/main/java/com/logbook/vessel_management_system/event/FleetChangeEvent.java
+package com.logbook.vessel_management_system.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import lombok.Getter;
+
+/**
+ * Observer Pattern: Domain event published by the service layer whenever a ship
+ * or owner is created, updated or deleted. Listeners subscribe through Spring's
+ * event infrastructure and typically react only after the surrounding transaction
+ * has committed, so they never observe changes that are later rolled back.
+ *
+ * The event carries the post-change DTO (null for deletions) so that listeners
+ * do not need to go back to the database to learn the new state. Ship updates and
+ * deletions made through the service layer also carry the pre-change ship, for
+ * listeners that keep running totals; it stays in-process and is never serialized.
+ *
+ * Every event carries the revision its transaction stamped on the rows it wrote.
+ * AFTER_COMMIT listeners run on the committing threads, so two changes to the same
+ * ship can arrive in either order; listeners that hold per-ship state compare
+ * revisions and drop a change older than the one they already hold.
+ */
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FleetChangeEvent {
+
+    public enum EntityType { SHIP, OWNER }
+
+    public enum ChangeType { CREATED, UPDATED, DELETED }
+
+    private final EntityType entityType;
+    private final ChangeType changeType;
+    private final Long entityId;
+    private final long revision;
+    private final ShipDto ship;
+    private final OwnerDto owner;
+    @JsonIgnore
+    private final ShipDto previousShip;
+
+    private FleetChangeEvent(EntityType entityType, ChangeType changeType, Long entityId, long revision, ShipDto ship,
+                             OwnerDto owner, ShipDto previousShip) {
+        this.entityType = entityType;
+        this.changeType = changeType;
+        this.entityId = entityId;
+        this.revision = revision;
+        this.ship = ship;
+        this.owner = owner;
+        this.previousShip = previousShip;
+    }
+
+    /**
+     * Factory Method Pattern: Named constructors keep the entity type, id and
+     * payload consistent with each other.
+     */
+
+    public static FleetChangeEvent shipCreated(ShipDto ship, long revision) {
+        return new FleetChangeEvent(EntityType.SHIP, ChangeType.CREATED, ship.getId(), revision, ship, null, null);
+    }
+
+    public static FleetChangeEvent shipUpdated(ShipDto ship, long revision) {
+        return shipUpdated(null, ship, revision);
+    }
+
+    public static FleetChangeEvent shipUpdated(ShipDto previousShip, ShipDto ship, long revision) {
+        return new FleetChangeEvent(EntityType.SHIP, ChangeType.UPDATED, ship.getId(), revision, ship, null, previousShip);
+    }
+
+    public static FleetChangeEvent shipDeleted(Long shipId, long revision) {
+        return new FleetChangeEvent(EntityType.SHIP, ChangeType.DELETED, shipId, revision, null, null, null);
+    }
+
+    public static FleetChangeEvent shipDeleted(ShipDto previousShip, long revision) {
+        return new FleetChangeEvent(EntityType.SHIP, ChangeType.DELETED, previousShip.getId(), revision, null, null,
+                previousShip);
+    }
+
+    public static FleetChangeEvent ownerCreated(OwnerDto owner, long revision) {
+        return new FleetChangeEvent(EntityType.OWNER, ChangeType.CREATED, owner.getOwnerId(), revision, null, owner, null);
+    }
+
+    public static FleetChangeEvent ownerDeleted(Long ownerId, long revision) {
+        return new FleetChangeEvent(EntityType.OWNER, ChangeType.DELETED, ownerId, revision, null, null, null);
+    }
+
+    /**
+     * Short event name in the form "ship.updated", used as the SSE event name
+     * and as the outbound event type for downstream consumers.
+     */
+
+    public String getEventName() {
+        return entityType.name().toLowerCase() + "." + changeType.name().toLowerCase();
+    }
+
+    @Override
+    public String toString() {
+        return "FleetChangeEvent{" +
+               "entityType=" + entityType +
+               ", changeType=" + changeType +
+               ", entityId=" + entityId +
+               ", revision=" + revision +
+               '}';
+    }
+}
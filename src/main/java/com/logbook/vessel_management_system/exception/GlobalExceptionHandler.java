@@ -2,7 +2,9 @@
 package com.logbook.vessel_management_system.exception;
 
 import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -34,7 +36,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorDetails> handleResourceNotFoundException(ResourceNotFoundException ex, WebRequest request) {
         ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), ex.getMessage(), request.getDescription(false));
-        return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
+        return new ResponseEntity<>(errorDetails, jsonHeaders(), HttpStatus.NOT_FOUND);
     }
 
     /**
@@ -45,7 +47,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorDetails> handleIllegalArgumentException(IllegalArgumentException ex, WebRequest request) {
          ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), ex.getMessage(), request.getDescription(false));
-         return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+         return new ResponseEntity<>(errorDetails, jsonHeaders(), HttpStatus.BAD_REQUEST);
     }
 
      /**
@@ -68,7 +70,7 @@ public class GlobalExceptionHandler {
          body.put("errors", fieldErrors);
          body.put("path", request.getDescription(false).replace("uri=", ""));
 
-         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+         return new ResponseEntity<>(body, jsonHeaders(), HttpStatus.BAD_REQUEST);
      }
 
      /**
@@ -80,7 +82,19 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorDetails> handleGlobalException(Exception ex, WebRequest request) {
         ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), "An unexpected error occurred: " + ex.getMessage(), request.getDescription(false));
         ex.printStackTrace(); // Good for dev logs
-        return new ResponseEntity<>(errorDetails, HttpStatus.INTERNAL_SERVER_ERROR);
+        return new ResponseEntity<>(errorDetails, jsonHeaders(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * Error bodies are always JSON. Without a preset content type they would be
+     * negotiated against the request's Accept header, and a client asking for
+     * application/x-protobuf (which has no error message) would get an empty 406
+     * instead of the actual status.
+     */
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
     }
 
     // Simple Error Details class
@@ -0,0 +1,194 @@
+// src/main/java/com/logbook/vessel_management_system/generator/FleetGenerator.java
+package com.logbook.vessel_management_system.generator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic model of a realistic merchant fleet for benchmarking.
+ *
+ * Every row is a pure function of (seed, index): each ship and owner gets its own random
+ * stream derived from both, so any partition of the index range can be generated on any
+ * thread and the result is identical between runs with the same seed.
+ *
+ * - Owners follow a Zipf distribution, so a few lines own thousands of vessels and most
+ *   own a handful.
+ * - About 10% of ships are co-owned by two or three owners.
+ * - Ship types follow a world-fleet-like mix, each with a log-normal gross tonnage
+ *   around a type-specific median.
+ * - IMO numbers are unique and carry valid check digits (see {@link ImoNumbers}).
+ */
+
+public class FleetGenerator {
+
+    /**
+     * Ship types with their share of the fleet, median gross tonnage and log-normal spread.
+     */
+
+    enum ShipTypeProfile {
+        BULK_CARRIER("Bulk Carrier", 22, 32_000, 0.6),
+        GENERAL_CARGO("General Cargo", 17, 3_500, 0.9),
+        CONTAINER_SHIP("Container Ship", 12, 40_000, 0.8),
+        CRUDE_OIL_TANKER("Crude Oil Tanker", 9, 60_000, 0.7),
+        CHEMICAL_TANKER("Chemical Tanker", 10, 8_000, 0.8),
+        FISHING_VESSEL("Fishing Vessel", 8, 600, 0.9),
+        OFFSHORE_SUPPLY("Offshore Supply", 6, 2_500, 0.6),
+        PASSENGER_FERRY("Passenger Ferry", 5, 12_000, 1.0),
+        LNG_CARRIER("LNG Carrier", 3, 100_000, 0.3),
+        LPG_CARRIER("LPG Carrier", 3, 20_000, 0.8),
+        RO_RO("Ro-Ro", 3, 25_000, 0.6),
+        CRUISE("Cruise", 2, 90_000, 0.6);
+
+        final String label;
+        final int weight;
+        final double medianTonnage;
+        final double sigma;
+
+        ShipTypeProfile(String label, int weight, double medianTonnage, double sigma) {
+            this.label = label;
+            this.weight = weight;
+            this.medianTonnage = medianTonnage;
+            this.sigma = sigma;
+        }
+    }
+
+    private static final String[] NAME_PREFIXES = {"MV", "MT", "MS", "SS", "LNG", "MSC", "CMA CGM", "Maersk", "Ever", "Nordic"};
+    private static final String[] NAME_WORDS = {"Aurora", "Pacific", "Atlantic", "Horizon", "Star", "Spirit", "Pioneer", "Fortune",
+            "Harmony", "Voyager", "Endeavour", "Liberty", "Trident", "Orion", "Vega", "Coral", "Summit", "Glory", "Breeze", "Meridian"};
+    private static final String[] OWNER_WORDS = {"Oceanic", "Blue", "Northern", "Global", "Eastern", "Golden", "Royal", "United",
+            "Pacific", "Baltic", "Hellenic", "Nordic", "Southern", "Coastal", "Continental", "Imperial"};
+    private static final String[] OWNER_SUFFIXES = {"Shipping", "Lines", "Maritime", "Tankers", "Bulk", "Navigation", "Marine", "Carriers"};
+
+    private static final long IMO_STRIDE = 7_919; // prime, coprime with 900000, spreads consecutive indexes
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    private final long seed;
+    private final int shipCount;
+    private final int ownerCount;
+    private final long imoOffset;
+    private final double[] ownerCumulative;
+    private final ShipTypeProfile[] typeWheel;
+
+    public FleetGenerator(long seed, int shipCount, int ownerCount) {
+        if (shipCount < 0 || ownerCount < 1) {
+            throw new IllegalArgumentException("A fleet needs at least one owner and a non-negative number of ships.");
+        }
+        this.seed = seed;
+        this.shipCount = shipCount;
+        this.ownerCount = ownerCount;
+        this.imoOffset = Math.floorMod(mix(seed, -1), ImoNumbers.CAPACITY);
+        this.ownerCumulative = zipfCumulative(ownerCount);
+        this.typeWheel = typeWheel();
+    }
+
+    public int getShipCount() {
+        return shipCount;
+    }
+
+    public int getOwnerCount() {
+        return ownerCount;
+    }
+
+    public String ownerName(int ownerIndex) {
+        SplittableRandom random = new SplittableRandom(mix(seed, -2 - ownerIndex));
+        return OWNER_WORDS[random.nextInt(OWNER_WORDS.length)] + " "
+                + OWNER_WORDS[random.nextInt(OWNER_WORDS.length)] + " "
+                + OWNER_SUFFIXES[random.nextInt(OWNER_SUFFIXES.length)] + " " + (ownerIndex + 1);
+    }
+
+    public GeneratedShip ship(int shipIndex) {
+        SplittableRandom random = new SplittableRandom(mix(seed, shipIndex));
+
+        String name = NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)] + " "
+                + NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " "
+                + NAME_WORDS[random.nextInt(NAME_WORDS.length)];
+
+        ShipTypeProfile type = typeWheel[random.nextInt(typeWheel.length)];
+        double gaussian = gaussian(random);
+        int tonnage = (int) Math.max(100, Math.min(250_000, Math.round(type.medianTonnage * Math.exp(type.sigma * gaussian))));
+
+        double coOwnership = random.nextDouble();
+        int owners = coOwnership < 0.02 ? 3 : coOwnership < 0.10 ? 2 : 1;
+        int[] ownerIndexes = new int[owners];
+        int filled = 0;
+        while (filled < owners) {
+            int candidate = sampleOwner(random);
+            boolean duplicate = false;
+            for (int i = 0; i < filled; i++) {
+                duplicate |= ownerIndexes[i] == candidate;
+            }
+            if (!duplicate) {
+                ownerIndexes[filled++] = candidate;
+            } else if (ownerCount < owners) {
+                break;
+            }
+        }
+
+        return new GeneratedShip(name, imoNumber(shipIndex), type.label, tonnage, Arrays.copyOf(ownerIndexes, filled));
+    }
+
+    /**
+     * Unique IMO number per index: a bijection from the index onto the 900,000 valid
+     * bases, extended with a leading block number for fleets larger than that.
+     */
+
+    String imoNumber(int shipIndex) {
+        long block = shipIndex / ImoNumbers.CAPACITY;
+        long base = 100_000 + Math.floorMod(imoOffset + (shipIndex % ImoNumbers.CAPACITY) * IMO_STRIDE, (long) ImoNumbers.CAPACITY);
+        return ImoNumbers.withCheckDigit(block == 0 ? base : block * 1_000_000 + base);
+    }
+
+    private int sampleOwner(SplittableRandom random) {
+        int index = Arrays.binarySearch(ownerCumulative, random.nextDouble());
+        int owner = index >= 0 ? index : -index - 1;
+        // Scatter ranks over ids so that the largest lines are not simply the first owners inserted
+        return (int) Math.floorMod(owner * 104_729L + seed, (long) ownerCount);
+    }
+
+    private static double[] zipfCumulative(int ownerCount) {
+        double[] cumulative = new double[ownerCount];
+        double total = 0;
+        for (int rank = 0; rank < ownerCount; rank++) {
+            total += 1.0 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < ownerCount; rank++) {
+            cumulative[rank] /= total;
+        }
+        cumulative[ownerCount - 1] = 1.0;
+        return cumulative;
+    }
+
+    private static ShipTypeProfile[] typeWheel() {
+        int total = Arrays.stream(ShipTypeProfile.values()).mapToInt(type -> type.weight).sum();
+        ShipTypeProfile[] wheel = new ShipTypeProfile[total];
+        int index = 0;
+        for (ShipTypeProfile type : ShipTypeProfile.values()) {
+            for (int i = 0; i < type.weight; i++) {
+                wheel[index++] = type;
+            }
+        }
+        return wheel;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller; SplittableRandom has no nextGaussian on Java 17
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+
+    private static long mix(long seed, long index) {
+        long z = seed * 0x9E3779B97F4A7C15L + index;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * One generated ship; owner indexes are zero-based positions in the owner range.
+     */
+
+    public record GeneratedShip(String shipName, String imoNumber, String shipType, int shipTonnage, int[] ownerIndexes) {
+    }
+}
@@ -0,0 +1,71 @@
+// src/main/java/com/logbook/vessel_management_system/generator/FleetGeneratorRunner.java
+package com.logbook.vessel_management_system.generator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Loads a synthetic fleet at startup when vms.generator.enabled=true, e.g.
+ *
+ * ./gradlew bootRun --args='--vms.generator.enabled=true --vms.generator.ships=2000000
+ *     --vms.generator.owners=20000 --vms.generator.seed=42 --spring.main.web-application-type=none'
+ *
+ * The same seed always produces the same fleet, so benchmark runs on different
+ * machines or branches measure against identical data.
+ */
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "vms.generator", name = "enabled", havingValue = "true")
+public class FleetGeneratorRunner implements ApplicationRunner {
+
+    private final DataSource dataSource;
+    private final ConfigurableApplicationContext applicationContext;
+    private final int ships;
+    private final int owners;
+    private final long seed;
+    private final int threads;
+    private final int batchSize;
+    private final boolean exitOnCompletion;
+
+    public FleetGeneratorRunner(DataSource dataSource,
+                                ConfigurableApplicationContext applicationContext,
+                                @Value("${vms.generator.ships:1000000}") int ships,
+                                @Value("${vms.generator.owners:20000}") int owners,
+                                @Value("${vms.generator.seed:42}") long seed,
+                                @Value("${vms.generator.threads:0}") int threads,
+                                @Value("${vms.generator.batch-size:5000}") int batchSize,
+                                @Value("${vms.generator.exit-on-completion:true}") boolean exitOnCompletion) {
+        this.dataSource = dataSource;
+        this.applicationContext = applicationContext;
+        this.ships = ships;
+        this.owners = owners;
+        this.seed = seed;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.batchSize = batchSize;
+        this.exitOnCompletion = exitOnCompletion;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Generating {} ships and {} owners (seed {}, {} threads)", ships, owners, seed, threads);
+        long start = System.nanoTime();
+
+        new FleetWriter(dataSource, threads, batchSize).write(new FleetGenerator(seed, ships, owners));
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("Fleet loaded in {} s ({} ships/s)", String.format("%.1f", seconds), Math.round(ships / Math.max(seconds, 1e-3)));
+
+        if (exitOnCompletion) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,388 @@
+// src/main/java/com/logbook/vessel_management_system/generator/FleetWriter.java
+package com.logbook.vessel_management_system.generator;
+
+import com.logbook.vessel_management_system.repository.RevisionSequence;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Bulk loader for a {@link FleetGenerator} fleet.
+ *
+ * The id ranges are split into partitions written in parallel, each on its own
+ * connection and in its own transaction. On PostgreSQL every partition is streamed
+ * with COPY FROM STDIN; other databases (H2 in tests and load runs) use batched
+ * inserts. Ids are assigned explicitly (owners 1..owners, ships 1..ships), so the
+ * identity sequences are moved past them once loading completes.
+ *
+ * Every owner, ship and ownership link is stamped with one revision drawn from the
+ * revision clock, so delta sync clients and snapshot replays pick the load up like any
+ * other write. The clock row stays locked on a connection of its own until every
+ * partition has finished, which keeps the safe watermark below the load while it is
+ * only partly committed (service-layer writes wait meanwhile). The tables may have been
+ * emptied without tombstones, so the load also gives the database a new id (see
+ * {@link RevisionSequence#databaseId()}).
+ *
+ * The target tables must be empty: generated names and IMO numbers are only unique
+ * within one fleet.
+ */
+
+@Slf4j
+public class FleetWriter {
+
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+
+    private final DataSource dataSource;
+    private final int threads;
+    private final int batchSize;
+
+    public FleetWriter(DataSource dataSource, int threads, int batchSize) {
+        this.dataSource = dataSource;
+        this.threads = Math.max(1, threads);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public void write(FleetGenerator generator) {
+        boolean postgres;
+        Map<String, Short> shipTypeIds;
+        try (Connection connection = dataSource.getConnection()) {
+            postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+            requireEmpty(connection);
+            shipTypeIds = registerShipTypes(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not inspect the target database", e);
+        }
+
+        try (Connection clock = dataSource.getConnection()) {
+            clock.setAutoCommit(false);
+            long revision = drawRevision(clock);
+            try {
+                load(generator, postgres, shipTypeIds, revision);
+            } finally {
+                // Committed partitions hold rows at this revision even when another one failed
+                renewDatabaseId(clock);
+                clock.commit();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not draw the load's revision or renew the database id", e);
+        }
+    }
+
+    private void load(FleetGenerator generator, boolean postgres, Map<String, Short> shipTypeIds, long revision) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // Owners first: ship partitions reference them from the link table
+            runPartitions(executor, generator.getOwnerCount(), (connection, from, to) -> {
+                if (postgres) {
+                    copyOwners(connection, generator, revision, from, to);
+                } else {
+                    insertOwners(connection, generator, revision, from, to);
+                }
+            });
+            runPartitions(executor, generator.getShipCount(), (connection, from, to) -> {
+                if (postgres) {
+                    copyShips(connection, generator, shipTypeIds, revision, from, to);
+                } else {
+                    insertShips(connection, generator, shipTypeIds, revision, from, to);
+                }
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Not on the clock connection: H2 commits the open transaction on DDL
+        try (Connection connection = dataSource.getConnection()) {
+            resetIdentity(connection, postgres, "Owner_Table", "Owner_Id", generator.getOwnerCount());
+            resetIdentity(connection, postgres, "Ships_Table", "Id", generator.getShipCount());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not advance identity sequences after the load", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface PartitionTask {
+        void write(Connection connection, int from, int to) throws Exception;
+    }
+
+    private void runPartitions(ExecutorService executor, int count, PartitionTask task) {
+        int partitions = Math.max(1, Math.min(threads * 4, count / batchSize));
+        int size = (count + partitions - 1) / partitions;
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < count; from += size) {
+            int start = from;
+            int end = Math.min(count, from + size);
+            futures.add(executor.submit(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.setAutoCommit(false);
+                    try {
+                        task.write(connection, start, end);
+                        connection.commit();
+                    } catch (Exception e) {
+                        connection.rollback();
+                        throw e;
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Fleet load interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Fleet load failed", e.getCause());
+            }
+        }
+    }
+
+    // --- PostgreSQL: COPY ---
+
+    private void copyOwners(Connection connection, FleetGenerator generator, long revision, int from, int to) throws SQLException {
+        try (CopyWriter copy = new CopyWriter(connection, "COPY Owner_Table (Owner_Id, Owner_name, Revision) FROM STDIN WITH (FORMAT csv)")) {
+            for (int i = from; i < to; i++) {
+                copy.row((long) i + 1, generator.ownerName(i), revision);
+            }
+        }
+    }
+
+    private void copyShips(Connection connection, FleetGenerator generator, Map<String, Short> shipTypeIds, long revision,
+                           int from, int to) throws SQLException {
+        List<FleetGenerator.GeneratedShip> ships = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            ships.add(generator.ship(i));
+        }
+        try (CopyWriter copy = new CopyWriter(connection, "COPY Ships_Table (Id, Ship_name, Imo_number, Revision) FROM STDIN WITH (FORMAT csv)")) {
+            for (int i = from; i < to; i++) {
+                FleetGenerator.GeneratedShip ship = ships.get(i - from);
+                copy.row((long) i + 1, ship.shipName(), ship.imoNumber(), revision);
+            }
+        }
+        try (CopyWriter copy = new CopyWriter(connection, "COPY Category_Table (Ship_id, Ship_type_id, Ship_tonnage) FROM STDIN WITH (FORMAT csv)")) {
+            for (int i = from; i < to; i++) {
+                FleetGenerator.GeneratedShip ship = ships.get(i - from);
+                copy.row((long) i + 1, shipTypeIds.get(ship.shipType()), ship.shipTonnage());
+            }
+        }
+        try (CopyWriter copy = new CopyWriter(connection, "COPY Ship_Ownership_Link_Table (Ship_Id_FK, Owner_Id_FK, Revision) FROM STDIN WITH (FORMAT csv)")) {
+            for (int i = from; i < to; i++) {
+                for (int owner : ships.get(i - from).ownerIndexes()) {
+                    copy.row((long) i + 1, (long) owner + 1, revision);
+                }
+            }
+        }
+    }
+
+    /**
+     * Streams CSV rows into a COPY operation through a fixed-size buffer.
+     */
+
+    private static final class CopyWriter implements AutoCloseable {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+
+        CopyWriter(Connection connection, String sql) throws SQLException {
+            this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                appendCsv(values[i]);
+            }
+            buffer.append('\n');
+            if (buffer.length() >= COPY_BUFFER_SIZE) {
+                flush();
+            }
+        }
+
+        private void appendCsv(Object value) {
+            if (value instanceof String text) {
+                buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else {
+                buffer.append(value);
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (buffer.length() > 0) {
+                    flush();
+                }
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        }
+    }
+
+    // --- Other databases: batched inserts ---
+
+    private void insertOwners(Connection connection, FleetGenerator generator, long revision, int from, int to) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO Owner_Table (Owner_Id, Owner_name, Revision) VALUES (?, ?, ?)")) {
+            for (int i = from; i < to; i++) {
+                insert.setLong(1, (long) i + 1);
+                insert.setString(2, generator.ownerName(i));
+                insert.setLong(3, revision);
+                addBatch(insert, i - from + 1);
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void insertShips(Connection connection, FleetGenerator generator, Map<String, Short> shipTypeIds, long revision,
+                             int from, int to) throws SQLException {
+        try (PreparedStatement ships = connection.prepareStatement("INSERT INTO Ships_Table (Id, Ship_name, Imo_number, Revision) VALUES (?, ?, ?, ?)");
+             PreparedStatement categories = connection.prepareStatement("INSERT INTO Category_Table (Ship_id, Ship_type_id, Ship_tonnage) VALUES (?, ?, ?)");
+             PreparedStatement links = connection.prepareStatement("INSERT INTO Ship_Ownership_Link_Table (Ship_Id_FK, Owner_Id_FK, Revision) VALUES (?, ?, ?)")) {
+            for (int i = from; i < to; i++) {
+                FleetGenerator.GeneratedShip ship = generator.ship(i);
+                long shipId = (long) i + 1;
+                ships.setLong(1, shipId);
+                ships.setString(2, ship.shipName());
+                ships.setString(3, ship.imoNumber());
+                ships.setLong(4, revision);
+                ships.addBatch();
+                categories.setLong(1, shipId);
+                categories.setShort(2, shipTypeIds.get(ship.shipType()));
+                categories.setInt(3, ship.shipTonnage());
+                categories.addBatch();
+                for (int owner : ship.ownerIndexes()) {
+                    links.setLong(1, shipId);
+                    links.setLong(2, (long) owner + 1);
+                    links.setLong(3, revision);
+                    links.addBatch();
+                }
+                if ((i - from + 1) % batchSize == 0) {
+                    // Parents before children, so foreign keys hold at every flush
+                    ships.executeBatch();
+                    categories.executeBatch();
+                    links.executeBatch();
+                }
+            }
+            ships.executeBatch();
+            categories.executeBatch();
+            links.executeBatch();
+        }
+    }
+
+    private void addBatch(PreparedStatement statement, int rows) throws SQLException {
+        statement.addBatch();
+        if (rows % batchSize == 0) {
+            statement.executeBatch();
+        }
+    }
+
+    // --- Bookkeeping ---
+
+    private static void requireEmpty(Connection connection) throws SQLException {
+        for (String table : new String[]{"Owner_Table", "Ships_Table"}) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+                rows.next();
+                if (rows.getLong(1) > 0) {
+                    throw new IllegalStateException(table + " is not empty; the generator only loads into an empty fleet.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Ship type dictionary ids for every generated type, adding the types the database
+     * does not have yet.
+     */
+
+    private static Map<String, Short> registerShipTypes(Connection connection) throws SQLException {
+        Map<String, Short> ids = new HashMap<>();
+        try (PreparedStatement select = connection.prepareStatement("SELECT Type_id FROM Ship_Type_Table WHERE Type_name = ?");
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO Ship_Type_Table (Type_name) VALUES (?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (FleetGenerator.ShipTypeProfile type : FleetGenerator.ShipTypeProfile.values()) {
+                select.setString(1, type.label);
+                try (ResultSet rows = select.executeQuery()) {
+                    if (rows.next()) {
+                        ids.put(type.label, rows.getShort(1));
+                        continue;
+                    }
+                }
+                insert.setString(1, type.label);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    ids.put(type.label, keys.getShort(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void resetIdentity(Connection connection, boolean postgres, String table, String idColumn, long lastId) throws SQLException {
+        if (lastId == 0) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            if (postgres) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table.toLowerCase() + "', '" + idColumn.toLowerCase() + "'), " + lastId + ")");
+            } else {
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN " + idColumn + " RESTART WITH " + (lastId + 1));
+            }
+        }
+        log.debug("Advanced {}.{} identity past {}", table, idColumn, lastId);
+    }
+
+    /**
+     * Advances the revision clock on the given connection and returns the new value. The
+     * clock row stays locked until that connection commits.
+     */
+
+    private static long drawRevision(Connection clock) throws SQLException {
+        try (Statement statement = clock.createStatement()) {
+            if (statement.executeUpdate("UPDATE " + RevisionSequence.CLOCK_TABLE + " SET Revision = Revision + 1 WHERE Id = 1") != 1) {
+                throw new IllegalStateException(RevisionSequence.CLOCK_TABLE + " must hold exactly one row");
+            }
+            try (ResultSet rows = statement.executeQuery("SELECT Revision FROM " + RevisionSequence.CLOCK_TABLE + " WHERE Id = 1")) {
+                rows.next();
+                return rows.getLong(1);
+            }
+        }
+    }
+
+    private static void renewDatabaseId(Connection connection) throws SQLException {
+        UUID databaseId = UUID.randomUUID();
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE " + RevisionSequence.CLOCK_TABLE + " SET Database_id = ? WHERE Id = 1")) {
+            update.setString(1, databaseId.toString());
+            update.executeUpdate();
+        }
+        log.debug("Renewed the database id to {}", databaseId);
+    }
+}
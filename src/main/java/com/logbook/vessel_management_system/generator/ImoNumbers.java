@@ -0,0 +1,49 @@
+// src/main/java/com/logbook/vessel_management_system/generator/ImoNumbers.java
+package com.logbook.vessel_management_system.generator;
+
+/**
+ * IMO ship identification numbers: six digits followed by a check digit equal to the
+ * last digit of the weighted sum of the first six (weights 7, 6, 5, 4, 3, 2).
+ * Example: 9744001 -> 9*7 + 7*6 + 4*5 + 4*4 + 0*3 + 0*2 = 141, check digit 1.
+ */
+
+public final class ImoNumbers {
+
+    /** Number of distinct valid seven-digit IMO numbers (bases 100000..999999). */
+    public static final int CAPACITY = 900_000;
+
+    private ImoNumbers() {
+    }
+
+    public static int checkDigit(long base) {
+        long sum = 0;
+        int weight = 2;
+        for (long rest = base; rest > 0; rest /= 10) {
+            sum += (rest % 10) * weight++;
+        }
+        return (int) (sum % 10);
+    }
+
+    /**
+     * Appends the check digit to a base number. Six-digit bases give real IMO numbers;
+     * longer bases apply the same weighting scheme (weights growing from 2 at the right)
+     * and are only used for synthetic fleets larger than {@link #CAPACITY}.
+     */
+
+    public static String withCheckDigit(long base) {
+        return Long.toString(base) + checkDigit(base);
+    }
+
+    public static boolean isValid(String imoNumber) {
+        if (imoNumber == null || imoNumber.length() != 7) {
+            return false;
+        }
+        for (int i = 0; i < 7; i++) {
+            if (!Character.isDigit(imoNumber.charAt(i))) {
+                return false;
+            }
+        }
+        long base = Long.parseLong(imoNumber.substring(0, 6));
+        return base >= 100_000 && checkDigit(base) == imoNumber.charAt(6) - '0';
+    }
+}
@@ -0,0 +1,60 @@
+// src/main/java/com/logbook/vessel_management_system/outbox/FileOutboxSink.java
+package com.logbook.vessel_management_system.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.logbook.vessel_management_system.entity.OutboxMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Strategy Pattern: Appends each batch to a local newline-delimited JSON file and
+ * forces it to disk before the batch is acknowledged. Stands in for a message broker.
+ */
+
+@Component
+@ConditionalOnProperty(prefix = "vms.outbox", name = "sink", havingValue = "file", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(@Value("${vms.outbox.file.path:outbox/fleet-changes.ndjson}") String path,
+                          ObjectMapper objectMapper) {
+        this.file = Path.of(path);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> batch) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+            for (OutboxMessage message : batch) {
+                ObjectNode line = objectMapper.createObjectNode();
+                line.put("id", message.getId());
+                line.put("eventType", message.getEventType());
+                line.put("createdAt", message.getCreatedAt().toString());
+                line.set("event", objectMapper.readTree(message.getPayload()));
+                writer.write(objectMapper.writeValueAsString(line));
+                writer.write('\n');
+            }
+            writer.flush();
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+// src/main/java/com/logbook/vessel_management_system/outbox/HttpOutboxSink.java
+package com.logbook.vessel_management_system.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.logbook.vessel_management_system.entity.OutboxMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Strategy Pattern: Posts each batch as one JSON array to a downstream HTTP endpoint.
+ * Any non-2xx response fails the batch so that it is retried.
+ *
+ * Connecting and each wait for response bytes are bounded by vms.outbox.http.*-timeout-ms,
+ * so an unresponsive endpoint fails the batch instead of stalling the relay. Keep their
+ * sum well below vms.outbox.relay.claim-timeout-ms, or another relay may deliver the
+ * batch again while this one is still waiting.
+ */
+
+@Component
+@ConditionalOnProperty(prefix = "vms.outbox", name = "sink", havingValue = "http")
+public class HttpOutboxSink implements OutboxSink {
+
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+
+    public HttpOutboxSink(@Value("${vms.outbox.http.url}") String url,
+                          @Value("${vms.outbox.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+                          @Value("${vms.outbox.http.read-timeout-ms:10000}") long readTimeoutMs,
+                          RestClient.Builder restClientBuilder,
+                          ObjectMapper objectMapper) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeoutMs));
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        this.restClient = restClientBuilder.baseUrl(url).requestFactory(requestFactory).build();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> batch) throws IOException {
+        ArrayNode body = objectMapper.createArrayNode();
+        for (OutboxMessage message : batch) {
+            ObjectNode item = body.addObject();
+            item.put("id", message.getId());
+            item.put("eventType", message.getEventType());
+            item.put("createdAt", message.getCreatedAt().toString());
+            item.set("event", objectMapper.readTree(message.getPayload()));
+        }
+        try {
+            restClient.post()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body)
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (RestClientException e) {
+            throw new IOException("Outbox delivery failed: " + e.getMessage(), e);
+        }
+    }
+}
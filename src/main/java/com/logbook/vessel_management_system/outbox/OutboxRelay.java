@@ -0,0 +1,162 @@
+// src/main/java/com/logbook/vessel_management_system/outbox/OutboxRelay.java
+package com.logbook.vessel_management_system.outbox;
+
+import com.logbook.vessel_management_system.entity.OutboxMessage;
+import com.logbook.vessel_management_system.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background relay draining the transactional outbox.
+ *
+ * Each poll repeatedly claims a batch of the oldest unclaimed messages, hands it to
+ * the configured {@link OutboxSink} and deletes it. The claim is taken in a short
+ * transaction of its own (SKIP LOCKED keeps concurrent relays on disjoint batches) and
+ * committed before the sink is called, so a slow sink holds neither row locks nor a
+ * connection. A claim lasts vms.outbox.relay.claim-timeout-ms, which must exceed the
+ * sink's own delivery bound; a batch that fails is released for the next poll, and one
+ * whose relay died is claimable again once its claim has expired. Polling continues
+ * while batches come back full, so a backlog is drained at full speed while an idle
+ * outbox costs one indexed query per interval.
+ *
+ * Exposes vms.outbox.delivered / vms.outbox.batches / vms.outbox.failures counters,
+ * a vms.outbox.delivery timer per batch and a vms.outbox.lag gauge holding the
+ * age of the oldest undelivered message in seconds.
+ */
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "vms.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration claimTimeout;
+
+    private final Counter deliveredCounter;
+    private final Counter batchCounter;
+    private final Counter failureCounter;
+    private final Timer deliveryTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       OutboxSink sink,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${vms.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${vms.outbox.relay.max-batches-per-poll:20}") int maxBatchesPerPoll,
+                       @Value("${vms.outbox.relay.claim-timeout-ms:60000}") long claimTimeoutMs) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMs);
+
+        this.deliveredCounter = Counter.builder("vms.outbox.delivered")
+                .description("Outbox messages delivered to the sink")
+                .register(meterRegistry);
+        this.batchCounter = Counter.builder("vms.outbox.batches")
+                .description("Outbox batches delivered to the sink")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("vms.outbox.failures")
+                .description("Outbox batches that failed delivery and will be retried")
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("vms.outbox.delivery")
+                .description("Time to claim, deliver and remove one outbox batch")
+                .register(meterRegistry);
+        Gauge.builder("vms.outbox.lag", lagMillis, millis -> millis.get() / 1000.0)
+                .description("Age of the oldest undelivered outbox message")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${vms.outbox.relay.poll-interval-ms:500}")
+    public void poll() {
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                Timer.Sample sample = Timer.start();
+                int delivered = relayBatch();
+                sample.stop(deliveryTimer);
+                if (delivered < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("Outbox relay batch failed, will retry on next poll: {}", e.getMessage());
+        } finally {
+            updateLag();
+        }
+    }
+
+    private int relayBatch() {
+        Instant now = Instant.now();
+        List<OutboxMessage> batch = transactionTemplate.execute(status -> {
+            List<OutboxMessage> locked = outboxRepository.lockNextBatch(batchSize, now);
+            if (!locked.isEmpty()) {
+                outboxRepository.claim(idsOf(locked), now.plus(claimTimeout));
+            }
+            return locked;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = idsOf(batch);
+        try {
+            sink.deliver(batch);
+        } catch (IOException e) {
+            release(ids);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            release(ids);
+            throw e;
+        }
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteAllByIdInBatch(ids));
+        deliveredCounter.increment(batch.size());
+        batchCounter.increment();
+        return batch.size();
+    }
+
+    private void release(Collection<Long> ids) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.release(ids));
+        } catch (RuntimeException e) {
+            log.debug("Could not release failed outbox batch, it is retried once its claim expires", e);
+        }
+    }
+
+    private static List<Long> idsOf(List<OutboxMessage> batch) {
+        return batch.stream().map(OutboxMessage::getId).toList();
+    }
+
+    private void updateLag() {
+        try {
+            lagMillis.set(outboxRepository.findOldestCreatedAt()
+                    .map(oldest -> Duration.between(oldest, Instant.now()).toMillis())
+                    .orElse(0L));
+        } catch (RuntimeException e) {
+            log.debug("Could not determine outbox lag", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+// src/main/java/com/logbook/vessel_management_system/outbox/OutboxSink.java
+package com.logbook.vessel_management_system.outbox;
+
+import com.logbook.vessel_management_system.entity.OutboxMessage;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Strategy Pattern: Destination for relayed outbox messages. Implementations receive
+ * whole batches in outbox order and must either accept the entire batch or throw, in
+ * which case the batch stays in the outbox and is retried (at-least-once delivery).
+ */
+
+public interface OutboxSink {
+    void deliver(List<OutboxMessage> batch) throws IOException;
+}
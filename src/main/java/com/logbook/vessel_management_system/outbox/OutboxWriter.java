@@ -0,0 +1,36 @@
+// src/main/java/com/logbook/vessel_management_system/outbox/OutboxWriter.java
+package com.logbook.vessel_management_system.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbook.vessel_management_system.entity.OutboxMessage;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import com.logbook.vessel_management_system.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Observer Pattern: Turns every fleet change into an outbox row inside the transaction
+ * that made the change. Running just before commit keeps the write path free of any
+ * downstream I/O; the relay delivers the rows later. A failure here rolls the business
+ * change back too, so nothing is committed without its outbox entry.
+ */
+
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onFleetChange(FleetChangeEvent event) throws JsonProcessingException {
+        outboxRepository.save(new OutboxMessage(
+                event.getEntityType().name(),
+                event.getEntityId(),
+                event.getEventName(),
+                objectMapper.writeValueAsString(event)));
+    }
+}
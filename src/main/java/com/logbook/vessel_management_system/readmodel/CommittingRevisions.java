@@ -0,0 +1,48 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/CommittingRevisions.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Revisions of the transactions that have started to commit but whose AFTER_COMMIT
+ * listeners have not all run yet.
+ *
+ * Revisions are drawn and committed in one order (see RevisionSequence), and a
+ * transaction's FleetChangeEvents reach the in-memory models during its AFTER_COMMIT
+ * phase, which completes before its AFTER_COMPLETION phase. So once a revision r is
+ * committed, every change at or below r has either been delivered or is still listed
+ * here; a model uses {@link #oldest()} to tell which older changes can still arrive.
+ */
+
+@Component
+public class CommittingRevisions {
+
+    // Revision -> events of that transaction still being delivered
+    private final ConcurrentSkipListMap<Long, Integer> committing = new ConcurrentSkipListMap<>();
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCommitting(FleetChangeEvent event) {
+        committing.merge(event.getRevision(), 1, Integer::sum);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onCompleted(FleetChangeEvent event) {
+        // Also runs after a rollback that came before BEFORE_COMMIT, with nothing to remove
+        committing.computeIfPresent(event.getRevision(), (revision, events) -> events > 1 ? events - 1 : null);
+    }
+
+    /**
+     * Lowest revision still being delivered, or Long.MAX_VALUE when there is none.
+     */
+
+    public long oldest() {
+        Map.Entry<Long, Integer> oldest = committing.firstEntry();
+        return oldest != null ? oldest.getKey() : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,284 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/FleetSnapshotFile.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.dto.LongIdSet;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Versioned binary snapshot of the ship read model (ships, category details and
+ * ownership links), so a restarting node restores its in-memory models from a local
+ * file plus a short replay instead of reading the whole fleet from the database.
+ *
+ * Memento Pattern: Every vms.snapshot-file.interval-ms the current read model generation
+ * is written with the revision it reflects in full and the id of the database it came
+ * from (see RevisionSequence#databaseId). On startup the file is memory-mapped and
+ * checked (magic, format version, length, database id, revision not ahead of the
+ * database, CRC32C of the body). The ships are then handed over, and the ships changed
+ * or deleted since the snapshot's revision are replayed through the {@link RevisionFeed}. A
+ * missing, stale-format, corrupt or foreign file makes the caller fall back to a full
+ * load.
+ *
+ * <pre>
+ * header: int magic "VMSS" | int version | long revision | int ships | int crc32c | long bodyLength
+ *         | long databaseIdHigh | long databaseIdLow
+ * body:   int types, types as strings
+ *         per ship: long id | int typeCode | int tonnage | string name | string imo | int owners | long ownerId...
+ * string: int byteLength (-1 for null) | UTF-8 bytes
+ * </pre>
+ */
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "vms.snapshot-file", name = "enabled", havingValue = "true")
+public class FleetSnapshotFile {
+
+    static final int MAGIC = 0x564D5353;
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 48;
+
+    private final TombstoneRepository tombstoneRepository;
+    private final RevisionFeed revisionFeed;
+    private final ObjectProvider<ShipReadModel> shipReadModel;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path path;
+    private final Timer writeTimer;
+
+    public FleetSnapshotFile(TombstoneRepository tombstoneRepository,
+                             RevisionFeed revisionFeed,
+                             ObjectProvider<ShipReadModel> shipReadModel,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${vms.snapshot-file.path:snapshot/fleet.snapshot}") String path) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.revisionFeed = revisionFeed;
+        this.shipReadModel = shipReadModel;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.path = Path.of(path);
+        this.writeTimer = Timer.builder("vms.snapshot-file.write")
+                .description("Time to write the fleet snapshot file")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${vms.snapshot-file.interval-ms:300000}",
+               initialDelayString = "${vms.snapshot-file.interval-ms:300000}")
+    public void writeScheduled() {
+        ShipReadModel model = shipReadModel.getIfAvailable();
+        if (model == null || !model.isLoaded()) {
+            log.debug("Ship read model not loaded; skipping the fleet snapshot");
+            return;
+        }
+        try {
+            write(model);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write the fleet snapshot to {}", path, e);
+        }
+    }
+
+    /**
+     * Writes the current read model generation at the revision it reflects in full.
+     * Changes above it that the generation already holds are replayed again on restore,
+     * which is harmless because replayed ships carry their current state.
+     */
+
+    public synchronized void write(ShipReadModel model) throws IOException {
+        UUID databaseId = readOnlyTransaction.execute(status -> tombstoneRepository.databaseId());
+        ShipReadModel.Watermarked generation = model.watermarkedIfLoaded();
+        write(generation.columns(), generation.revision(), databaseId);
+    }
+
+    synchronized void write(ShipColumns columns, long revision, UUID databaseId) throws IOException {
+        long start = System.nanoTime();
+        Path absolute = path.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+
+        CRC32C crc = new CRC32C();
+        long bodyLength;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_BYTES);
+            // Closing the stream would close the channel before the header is written
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), crc), 1 << 16));
+            out.writeInt(columns.types.length);
+            for (String type : columns.types) {
+                writeString(out, type);
+            }
+            for (int row = 0; row < columns.size; row++) {
+                out.writeLong(columns.ids[row]);
+                out.writeInt(columns.typeCodes[row]);
+                out.writeInt(columns.tonnages[row]);
+                writeString(out, columns.names[row]);
+                writeString(out, columns.imoNumbers[row]);
+                out.writeInt(columns.ownerStart[row + 1] - columns.ownerStart[row]);
+                for (int i = columns.ownerStart[row]; i < columns.ownerStart[row + 1]; i++) {
+                    out.writeLong(columns.ownerIds[i]);
+                }
+            }
+            out.flush();
+            bodyLength = channel.position() - HEADER_BYTES;
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putLong(revision)
+                    .putInt(columns.size)
+                    .putInt((int) crc.getValue())
+                    .putLong(bodyLength)
+                    .putLong(databaseId.getMostSignificantBits())
+                    .putLong(databaseId.getLeastSignificantBits())
+                    .flip();
+            channel.write(header, 0);
+            channel.force(true);
+        }
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        log.info("Wrote fleet snapshot of {} ships at revision {} ({} KB) in {} ms", columns.size, revision,
+                (bodyLength + HEADER_BYTES) / 1024, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Hands every ship in the snapshot to {@code ships}, in ascending id order, then the
+     * changes since the snapshot's revision to {@code changes}. Returns the snapshot's
+     * revision, or -1, having called neither, when there is no usable snapshot.
+     */
+
+    public long restore(Consumer<ShipDto> ships, Consumer<FleetChangeEvent> changes) {
+        if (!Files.isRegularFile(path)) {
+            return -1;
+        }
+        long start = System.nanoTime();
+        Clock database = readOnlyTransaction.execute(status ->
+                new Clock(tombstoneRepository.databaseId(), tombstoneRepository.safeRevision()));
+        long revision;
+        int shipCount;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                log.warn("Ignoring fleet snapshot {}: unexpected size {}", path, size);
+                return -1;
+            }
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int magic = map.getInt();
+            int version = map.getInt();
+            revision = map.getLong();
+            shipCount = map.getInt();
+            int crc = map.getInt();
+            long bodyLength = map.getLong();
+            UUID databaseId = new UUID(map.getLong(), map.getLong());
+            if (magic != MAGIC || version != VERSION || bodyLength != size - HEADER_BYTES) {
+                log.warn("Ignoring fleet snapshot {}: not a version {} snapshot", path, VERSION);
+                return -1;
+            }
+            if (!databaseId.equals(database.databaseId())) {
+                log.warn("Ignoring fleet snapshot {}: written from database {}, not {}", path, databaseId, database.databaseId());
+                return -1;
+            }
+            if (revision > database.safeRevision()) {
+                // Same history, but the database was restored to an earlier point
+                log.warn("Ignoring fleet snapshot {}: revision {} is ahead of the database at {}", path, revision,
+                        database.safeRevision());
+                return -1;
+            }
+            CRC32C actual = new CRC32C();
+            actual.update(map.slice(HEADER_BYTES, (int) bodyLength));
+            if ((int) actual.getValue() != crc) {
+                log.warn("Ignoring fleet snapshot {}: checksum mismatch", path);
+                return -1;
+            }
+            read(map.position(HEADER_BYTES), shipCount, ships);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable fleet snapshot {}", path, e);
+            return -1;
+        }
+
+        long[] replayed = {0};
+        revisionFeed.changesSince(revision, change -> {
+            changes.accept(change);
+            replayed[0]++;
+        });
+        log.info("Restored {} ships from the fleet snapshot at revision {} and replayed {} changes in {} ms",
+                shipCount, revision, replayed[0], TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return revision;
+    }
+
+    private record Clock(UUID databaseId, long safeRevision) {
+    }
+
+    private static void read(ByteBuffer body, int shipCount, Consumer<ShipDto> ships) {
+        String[] types = new String[body.getInt()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = readString(body);
+        }
+        for (int n = 0; n < shipCount; n++) {
+            ShipDto ship = new ShipDto();
+            ship.setId(body.getLong());
+            int typeCode = body.getInt();
+            ship.setShipType(typeCode != ShipColumns.NO_TYPE ? types[typeCode] : null);
+            int tonnage = body.getInt();
+            ship.setShipTonnage(tonnage != ShipColumns.NO_TONNAGE ? tonnage : null);
+            ship.setShipName(readString(body));
+            ship.setImoNumber(readString(body));
+            int owners = body.getInt();
+            LongIdSet.Builder ownerIds = LongIdSet.builder(owners);
+            for (int i = 0; i < owners; i++) {
+                ownerIds.add(body.getLong());
+            }
+            ship.setOwnerIds(ownerIds.build());
+            ships.accept(ship);
+        }
+        if (body.hasRemaining()) {
+            throw new IllegalStateException(body.remaining() + " unread bytes after the last ship");
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
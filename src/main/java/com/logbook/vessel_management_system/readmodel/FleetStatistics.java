@@ -0,0 +1,342 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/FleetStatistics.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.ShipField;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import com.logbook.vessel_management_system.repository.ShipRepository;
+import com.logbook.vessel_management_system.warmup.WarmupParticipant;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Approximate tonnage percentiles and histograms for the whole fleet, per ship type
+ * and per owner, each group held as a {@link TonnageSketch}.
+ *
+ * Built with one streamed read of type, tonnage and owner ids, then kept current from
+ * committed FleetChangeEvents: the pre-change ship the service layer attaches to
+ * updates and deletions is taken out of its groups and the post-change ship added.
+ * The service layer reads that before-image under a row lock on the ship, so two
+ * concurrent writes to one ship see each other's result and never remove the same
+ * state twice. Sketch updates commute, so listeners running out of commit order do
+ * no harm.
+ * Changes committed while a rebuild is reading may be counted twice or not at all;
+ * rebuild() reports how many sketches differed from the database, so drift can be
+ * checked and corrected on demand.
+ *
+ * Assumes a single instance: the before-image exists only in the instance that made
+ * the change, so unlike the read model it cannot follow the {@link RevisionFeed}, and
+ * another instance's writes would reach it only through rebuild(). Hence off unless
+ * vms.fleet-statistics.enabled=true.
+ */
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "vms.fleet-statistics", name = "enabled", havingValue = "true")
+public class FleetStatistics implements WarmupParticipant {
+
+    private final ShipRepository shipRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+    private final Timer rebuildTimer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Sketches sketches;
+
+    public FleetStatistics(ShipRepository shipRepository,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${vms.streaming.fetch-size:500}") int fetchSize) {
+        this.shipRepository = shipRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+
+        this.rebuildTimer = Timer.builder("vms.statistics.rebuild")
+                .description("Time to rebuild the tonnage sketches from the database")
+                .register(meterRegistry);
+        Gauge.builder("vms.statistics.sketches", this, FleetStatistics::sketchCount)
+                .description("Tonnage sketches held: fleet-wide, per ship type and per owner")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getWarmupName() {
+        return "tonnage statistics";
+    }
+
+    @Override
+    public void warmUp() {
+        rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!isLoaded()) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFleetChange(FleetChangeEvent event) {
+        // Owner deletions arrive as ship updates, which empty and drop the owner's sketch
+        if (event.getEntityType() != FleetChangeEvent.EntityType.SHIP) {
+            return;
+        }
+        if (event.getChangeType() != FleetChangeEvent.ChangeType.CREATED && event.getPreviousShip() == null) {
+            log.debug("Ship {} changed without a before-image; tonnage statistics may drift until the next rebuild",
+                    event.getEntityId());
+        }
+        lock.writeLock().lock();
+        try {
+            if (sketches != null) {
+                sketches.apply(event.getPreviousShip(), false);
+                sketches.apply(event.getShip(), true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return sketches != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Distribution of the fleet, of the ships of the given types or of the ships of the
+     * given owners; several types or owners are merged into one group (a ship owned by
+     * two of the owners counts twice).
+     */
+
+    public TonnageDistribution distribution(List<String> shipTypes, List<Long> ownerIds, double[] quantiles, int[] boundaries) {
+        boolean byType = shipTypes != null && !shipTypes.isEmpty();
+        boolean byOwner = ownerIds != null && !ownerIds.isEmpty();
+        if (byType && byOwner) {
+            throw new IllegalArgumentException("Filter by shipType or by ownerId, not both");
+        }
+        for (double q : quantiles) {
+            if (!(q >= 0 && q <= 1)) {
+                throw new IllegalArgumentException("quantiles must be between 0 and 1");
+            }
+        }
+        for (int i = 1; i < boundaries.length; i++) {
+            if (boundaries[i] <= boundaries[i - 1]) {
+                throw new IllegalArgumentException("boundaries must be strictly ascending");
+            }
+        }
+        if (!isLoaded()) {
+            // Queried before the startup load finished (or with warm-up disabled): load now
+            rebuild();
+        }
+
+        lock.readLock().lock();
+        try {
+            TonnageSketch group;
+            if (byType) {
+                group = merge(shipTypes, sketches.byType);
+            } else if (byOwner) {
+                group = merge(ownerIds, sketches.byOwner);
+            } else {
+                group = sketches.all;
+            }
+            return describe(group, quantiles, boundaries);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds every sketch from the database, swaps the result in, and reports how many
+     * of the incrementally maintained sketches it differed from.
+     */
+
+    public StatisticsRebuild rebuild() {
+        long start = System.nanoTime();
+        Sketches rebuilt = readOnlyTransaction.execute(status -> readAll());
+        int drifted;
+        lock.writeLock().lock();
+        try {
+            drifted = sketches != null ? sketches.differences(rebuilt) : 0;
+            sketches = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        long elapsed = System.nanoTime() - start;
+        rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        if (drifted > 0) {
+            log.warn("{} tonnage sketches differed from the database and were replaced", drifted);
+        }
+        log.info("Built {} tonnage sketches over {} ships in {} ms", rebuilt.size(), rebuilt.all.count(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return new StatisticsRebuild(rebuilt.all.count(), rebuilt.size(), drifted, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private static <K> TonnageSketch merge(List<K> keys, Map<K, TonnageSketch> groups) {
+        TonnageSketch merged = new TonnageSketch();
+        for (K key : new HashSet<>(keys)) {
+            TonnageSketch sketch = groups.get(key);
+            if (sketch != null) {
+                merged.merge(sketch);
+            }
+        }
+        return merged;
+    }
+
+    private static TonnageDistribution describe(TonnageSketch sketch, double[] quantiles, int[] boundaries) {
+        List<TonnageDistribution.Quantile> answers = new ArrayList<>(quantiles.length);
+        for (double q : quantiles) {
+            double tonnage = sketch.quantile(q);
+            answers.add(new TonnageDistribution.Quantile(q, Double.isNaN(tonnage) ? null : tonnage));
+        }
+        List<TonnageDistribution.Bin> histogram = new ArrayList<>();
+        if (boundaries.length > 0) {
+            long below = 0;
+            Integer from = null;
+            for (int boundary : boundaries) {
+                long upTo = sketch.countBelow(boundary);
+                histogram.add(new TonnageDistribution.Bin(from, boundary, upTo - below));
+                below = upTo;
+                from = boundary;
+            }
+            histogram.add(new TonnageDistribution.Bin(from, null, sketch.count() - below));
+        }
+        return new TonnageDistribution(sketch.count(), TonnageSketch.RELATIVE_ACCURACY, answers, histogram);
+    }
+
+    private double sketchCount() {
+        lock.readLock().lock();
+        try {
+            return sketches != null ? sketches.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Sketches readAll() {
+        Sketches loaded = new Sketches();
+        // Row layout: id, shipType, shipTonnage, ownerId (one row per owner)
+        try (Stream<Object[]> rows = shipRepository.streamProjected(
+                EnumSet.of(ShipField.SHIP_TYPE, ShipField.SHIP_TONNAGE, ShipField.OWNER_IDS), fetchSize)) {
+            Iterator<Object[]> iterator = rows.iterator();
+            Long currentId = null;
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                if (row[2] == null) {
+                    continue;
+                }
+                int tonnage = (Integer) row[2];
+                if (!row[0].equals(currentId)) {
+                    currentId = (Long) row[0];
+                    loaded.addShip((String) row[1], tonnage);
+                }
+                if (row[3] != null) {
+                    loaded.owner((Long) row[3]).add(tonnage);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * One generation of sketches; guarded by the enclosing lock.
+     */
+
+    private static final class Sketches {
+
+        final TonnageSketch all = new TonnageSketch();
+        final Map<String, TonnageSketch> byType = new HashMap<>();
+        final Map<Long, TonnageSketch> byOwner = new HashMap<>();
+
+        void addShip(String shipType, int tonnage) {
+            all.add(tonnage);
+            if (shipType != null) {
+                byType.computeIfAbsent(shipType, type -> new TonnageSketch()).add(tonnage);
+            }
+        }
+
+        TonnageSketch owner(long ownerId) {
+            return byOwner.computeIfAbsent(ownerId, id -> new TonnageSketch());
+        }
+
+        void apply(ShipDto ship, boolean add) {
+            if (ship == null || ship.getShipTonnage() == null) {
+                return;
+            }
+            int tonnage = ship.getShipTonnage();
+            update(all, tonnage, add);
+            if (ship.getShipType() != null) {
+                update(byType, ship.getShipType(), tonnage, add);
+            }
+            if (ship.getOwnerIds() != null) {
+                for (Long ownerId : ship.getOwnerIds()) {
+                    update(byOwner, ownerId, tonnage, add);
+                }
+            }
+        }
+
+        int size() {
+            return 1 + byType.size() + byOwner.size();
+        }
+
+        int differences(Sketches other) {
+            return (all.sameCounts(other.all) ? 0 : 1) + differences(byType, other.byType) + differences(byOwner, other.byOwner);
+        }
+
+        private static <K> int differences(Map<K, TonnageSketch> mine, Map<K, TonnageSketch> theirs) {
+            Set<K> keys = new HashSet<>(mine.keySet());
+            keys.addAll(theirs.keySet());
+            int differences = 0;
+            for (K key : keys) {
+                TonnageSketch a = mine.get(key);
+                TonnageSketch b = theirs.get(key);
+                if (a == null || b == null || !a.sameCounts(b)) {
+                    differences++;
+                }
+            }
+            return differences;
+        }
+
+        private static <K> void update(Map<K, TonnageSketch> groups, K key, int tonnage, boolean add) {
+            TonnageSketch sketch = groups.computeIfAbsent(key, k -> new TonnageSketch());
+            update(sketch, tonnage, add);
+            if (sketch.isEmpty()) {
+                groups.remove(key);
+            }
+        }
+
+        private static void update(TonnageSketch sketch, int tonnage, boolean add) {
+            if (add) {
+                sketch.add(tonnage);
+            } else {
+                sketch.remove(tonnage);
+            }
+        }
+    }
+}
@@ -0,0 +1,431 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/LargestShips.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.ShipField;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import com.logbook.vessel_management_system.repository.ShipRepository;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
+import com.logbook.vessel_management_system.warmup.WarmupParticipant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The largest ships of the fleet, of each ship type and of each owner, each group held
+ * as a bounded {@link TopShips} ranking of at most capacity ships.
+ *
+ * Built with one streamed read of type, tonnage and owner ids, then kept current from
+ * committed FleetChangeEvents: a changed ship is taken out of the groups of its
+ * pre-change state (attached by the service layer) and offered to those of its new
+ * state. A request for k ships is answered from memory when the group holds at least k
+ * ships or all of its ships, and otherwise by the tonnage index
+ * (ORDER BY Ship_tonnage DESC LIMIT k). Only ids and tonnages are held; the k ships are
+ * read by id for the response.
+ *
+ * Removing a top ship from a full group leaves it one short until the next rebuild, so
+ * a group answered from the database for k within the capacity schedules one.
+ * Changes committed while a rebuild is reading are queued and applied to its result.
+ *
+ * A change older than the state held for its ship is not applied (see
+ * {@link ShipRevisions}). The ship is still taken out of the groups of that change's
+ * before-image: the newer change that overtook it removed the ship from the groups of
+ * the older change's result, never from those it had before.
+ *
+ * Assumes a single instance, for the same reason as {@link FleetStatistics}: the
+ * before-images it relies on are never published outside the writing instance. Off
+ * unless vms.largest-ships.enabled=true.
+ */
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "vms.largest-ships", name = "enabled", havingValue = "true")
+public class LargestShips implements WarmupParticipant {
+
+    private final ShipRepository shipRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final CommittingRevisions committingRevisions;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int capacity;
+    private final int fetchSize;
+    private final Timer rebuildTimer;
+    private final Counter memoryAnswers;
+    private final Counter databaseAnswers;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Groups groups;
+    private List<FleetChangeEvent> pendingDuringRebuild;
+    private volatile boolean rebuildWanted;
+
+    public LargestShips(ShipRepository shipRepository,
+                        TombstoneRepository tombstoneRepository,
+                        CommittingRevisions committingRevisions,
+                        TransactionTemplate transactionTemplate,
+                        MeterRegistry meterRegistry,
+                        @Value("${vms.largest-ships.capacity:100}") int capacity,
+                        @Value("${vms.streaming.fetch-size:500}") int fetchSize) {
+        this.shipRepository = shipRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.committingRevisions = committingRevisions;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.capacity = capacity;
+        this.fetchSize = fetchSize;
+
+        this.rebuildTimer = Timer.builder("vms.largest-ships.rebuild")
+                .description("Time to rebuild the largest-ship rankings from the database")
+                .register(meterRegistry);
+        this.memoryAnswers = Counter.builder("vms.largest-ships.answers")
+                .description("Largest-ship requests by where they were answered")
+                .tag("source", "memory")
+                .register(meterRegistry);
+        this.databaseAnswers = Counter.builder("vms.largest-ships.answers")
+                .description("Largest-ship requests by where they were answered")
+                .tag("source", "database")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getWarmupName() {
+        return "largest ships";
+    }
+
+    @Override
+    public void warmUp() {
+        rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!isLoaded()) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${vms.largest-ships.rebuild-check-interval-ms:60000}",
+               initialDelayString = "${vms.largest-ships.rebuild-check-interval-ms:60000}")
+    public void rebuildIfDepleted() {
+        if (rebuildWanted) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFleetChange(FleetChangeEvent event) {
+        if (event.getEntityType() == FleetChangeEvent.EntityType.OWNER
+                && event.getChangeType() != FleetChangeEvent.ChangeType.DELETED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (groups != null) {
+                groups.apply(event);
+                groups.revisions.forgetBefore(committingRevisions.oldest());
+            }
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return groups != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to limit largest ships of the fleet, of one ship type or of one owner, largest first
+     * and ties by id; ships without a tonnage are not ranked.
+     */
+
+    public List<ShipDto> largest(String shipType, Long ownerId, int limit) {
+        if (shipType != null && ownerId != null) {
+            throw new IllegalArgumentException("Filter by shipType or by ownerId, not both");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        if (!isLoaded()) {
+            // Queried before the startup load finished (or with warm-up disabled): load now
+            rebuild();
+        }
+
+        long[] ranked;
+        lock.readLock().lock();
+        try {
+            TopShips group;
+            if (shipType != null) {
+                group = groups.byType.get(shipType);
+            } else if (ownerId != null) {
+                group = groups.byOwner.get(ownerId);
+            } else {
+                group = groups.all;
+            }
+            ranked = group != null ? group.largest(limit) : new long[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (ranked != null) {
+            memoryAnswers.increment();
+            return readOnlyTransaction.execute(status -> ships(toList(ranked)));
+        }
+        databaseAnswers.increment();
+        if (limit <= capacity) {
+            // The group has lost ships it held since the last rebuild
+            rebuildWanted = true;
+        }
+        return readOnlyTransaction.execute(status -> {
+            List<Long> ids;
+            if (shipType != null) {
+                ids = shipRepository.findLargestShipIdsByType(shipType, limit);
+            } else if (ownerId != null) {
+                ids = shipRepository.findLargestShipIdsByOwner(ownerId, limit);
+            } else {
+                ids = shipRepository.findLargestShipIds(limit);
+            }
+            return ships(ids);
+        });
+    }
+
+    /**
+     * Rebuilds every group from the database and swaps the result in. Returns the number
+     * of groups that differed from the incrementally maintained ones.
+     */
+
+    public synchronized int rebuild() {
+        long start = System.nanoTime();
+        rebuildWanted = false;
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Groups rebuilt = null;
+        int drifted = 0;
+        try {
+            rebuilt = readOnlyTransaction.execute(status -> readAll());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    // Changes committed during the read may or may not be in it; apply those it lacks
+                    for (FleetChangeEvent event : pendingDuringRebuild) {
+                        rebuilt.apply(event);
+                    }
+                    rebuilt.revisions.forgetBefore(committingRevisions.oldest());
+                    drifted = groups != null ? groups.differences(rebuilt) : 0;
+                    groups = rebuilt;
+                }
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Ranked the largest ships of {} groups in {} ms ({} differed)", rebuilt.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed), drifted);
+        return drifted;
+    }
+
+    private List<ShipDto> ships(List<Long> rankedIds) {
+        Map<Long, ShipDto> byId = shipRepository.findAllProjectedByIdIn(rankedIds, EnumSet.allOf(ShipField.class)).stream()
+                .collect(Collectors.toMap(ShipDto::getId, Function.identity()));
+        List<ShipDto> ships = new ArrayList<>(rankedIds.size());
+        for (Long id : rankedIds) {
+            // Deleted since it was ranked
+            ShipDto ship = byId.get(id);
+            if (ship != null) {
+                ships.add(ship);
+            }
+        }
+        return ships;
+    }
+
+    private static List<Long> toList(long[] ids) {
+        List<Long> list = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    private Groups readAll() {
+        // Read first: the rows below include every change at or below it
+        Groups loaded = new Groups(capacity, tombstoneRepository.safeRevision());
+        // Row layout: id, shipType, shipTonnage, ownerId (one row per owner), revision
+        try (Stream<Object[]> rows = shipRepository.streamProjectedWithRevision(
+                EnumSet.of(ShipField.SHIP_TYPE, ShipField.SHIP_TONNAGE, ShipField.OWNER_IDS), fetchSize)) {
+            Iterator<Object[]> iterator = rows.iterator();
+            Long currentId = null;
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                loaded.revisions.loaded((Long) row[0], (Long) row[4]);
+                if (row[2] == null) {
+                    continue;
+                }
+                long shipId = (Long) row[0];
+                int tonnage = (Integer) row[2];
+                if (!row[0].equals(currentId)) {
+                    currentId = shipId;
+                    loaded.all.offer(shipId, tonnage);
+                    if (row[1] != null) {
+                        loaded.type((String) row[1]).offer(shipId, tonnage);
+                    }
+                }
+                if (row[3] != null) {
+                    loaded.owner((Long) row[3]).offer(shipId, tonnage);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * One generation of rankings; guarded by the enclosing lock.
+     */
+
+    private static final class Groups {
+
+        final int capacity;
+        final TopShips all;
+        final Map<String, TopShips> byType = new HashMap<>();
+        final Map<Long, TopShips> byOwner = new HashMap<>();
+        final ShipRevisions revisions;
+
+        Groups(int capacity, long loadedRevision) {
+            this.capacity = capacity;
+            this.all = new TopShips(capacity);
+            this.revisions = new ShipRevisions(loadedRevision);
+        }
+
+        TopShips type(String shipType) {
+            return byType.computeIfAbsent(shipType, type -> new TopShips(capacity));
+        }
+
+        TopShips owner(long ownerId) {
+            return byOwner.computeIfAbsent(ownerId, id -> new TopShips(capacity));
+        }
+
+        void apply(FleetChangeEvent event) {
+            if (event.getEntityType() == FleetChangeEvent.EntityType.OWNER) {
+                // The owner's ships arrive as updates without it; this drops what a full group kept
+                byOwner.remove(event.getEntityId());
+                return;
+            }
+            long shipId = event.getEntityId();
+            ShipRevisions.Held newer = revisions.held(shipId);
+            if (!revisions.accept(event)) {
+                if (newer != null && newer.fromChange() && event.getRevision() > revisions.loadedRevision()
+                        && event.getPreviousShip() != null) {
+                    // The newer change only left the groups of this change's result
+                    leave(shipId, event.getPreviousShip());
+                    enter(shipId, newer.ship());
+                }
+                return;
+            }
+
+            ShipDto previous = event.getPreviousShip();
+            if (previous != null) {
+                leave(shipId, previous);
+            } else if (event.getChangeType() != FleetChangeEvent.ChangeType.CREATED) {
+                // No before-image: the ship may be held by any group
+                all.remove(shipId);
+                byType.values().removeIf(group -> group.remove(shipId) && group.isEmpty());
+                byOwner.values().removeIf(group -> group.remove(shipId) && group.isEmpty());
+            }
+            enter(shipId, event.getShip());
+        }
+
+        private void leave(long shipId, ShipDto previous) {
+            all.remove(shipId);
+            if (previous.getShipType() != null) {
+                remove(byType, previous.getShipType(), shipId);
+            }
+            if (previous.getOwnerIds() != null) {
+                for (Long ownerId : previous.getOwnerIds()) {
+                    remove(byOwner, ownerId, shipId);
+                }
+            }
+        }
+
+        private void enter(long shipId, ShipDto ship) {
+            if (ship == null || ship.getShipTonnage() == null) {
+                return;
+            }
+            int tonnage = ship.getShipTonnage();
+            all.offer(shipId, tonnage);
+            if (ship.getShipType() != null) {
+                type(ship.getShipType()).offer(shipId, tonnage);
+            }
+            if (ship.getOwnerIds() != null) {
+                for (Long ownerId : ship.getOwnerIds()) {
+                    owner(ownerId).offer(shipId, tonnage);
+                }
+            }
+        }
+
+        int size() {
+            return 1 + byType.size() + byOwner.size();
+        }
+
+        int differences(Groups other) {
+            return (all.sameShips(other.all) ? 0 : 1) + differences(byType, other.byType) + differences(byOwner, other.byOwner);
+        }
+
+        private static <K> int differences(Map<K, TopShips> mine, Map<K, TopShips> theirs) {
+            Set<K> keys = new HashSet<>(mine.keySet());
+            keys.addAll(theirs.keySet());
+            int differences = 0;
+            for (K key : keys) {
+                TopShips a = mine.get(key);
+                TopShips b = theirs.get(key);
+                if (a == null || b == null || !a.sameShips(b)) {
+                    differences++;
+                }
+            }
+            return differences;
+        }
+
+        private static <K> void remove(Map<K, TopShips> groups, K key, long shipId) {
+            TopShips group = groups.get(key);
+            if (group != null && group.remove(shipId) && group.isEmpty()) {
+                groups.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,450 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/OffHeapShipStore.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.dto.LongIdSet;
+import com.logbook.vessel_management_system.dto.ShipDto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ship records kept in direct (off-heap) memory so that millions of ships cost the
+ * garbage collector nothing to trace. Only the ship type dictionary and a handful of
+ * buffer references live on the heap.
+ *
+ * Layout:
+ * <ul>
+ *   <li>Record area: one fixed-width {@value #RECORD_BYTES}-byte record per ship slot
+ *       holding id, tonnage, type code and the address of the ship's variable-length
+ *       entry. Deleted slots form a free list and are reused.</li>
+ *   <li>Variable area: append-only pages holding name, IMO number and owner ids as
+ *       length-prefixed UTF-8 and longs. Entries replaced by an update become garbage
+ *       and are reclaimed by {@link #compact()} once they outweigh the live entries.</li>
+ *   <li>Two open-addressing hash indexes (by id and by IMO number) that store only
+ *       slot numbers; keys are read back from the record they point to.</li>
+ * </ul>
+ *
+ * Not thread-safe; {@link ShipRegistry} serializes writers against readers.
+ */
+
+final class OffHeapShipStore {
+
+    static final int RECORD_BYTES = 32;
+
+    // Record layout
+    private static final int ID = 0;
+    private static final int ENTRY_ADDRESS = 8;
+    private static final int ENTRY_LENGTH = 16;
+    private static final int TYPE_CODE = 20;
+    private static final int TONNAGE = 24;
+    private static final int FLAGS = 28;
+
+    private static final int LIVE = 1;
+    private static final int NO_TYPE = -1;
+    private static final int NO_TONNAGE = Integer.MIN_VALUE;
+    private static final int NULL_STRING = -1;
+    private static final int NO_SLOT = -1;
+
+    private static final int INITIAL_SLOTS = 1024;
+    private static final double MAX_LOAD = 0.6;
+
+    private final int pageSize;
+
+    private ByteBuffer records;
+    private int slotCount;
+    private int freeSlot = NO_SLOT;
+    private int size;
+
+    private final List<ByteBuffer> pages = new ArrayList<>();
+    private long garbageBytes;
+    private long liveEntryBytes;
+
+    private final Index byId = new Index() {
+        @Override
+        int hashOfSlot(int slot) {
+            return hash(records.getLong(recordOffset(slot) + ID));
+        }
+    };
+
+    private final Index byImo = new Index() {
+        @Override
+        int hashOfSlot(int slot) {
+            return hash(imoBytes(slot));
+        }
+    };
+
+    private String[] types = new String[0];
+    private final Map<String, Integer> typeCodes = new HashMap<>();
+
+    OffHeapShipStore(int pageSize) {
+        this.pageSize = pageSize;
+        this.records = ByteBuffer.allocateDirect(INITIAL_SLOTS * RECORD_BYTES);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Direct memory held by records, pages and indexes.
+     */
+
+    long offHeapBytes() {
+        return (long) records.capacity() + (long) pages.size() * pageSize + byId.bytes() + byImo.bytes();
+    }
+
+    long garbageBytes() {
+        return garbageBytes;
+    }
+
+    ShipDto get(long shipId) {
+        int slot = findById(shipId);
+        return slot != NO_SLOT ? read(slot) : null;
+    }
+
+    ShipDto getByImo(String imoNumber) {
+        int slot = findByImo(imoNumber.getBytes(StandardCharsets.UTF_8));
+        return slot != NO_SLOT ? read(slot) : null;
+    }
+
+    /**
+     * Inserts or replaces the ship with {@code ship.getId()}.
+     */
+
+    void put(ShipDto ship) {
+        int slot = findById(ship.getId());
+        boolean added = slot == NO_SLOT;
+        if (added) {
+            slot = allocateSlot();
+            size++;
+            byId.ensureCapacity(size);
+        } else {
+            // The IMO index hashes the stored IMO number, so leave it before the entry changes
+            byImo.remove(slot);
+            releaseEntry(slot);
+        }
+        byImo.ensureCapacity(size);
+
+        int record = recordOffset(slot);
+        records.putLong(record + ID, ship.getId());
+        records.putInt(record + TYPE_CODE, encodeType(ship.getShipType()));
+        records.putInt(record + TONNAGE, ship.getShipTonnage() != null ? ship.getShipTonnage() : NO_TONNAGE);
+        records.putInt(record + FLAGS, LIVE);
+        writeEntry(slot, ship);
+
+        if (added) {
+            byId.insert(slot);
+        }
+        if (ship.getImoNumber() != null) {
+            byImo.insert(slot);
+        }
+        if (garbageBytes > pageSize && garbageBytes > liveEntryBytes) {
+            compact();
+        }
+    }
+
+    boolean remove(long shipId) {
+        int slot = findById(shipId);
+        if (slot == NO_SLOT) {
+            return false;
+        }
+        byId.remove(slot);
+        byImo.remove(slot);
+        releaseEntry(slot);
+        int record = recordOffset(slot);
+        records.putInt(record + FLAGS, 0);
+        // Free slots are chained through their entry address field
+        records.putLong(record + ENTRY_ADDRESS, freeSlot);
+        freeSlot = slot;
+        size--;
+        return true;
+    }
+
+    /**
+     * Rewrites the live variable-length entries into fresh pages and drops the old ones.
+     */
+
+    void compact() {
+        List<ByteBuffer> old = new ArrayList<>(pages);
+        pages.clear();
+        garbageBytes = 0;
+        liveEntryBytes = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            int record = recordOffset(slot);
+            if (records.getInt(record + FLAGS) != LIVE) {
+                continue;
+            }
+            long address = records.getLong(record + ENTRY_ADDRESS);
+            int length = records.getInt(record + ENTRY_LENGTH);
+            ByteBuffer source = old.get(page(address)).duplicate();
+            source.position(position(address)).limit(position(address) + length);
+            long newAddress = reserve(length);
+            pages.get(page(newAddress)).put(position(newAddress), source, source.position(), length);
+            records.putLong(record + ENTRY_ADDRESS, newAddress);
+            liveEntryBytes += length;
+        }
+    }
+
+    private int findById(long shipId) {
+        return byId.find(hash(shipId), slot -> records.getLong(recordOffset(slot) + ID) == shipId);
+    }
+
+    private int findByImo(byte[] imo) {
+        return byImo.find(hash(imo), slot -> Arrays.equals(imoBytes(slot), imo));
+    }
+
+    private ShipDto read(int slot) {
+        int record = recordOffset(slot);
+        ShipDto dto = new ShipDto();
+        dto.setId(records.getLong(record + ID));
+        int typeCode = records.getInt(record + TYPE_CODE);
+        dto.setShipType(typeCode != NO_TYPE ? types[typeCode] : null);
+        int tonnage = records.getInt(record + TONNAGE);
+        dto.setShipTonnage(tonnage != NO_TONNAGE ? tonnage : null);
+
+        long address = records.getLong(record + ENTRY_ADDRESS);
+        ByteBuffer page = pages.get(page(address));
+        int position = position(address);
+        int nameLength = page.getInt(position);
+        position += 4;
+        dto.setShipName(readString(page, position, nameLength));
+        position += Math.max(nameLength, 0);
+        int imoLength = page.getInt(position);
+        position += 4;
+        dto.setImoNumber(readString(page, position, imoLength));
+        position += Math.max(imoLength, 0);
+        int owners = page.getInt(position);
+        position += 4;
+        LongIdSet.Builder ownerIds = LongIdSet.builder(owners);
+        for (int i = 0; i < owners; i++, position += 8) {
+            ownerIds.add(page.getLong(position));
+        }
+        dto.setOwnerIds(ownerIds.build());
+        return dto;
+    }
+
+    private byte[] imoBytes(int slot) {
+        int record = recordOffset(slot);
+        long address = records.getLong(record + ENTRY_ADDRESS);
+        ByteBuffer page = pages.get(page(address));
+        int position = position(address);
+        position += 4 + Math.max(page.getInt(position), 0);
+        int imoLength = page.getInt(position);
+        byte[] imo = new byte[Math.max(imoLength, 0)];
+        page.get(position + 4, imo);
+        return imo;
+    }
+
+    private void writeEntry(int slot, ShipDto ship) {
+        byte[] name = ship.getShipName() != null ? ship.getShipName().getBytes(StandardCharsets.UTF_8) : null;
+        byte[] imo = ship.getImoNumber() != null ? ship.getImoNumber().getBytes(StandardCharsets.UTF_8) : null;
+        LongIdSet owners = ship.getOwnerIds() != null ? LongIdSet.copyOf(ship.getOwnerIds()) : LongIdSet.of();
+        int length = 4 + (name != null ? name.length : 0)
+                + 4 + (imo != null ? imo.length : 0)
+                + 4 + owners.size() * 8;
+
+        long address = reserve(length);
+        ByteBuffer page = pages.get(page(address));
+        int position = position(address);
+        position = writeString(page, position, name);
+        position = writeString(page, position, imo);
+        page.putInt(position, owners.size());
+        position += 4;
+        for (int i = 0; i < owners.size(); i++, position += 8) {
+            page.putLong(position, owners.getLong(i));
+        }
+
+        int record = recordOffset(slot);
+        records.putLong(record + ENTRY_ADDRESS, address);
+        records.putInt(record + ENTRY_LENGTH, length);
+        liveEntryBytes += length;
+    }
+
+    private void releaseEntry(int slot) {
+        int length = records.getInt(recordOffset(slot) + ENTRY_LENGTH);
+        liveEntryBytes -= length;
+        garbageBytes += length;
+    }
+
+    /**
+     * Space for an entry in the last page, starting a new page when it does not fit;
+     * entries never span pages. Returns the address (page number, position).
+     */
+
+    private long reserve(int length) {
+        if (length > pageSize) {
+            throw new IllegalArgumentException("Ship entry of " + length + " bytes exceeds the page size of " + pageSize);
+        }
+        ByteBuffer last = pages.isEmpty() ? null : pages.get(pages.size() - 1);
+        if (last == null || last.remaining() < length) {
+            last = ByteBuffer.allocateDirect(pageSize);
+            pages.add(last);
+        }
+        int position = last.position();
+        last.position(position + length);
+        return ((long) (pages.size() - 1) << 32) | position;
+    }
+
+    private int allocateSlot() {
+        if (freeSlot != NO_SLOT) {
+            int slot = freeSlot;
+            freeSlot = (int) records.getLong(recordOffset(slot) + ENTRY_ADDRESS);
+            return slot;
+        }
+        if ((long) (slotCount + 1) * RECORD_BYTES > records.capacity()) {
+            long capacity = Math.min((long) records.capacity() * 2, Integer.MAX_VALUE / RECORD_BYTES * RECORD_BYTES);
+            if (capacity <= records.capacity()) {
+                throw new IllegalStateException("Off-heap ship store is full");
+            }
+            ByteBuffer grown = ByteBuffer.allocateDirect((int) capacity);
+            grown.put(0, records, 0, records.capacity());
+            records = grown;
+        }
+        return slotCount++;
+    }
+
+    private int encodeType(String shipType) {
+        if (shipType == null) {
+            return NO_TYPE;
+        }
+        return typeCodes.computeIfAbsent(shipType, type -> {
+            types = Arrays.copyOf(types, types.length + 1);
+            types[types.length - 1] = type;
+            return types.length - 1;
+        });
+    }
+
+    private static int writeString(ByteBuffer page, int position, byte[] value) {
+        if (value == null) {
+            page.putInt(position, NULL_STRING);
+            return position + 4;
+        }
+        page.putInt(position, value.length);
+        page.put(position + 4, value);
+        return position + 4 + value.length;
+    }
+
+    private static String readString(ByteBuffer page, int position, int length) {
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        page.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int recordOffset(int slot) {
+        return slot * RECORD_BYTES;
+    }
+
+    private static int page(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int position(long address) {
+        return (int) address;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int hash(byte[] key) {
+        return hash((long) Arrays.hashCode(key));
+    }
+
+    /**
+     * Linear-probing table of slot numbers in direct memory. A cell holds slot + 1, so 0
+     * means empty; removal shifts later entries back instead of leaving tombstones.
+     */
+
+    private abstract static class Index {
+
+        interface SlotMatcher {
+            boolean matches(int slot);
+        }
+
+        private ByteBuffer cells = ByteBuffer.allocateDirect(INITIAL_SLOTS * 2 * Integer.BYTES);
+        private int capacity = INITIAL_SLOTS * 2;
+
+        abstract int hashOfSlot(int slot);
+
+        long bytes() {
+            return cells.capacity();
+        }
+
+        int find(int hash, SlotMatcher matcher) {
+            int mask = capacity - 1;
+            for (int i = hash & mask; ; i = (i + 1) & mask) {
+                int cell = cells.getInt(i * Integer.BYTES);
+                if (cell == 0) {
+                    return NO_SLOT;
+                }
+                if (matcher.matches(cell - 1)) {
+                    return cell - 1;
+                }
+            }
+        }
+
+        void insert(int slot) {
+            int mask = capacity - 1;
+            int i = hashOfSlot(slot) & mask;
+            while (cells.getInt(i * Integer.BYTES) != 0) {
+                i = (i + 1) & mask;
+            }
+            cells.putInt(i * Integer.BYTES, slot + 1);
+        }
+
+        void remove(int slot) {
+            int mask = capacity - 1;
+            int i = hashOfSlot(slot) & mask;
+            while (true) {
+                int cell = cells.getInt(i * Integer.BYTES);
+                if (cell == 0) {
+                    return;
+                }
+                if (cell == slot + 1) {
+                    break;
+                }
+                i = (i + 1) & mask;
+            }
+            // Backward-shift deletion keeps every remaining entry reachable from its home cell
+            int hole = i;
+            for (int j = (hole + 1) & mask; ; j = (j + 1) & mask) {
+                int cell = cells.getInt(j * Integer.BYTES);
+                if (cell == 0) {
+                    break;
+                }
+                int home = hashOfSlot(cell - 1) & mask;
+                boolean reachable = hole <= j ? (hole < home && home <= j) : (hole < home || home <= j);
+                if (!reachable) {
+                    cells.putInt(hole * Integer.BYTES, cell);
+                    hole = j;
+                }
+            }
+            cells.putInt(hole * Integer.BYTES, 0);
+        }
+
+        void ensureCapacity(int expectedEntries) {
+            if (expectedEntries <= capacity * MAX_LOAD) {
+                return;
+            }
+            ByteBuffer old = cells;
+            int oldCapacity = capacity;
+            capacity *= 2;
+            cells = ByteBuffer.allocateDirect(capacity * Integer.BYTES);
+            for (int i = 0; i < oldCapacity; i++) {
+                int cell = old.getInt(i * Integer.BYTES);
+                if (cell != 0) {
+                    insert(cell - 1);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/RevisionFeed.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.SyncChangesDto;
+import com.logbook.vessel_management_system.dto.TombstoneDto;
+import com.logbook.vessel_management_system.entity.Tombstone;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import com.logbook.vessel_management_system.service.SyncService;
+import com.logbook.vessel_management_system.service.SyncServiceImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Adapter Pattern: Presents the delta sync API as FleetChangeEvents, for the in-memory
+ * models that replay a snapshot and follow the changes committed by other instances.
+ *
+ * FleetChangeEvents are published only in the process that made the change, so a model
+ * fed by them alone never sees a write handled by another instance. The feed reads the
+ * database instead: ships come back as upserts and ship tombstones as deletions, neither
+ * with a before-image. Each change carries its page's toRevision: a page holds the
+ * current state of its ships, and no change to them up to toRevision was left out of
+ * it. A change the model already took from an in-process event therefore comes back at
+ * the same or a newer revision, with the same or a newer state. A page read before a
+ * newer in-process change but applied after that change's revision was forgotten can
+ * put the older state back; the next poll starts below that change and restores it.
+ */
+
+@Component
+@RequiredArgsConstructor
+public class RevisionFeed {
+
+    private final SyncService syncService;
+
+    /**
+     * Hands every ship change committed above {@code sinceRevision} to {@code changes},
+     * paging until the clock's safe watermark, and returns the revision the changes are
+     * complete up to: the next call starts there.
+     */
+
+    public long changesSince(long sinceRevision, Consumer<FleetChangeEvent> changes) {
+        long since = sinceRevision;
+        SyncChangesDto page;
+        do {
+            page = syncService.getChangesSince(since, SyncServiceImpl.MAX_LIMIT);
+            for (ShipDto ship : page.getShips()) {
+                changes.accept(FleetChangeEvent.shipUpdated(ship, page.getToRevision()));
+            }
+            for (TombstoneDto deletion : page.getDeletions()) {
+                if (Tombstone.SHIP.equals(deletion.getEntityType())) {
+                    changes.accept(FleetChangeEvent.shipDeleted(deletion.getEntityId(), page.getToRevision()));
+                }
+            }
+            since = page.getToRevision();
+        } while (page.isHasMore());
+        return since;
+    }
+}
@@ -0,0 +1,201 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/ShipColumns.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.dto.LongIdSet;
+import com.logbook.vessel_management_system.dto.ShipDto;
+
+import java.util.Arrays;
+
+/**
+ * One immutable generation of the ship read model in struct-of-arrays layout: row i
+ * of every column describes the ship {@code ids[i]}, and rows are in ascending id
+ * order. Filters therefore scan a few dense primitive arrays instead of chasing
+ * one object per ship.
+ *
+ * <ul>
+ *   <li>{@code typeCodes} holds an index into {@code types} (Category_Table.Ship_type,
+ *       dictionary-encoded) or {@link #NO_TYPE}.</li>
+ *   <li>{@code tonnages} holds Category_Table.Ship_tonnage or {@link #NO_TONNAGE}.</li>
+ *   <li>Owners are stored CSR-style: the owners of row i are
+ *       {@code ownerIds[ownerStart[i]]} to {@code ownerIds[ownerStart[i + 1] - 1]},
+ *       ascending.</li>
+ * </ul>
+ */
+
+final class ShipColumns {
+
+    static final int NO_TYPE = -1;
+    static final int NO_TONNAGE = Integer.MIN_VALUE;
+
+    static final ShipColumns EMPTY = new Builder(new String[0], 0).build();
+
+    final int size;
+    final long[] ids;
+    final String[] names;
+    final String[] imoNumbers;
+    final int[] typeCodes;
+    final int[] tonnages;
+    final int[] ownerStart;
+    final long[] ownerIds;
+    final String[] types;
+
+    private ShipColumns(Builder builder) {
+        this.size = builder.size;
+        this.ids = builder.ids;
+        this.names = builder.names;
+        this.imoNumbers = builder.imoNumbers;
+        this.typeCodes = builder.typeCodes;
+        this.tonnages = builder.tonnages;
+        this.ownerStart = builder.ownerStart;
+        this.ownerIds = builder.ownerIds;
+        this.types = builder.types;
+    }
+
+    /**
+     * Row holding the given ship id, or a negative value when the ship is absent.
+     */
+
+    int rowOf(long shipId) {
+        return Arrays.binarySearch(ids, 0, size, shipId);
+    }
+
+    boolean hasOwner(int row, long ownerId) {
+        return Arrays.binarySearch(ownerIds, ownerStart[row], ownerStart[row + 1], ownerId) >= 0;
+    }
+
+    int typeCode(String shipType) {
+        for (int code = 0; code < types.length; code++) {
+            if (types[code].equals(shipType)) {
+                return code;
+            }
+        }
+        return NO_TYPE;
+    }
+
+    ShipDto toDto(int row) {
+        ShipDto dto = new ShipDto();
+        dto.setId(ids[row]);
+        dto.setShipName(names[row]);
+        dto.setImoNumber(imoNumbers[row]);
+        dto.setShipType(typeCodes[row] != NO_TYPE ? types[typeCodes[row]] : null);
+        dto.setShipTonnage(tonnages[row] != NO_TONNAGE ? tonnages[row] : null);
+        dto.setOwnerIds(LongIdSet.of(Arrays.copyOfRange(ownerIds, ownerStart[row], ownerStart[row + 1])));
+        return dto;
+    }
+
+    /**
+     * Appends rows in ascending id order; the caller guarantees the order. The type
+     * dictionary is carried over from the previous generation and only ever grows, so
+     * codes stay stable across generations.
+     */
+
+    static final class Builder {
+
+        private int size;
+        private long[] ids;
+        private String[] names;
+        private String[] imoNumbers;
+        private int[] typeCodes;
+        private int[] tonnages;
+        private int[] ownerStart;
+        private long[] ownerIds;
+        private int ownerCount;
+        private String[] types;
+
+        Builder(String[] types, int expectedSize) {
+            int capacity = Math.max(16, expectedSize);
+            this.ids = new long[capacity];
+            this.names = new String[capacity];
+            this.imoNumbers = new String[capacity];
+            this.typeCodes = new int[capacity];
+            this.tonnages = new int[capacity];
+            this.ownerStart = new int[capacity + 1];
+            this.ownerIds = new long[capacity];
+            this.types = types;
+        }
+
+        /**
+         * Starts a row; owners of the row are added with {@link #addOwner} until the next
+         * row starts.
+         */
+
+        Builder startRow(long id, String name, String imoNumber, String shipType, Integer tonnage) {
+            return startRow(id, name, imoNumber, encode(shipType), tonnage != null ? tonnage : NO_TONNAGE);
+        }
+
+        Builder startRow(long id, String name, String imoNumber, int typeCode, int tonnage) {
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = id;
+            names[size] = name;
+            imoNumbers[size] = imoNumber;
+            typeCodes[size] = typeCode;
+            tonnages[size] = tonnage;
+            ownerStart[size] = ownerCount;
+            size++;
+            ownerStart[size] = ownerCount;
+            return this;
+        }
+
+        Builder addOwner(long ownerId) {
+            if (ownerCount == ownerIds.length) {
+                ownerIds = Arrays.copyOf(ownerIds, ownerIds.length * 2);
+            }
+            ownerIds[ownerCount++] = ownerId;
+            ownerStart[size] = ownerCount;
+            return this;
+        }
+
+        Builder addRow(ShipDto ship) {
+            startRow(ship.getId(), ship.getShipName(), ship.getImoNumber(), ship.getShipType(), ship.getShipTonnage());
+            if (ship.getOwnerIds() != null) {
+                LongIdSet owners = LongIdSet.copyOf(ship.getOwnerIds());
+                for (int i = 0; i < owners.size(); i++) {
+                    addOwner(owners.getLong(i));
+                }
+            }
+            return this;
+        }
+
+        Builder copyRow(ShipColumns from, int row) {
+            startRow(from.ids[row], from.names[row], from.imoNumbers[row], from.typeCodes[row], from.tonnages[row]);
+            for (int i = from.ownerStart[row]; i < from.ownerStart[row + 1]; i++) {
+                addOwner(from.ownerIds[i]);
+            }
+            return this;
+        }
+
+        ShipColumns build() {
+            // Owners of a row arrive in any order from the database; keep each segment sorted
+            for (int row = 0; row < size; row++) {
+                Arrays.sort(ownerIds, ownerStart[row], ownerStart[row + 1]);
+            }
+            return new ShipColumns(this);
+        }
+
+        private int encode(String shipType) {
+            if (shipType == null) {
+                return NO_TYPE;
+            }
+            for (int code = 0; code < types.length; code++) {
+                if (types[code].equals(shipType)) {
+                    return code;
+                }
+            }
+            types = Arrays.copyOf(types, types.length + 1);
+            types[types.length - 1] = shipType;
+            return types.length - 1;
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            imoNumbers = Arrays.copyOf(imoNumbers, capacity);
+            typeCodes = Arrays.copyOf(typeCodes, capacity);
+            tonnages = Arrays.copyOf(tonnages, capacity);
+            ownerStart = Arrays.copyOf(ownerStart, capacity + 1);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/ShipQuery.java
+package com.logbook.vessel_management_system.readmodel;
+
+/**
+ * Filter, sort and page over the ship read model. Null filters match every ship; a ship
+ * without tonnage never matches a tonnage bound and sorts below every tonnage.
+ */
+
+public record ShipQuery(String shipType,
+                        Integer minTonnage,
+                        Integer maxTonnage,
+                        Long ownerId,
+                        SortKey sort,
+                        boolean descending,
+                        int offset,
+                        int limit) {
+
+    public enum SortKey { ID, TONNAGE, NAME }
+
+    public ShipQuery {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset and limit must not be negative");
+        }
+        if (sort == null) {
+            sort = SortKey.ID;
+        }
+    }
+
+    /**
+     * Only the filters, for aggregates.
+     */
+
+    public static ShipQuery filter(String shipType, Integer minTonnage, Integer maxTonnage, Long ownerId) {
+        return new ShipQuery(shipType, minTonnage, maxTonnage, ownerId, SortKey.ID, false, 0, Integer.MAX_VALUE);
+    }
+}
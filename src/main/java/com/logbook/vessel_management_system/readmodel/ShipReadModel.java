@@ -0,0 +1,537 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/ShipReadModel.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.ShipField;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import com.logbook.vessel_management_system.repository.ShipRepository;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
+import com.logbook.vessel_management_system.warmup.WarmupParticipant;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process read model of Ships_Table, Category_Table and Ship_Ownership_Link_Table
+ * for filter, sort and aggregate queries that would otherwise go through Hibernate.
+ *
+ * CQRS Pattern: The write side stays in ShipServiceImpl/OwnerServiceImpl; this side is
+ * loaded once from the database at startup and then kept current from committed
+ * FleetChangeEvents, which carry the full post-change ship. Queries never touch the
+ * database.
+ *
+ * Data lives in an immutable {@link ShipColumns} generation. Readers take the current
+ * generation without locking. Committed changes are only queued on the committing
+ * thread; a background thread merges everything queued into a new generation (one
+ * sequential pass over the columns) vms.read-model.apply-delay-ms after the first of
+ * them and swaps it in, so a burst of commits costs one merge and no commit waits for
+ * it. Until then queries see the previous generation; the queue length is published as
+ * vms.read-model.ships.pending.
+ *
+ * Events are only published in the instance that made the change, so the model also
+ * polls the {@link RevisionFeed} from the revision it has merged in full every
+ * vms.revision-feed.poll-interval-ms; another instance's writes show up within that
+ * interval. Events can arrive out of revision order, and the feed hands back changes
+ * the model already took from events; a change older than the state the model holds
+ * for its ship is dropped (see {@link ShipRevisions}).
+ */
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "vms.read-model", name = "enabled", havingValue = "true")
+public class ShipReadModel implements WarmupParticipant {
+
+    private final ShipRepository shipRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final CommittingRevisions committingRevisions;
+    private final ObjectProvider<FleetSnapshotFile> snapshotFile;
+    private final RevisionFeed revisionFeed;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+    private final long applyDelayMs;
+    private final Timer loadTimer;
+    private final Timer applyTimer;
+    private final ScheduledExecutorService applier;
+
+    private final Queue<FleetChangeEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean applyScheduled = new AtomicBoolean();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile ShipColumns columns;
+    // Guarded by the write lock
+    private ShipRevisions revisions;
+    // Every change at or below it is merged in; written under the write lock
+    private volatile long feedRevision;
+
+    public ShipReadModel(ShipRepository shipRepository,
+                         TombstoneRepository tombstoneRepository,
+                         CommittingRevisions committingRevisions,
+                         ObjectProvider<FleetSnapshotFile> snapshotFile,
+                         RevisionFeed revisionFeed,
+                         TransactionTemplate transactionTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${vms.streaming.fetch-size:500}") int fetchSize,
+                         @Value("${vms.read-model.apply-delay-ms:50}") long applyDelayMs) {
+        this.shipRepository = shipRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.committingRevisions = committingRevisions;
+        this.snapshotFile = snapshotFile;
+        this.revisionFeed = revisionFeed;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.applyDelayMs = applyDelayMs;
+        this.applier = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ship-read-model");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.loadTimer = Timer.builder("vms.read-model.ships.update")
+                .description("Time to load or update the ship read model")
+                .tag("operation", "load")
+                .register(meterRegistry);
+        this.applyTimer = Timer.builder("vms.read-model.ships.update")
+                .description("Time to load or update the ship read model")
+                .tag("operation", "apply")
+                .register(meterRegistry);
+        Gauge.builder("vms.read-model.ships", this, model -> model.columns != null ? model.columns.size : 0)
+                .description("Ships held by the read model")
+                .register(meterRegistry);
+        Gauge.builder("vms.read-model.ships.pending", pending, Queue::size)
+                .description("Committed ship changes not yet merged into the read model")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getWarmupName() {
+        return "ship read model";
+    }
+
+    @Override
+    public void warmUp() {
+        load();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (columns == null) {
+            load();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFleetChange(FleetChangeEvent event) {
+        // Owner deletions arrive as ship updates; owners themselves are not modelled
+        if (event.getEntityType() != FleetChangeEvent.EntityType.SHIP) {
+            return;
+        }
+        pending.add(event);
+        if (applyScheduled.compareAndSet(false, true)) {
+            applier.schedule(this::runScheduledApply, applyDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Queues the changes committed since the last poll, including those made by other
+     * instances, and merges them on the calling thread.
+     */
+
+    @Scheduled(fixedDelayString = "${vms.revision-feed.poll-interval-ms:1000}",
+               initialDelayString = "${vms.revision-feed.poll-interval-ms:1000}")
+    public void followFeed() {
+        if (columns == null) {
+            return;
+        }
+        try {
+            long reached = revisionFeed.changesSince(feedRevision, pending::add);
+            writeLock.lock();
+            try {
+                applyPending();
+                feedRevision = Math.max(feedRevision, reached);
+            } finally {
+                writeLock.unlock();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not follow the revision feed into the ship read model", e);
+        }
+    }
+
+    /**
+     * Merges the queued changes on the calling thread, for a caller that must read its
+     * own committed change without waiting for the background merge.
+     */
+
+    public void flush() {
+        writeLock.lock();
+        try {
+            applyPending();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Restores from the {@link FleetSnapshotFile} when one is enabled and valid, otherwise
+     * reads every ship with its category details and owner ids in one streamed, id-ordered
+     * query; then applies changes queued while it ran that the load does not already
+     * reflect.
+     */
+
+    public void load() {
+        writeLock.lock();
+        try {
+            long start = System.nanoTime();
+            if (!restore()) {
+                readOnlyTransaction.executeWithoutResult(status -> read());
+            }
+            loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.info("Loaded {} ships into the read model in {} ms", columns.size,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            applyPending();
+            feedRevision = revisions.loadedRevision();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return columns != null;
+    }
+
+    /**
+     * A generation and the highest revision it reflects in full: every change at or below
+     * it is merged in.
+     */
+
+    record Watermarked(ShipColumns columns, long revision) {
+    }
+
+    /**
+     * Merges the queued changes and returns the resulting generation with its revision,
+     * or null before the first load; for the snapshot writer.
+     */
+
+    Watermarked watermarkedIfLoaded() {
+        writeLock.lock();
+        try {
+            if (columns == null) {
+                return null;
+            }
+            // In-process changes above the feed revision may be merged too, but another instance's may not
+            applyPending();
+            return new Watermarked(columns, feedRevision);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public Optional<ShipDto> findById(long shipId) {
+        ShipColumns current = columns();
+        int row = current.rowOf(shipId);
+        return row >= 0 ? Optional.of(current.toDto(row)) : Optional.empty();
+    }
+
+    public List<ShipDto> find(ShipQuery query) {
+        ShipColumns current = columns();
+        int[] rows = match(current, query);
+        sort(current, rows, query.sort(), query.descending());
+
+        int from = Math.min(query.offset(), rows.length);
+        int to = (int) Math.min((long) from + query.limit(), rows.length);
+        List<ShipDto> ships = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            ships.add(current.toDto(rows[i]));
+        }
+        return ships;
+    }
+
+    public long count(ShipQuery filter) {
+        return match(columns(), filter).length;
+    }
+
+    /**
+     * Ship count and tonnage figures per ship type over the ships matching the filter,
+     * ordered by type with untyped ships last. One pass over the type and tonnage columns.
+     */
+
+    public List<ShipTypeTonnage> tonnageByType(ShipQuery filter) {
+        ShipColumns current = columns();
+        int[] rows = match(current, filter);
+
+        int groups = current.types.length + 1;
+        int untyped = groups - 1;
+        long[] ships = new long[groups];
+        long[] withTonnage = new long[groups];
+        long[] total = new long[groups];
+        int[] min = new int[groups];
+        int[] max = new int[groups];
+        Arrays.fill(min, Integer.MAX_VALUE);
+        Arrays.fill(max, Integer.MIN_VALUE);
+
+        for (int row : rows) {
+            int group = current.typeCodes[row] != ShipColumns.NO_TYPE ? current.typeCodes[row] : untyped;
+            ships[group]++;
+            int tonnage = current.tonnages[row];
+            if (tonnage != ShipColumns.NO_TONNAGE) {
+                withTonnage[group]++;
+                total[group] += tonnage;
+                min[group] = Math.min(min[group], tonnage);
+                max[group] = Math.max(max[group], tonnage);
+            }
+        }
+
+        List<ShipTypeTonnage> result = new ArrayList<>();
+        for (int group = 0; group < groups; group++) {
+            if (ships[group] == 0) {
+                continue;
+            }
+            boolean hasTonnage = withTonnage[group] > 0;
+            result.add(new ShipTypeTonnage(
+                    group != untyped ? current.types[group] : null,
+                    ships[group],
+                    total[group],
+                    hasTonnage ? min[group] : null,
+                    hasTonnage ? max[group] : null,
+                    hasTonnage ? (double) total[group] / withTonnage[group] : null));
+        }
+        result.sort(Comparator.comparing(ShipTypeTonnage::shipType, Comparator.nullsLast(Comparator.naturalOrder())));
+        return result;
+    }
+
+    private ShipColumns columns() {
+        ShipColumns current = columns;
+        if (current == null) {
+            // Queried before the startup load finished (or with warm-up disabled): load now
+            writeLock.lock();
+            try {
+                if (columns == null) {
+                    load();
+                }
+                current = columns;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Snapshot ships become the new generation; the replayed changes join the queue.
+     * Must hold the write lock.
+     */
+
+    private boolean restore() {
+        FleetSnapshotFile file = snapshotFile.getIfAvailable();
+        if (file == null) {
+            return false;
+        }
+        ShipColumns.Builder builder = new ShipColumns.Builder(new String[0], 1024);
+        long revision = file.restore(builder::addRow, pending::add);
+        if (revision < 0) {
+            return false;
+        }
+        columns = builder.build();
+        revisions = new ShipRevisions(revision);
+        return true;
+    }
+
+    /**
+     * Must hold the write lock.
+     */
+
+    private void read() {
+        // Read first: the rows below include every change at or below it
+        ShipRevisions loaded = new ShipRevisions(tombstoneRepository.safeRevision());
+        ShipColumns.Builder builder = new ShipColumns.Builder(new String[0], (int) shipRepository.count());
+        // Row layout: id, shipName, imoNumber, shipType, shipTonnage, ownerId (one row per owner), revision
+        try (Stream<Object[]> rows = shipRepository.streamProjectedWithRevision(EnumSet.allOf(ShipField.class), fetchSize)) {
+            Iterator<Object[]> iterator = rows.iterator();
+            Long currentId = null;
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                if (!row[0].equals(currentId)) {
+                    currentId = (Long) row[0];
+                    builder.startRow(currentId, (String) row[1], (String) row[2], (String) row[3], (Integer) row[4]);
+                    loaded.loaded(currentId, (Long) row[6]);
+                }
+                if (row[5] != null) {
+                    builder.addOwner((Long) row[5]);
+                }
+            }
+        }
+        columns = builder.build();
+        revisions = loaded;
+    }
+
+    private void runScheduledApply() {
+        // Changes from here on schedule the next merge
+        applyScheduled.set(false);
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not merge committed changes into the ship read model", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        applier.shutdownNow();
+    }
+
+    /**
+     * Must hold the write lock. Before the first load the queue is left for load() to
+     * drain.
+     */
+
+    private void applyPending() {
+        ShipColumns base = columns;
+        if (base == null || pending.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        // Newest change per ship wins; null marks a deletion
+        TreeMap<Long, ShipDto> changes = new TreeMap<>();
+        FleetChangeEvent event;
+        while ((event = pending.poll()) != null) {
+            if (revisions.accept(event)) {
+                changes.put(event.getEntityId(), event.getChangeType() == FleetChangeEvent.ChangeType.DELETED ? null : event.getShip());
+            }
+        }
+        revisions.forgetBefore(committingRevisions.oldest());
+        if (!changes.isEmpty()) {
+            columns = merge(base, changes);
+        }
+        applyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    static ShipColumns merge(ShipColumns base, TreeMap<Long, ShipDto> changes) {
+        ShipColumns.Builder builder = new ShipColumns.Builder(base.types, base.size + changes.size());
+        int row = 0;
+        for (Map.Entry<Long, ShipDto> change : changes.entrySet()) {
+            long shipId = change.getKey();
+            while (row < base.size && base.ids[row] < shipId) {
+                builder.copyRow(base, row++);
+            }
+            if (row < base.size && base.ids[row] == shipId) {
+                row++;
+            }
+            if (change.getValue() != null) {
+                builder.addRow(change.getValue());
+            }
+        }
+        while (row < base.size) {
+            builder.copyRow(base, row++);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Rows matching every filter, in ascending id order.
+     */
+
+    private static int[] match(ShipColumns current, ShipQuery query) {
+        boolean byType = query.shipType() != null;
+        int typeCode = byType ? current.typeCode(query.shipType()) : ShipColumns.NO_TYPE;
+        if (byType && typeCode == ShipColumns.NO_TYPE) {
+            return new int[0];
+        }
+        boolean byTonnage = query.minTonnage() != null || query.maxTonnage() != null;
+        // NO_TONNAGE is Integer.MIN_VALUE, below any lower bound
+        int minTonnage = query.minTonnage() != null ? Math.max(query.minTonnage(), ShipColumns.NO_TONNAGE + 1) : ShipColumns.NO_TONNAGE + 1;
+        int maxTonnage = query.maxTonnage() != null ? query.maxTonnage() : Integer.MAX_VALUE;
+        boolean byOwner = query.ownerId() != null;
+        long ownerId = byOwner ? query.ownerId() : 0;
+
+        int[] typeCodes = current.typeCodes;
+        int[] tonnages = current.tonnages;
+        int[] rows = new int[current.size];
+        int matches = 0;
+        for (int row = 0; row < current.size; row++) {
+            if (byType && typeCodes[row] != typeCode) {
+                continue;
+            }
+            if (byTonnage && (tonnages[row] < minTonnage || tonnages[row] > maxTonnage)) {
+                continue;
+            }
+            if (byOwner && !current.hasOwner(row, ownerId)) {
+                continue;
+            }
+            rows[matches++] = row;
+        }
+        return matches == rows.length ? rows : Arrays.copyOf(rows, matches);
+    }
+
+    /**
+     * Sorts row numbers in place. Ties keep ascending id order in both directions.
+     */
+
+    private static void sort(ShipColumns current, int[] rows, ShipQuery.SortKey key, boolean descending) {
+        switch (key) {
+            case ID -> {
+                if (descending) {
+                    reverse(rows);
+                }
+            }
+            case TONNAGE -> {
+                // Pack (tonnage, row) into one long so the sort is a primitive sort; ~tonnage
+                // reverses the order without the overflow of negating Integer.MIN_VALUE
+                long[] keys = new long[rows.length];
+                for (int i = 0; i < rows.length; i++) {
+                    int tonnage = current.tonnages[rows[i]];
+                    keys[i] = ((long) (descending ? ~tonnage : tonnage) << 32) | rows[i];
+                }
+                Arrays.sort(keys);
+                for (int i = 0; i < rows.length; i++) {
+                    rows[i] = (int) keys[i];
+                }
+            }
+            case NAME -> {
+                Comparator<String> byName = Comparator.nullsFirst(Comparator.naturalOrder());
+                Comparator<Integer> order = Comparator.comparing(row -> current.names[row], descending ? byName.reversed() : byName);
+                Integer[] boxed = Arrays.stream(rows).boxed().toArray(Integer[]::new);
+                Arrays.sort(boxed, order.thenComparingInt(row -> row));
+                for (int i = 0; i < rows.length; i++) {
+                    rows[i] = boxed[i];
+                }
+            }
+        }
+    }
+
+    private static void reverse(int[] rows) {
+        for (int i = 0, j = rows.length - 1; i < j; i++, j--) {
+            int row = rows[i];
+            rows[i] = rows[j];
+            rows[j] = row;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/ShipRegistry.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.dto.LongIdSet;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.ShipField;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import com.logbook.vessel_management_system.repository.ShipRepository;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
+import com.logbook.vessel_management_system.warmup.WarmupParticipant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Whole-fleet lookup tier by ship id and IMO number, held in an {@link OffHeapShipStore}
+ * so that the heap footprint stays flat however many ships are resident.
+ *
+ * Fed like the read model: one streamed load through ShipRepository at startup, then
+ * committed FleetChangeEvents (full post-change ship, or a deletion) and, for writes
+ * handled by other instances, the {@link RevisionFeed} polled every
+ * vms.revision-feed.poll-interval-ms, skipping any change older than the state held for
+ * its ship (see {@link ShipRevisions}). Lookups
+ * share a read lock and changes take the write lock, so a reader never sees a
+ * half-written record.
+ */
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "vms.ship-registry", name = "enabled", havingValue = "true")
+public class ShipRegistry implements WarmupParticipant {
+
+    private final ShipRepository shipRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final CommittingRevisions committingRevisions;
+    private final ObjectProvider<FleetSnapshotFile> snapshotFile;
+    private final RevisionFeed revisionFeed;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int pageSize;
+    private final int fetchSize;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final Queue<FleetChangeEvent> pending = new ConcurrentLinkedQueue<>();
+    private final StampedLock lock = new StampedLock();
+    private OffHeapShipStore store;
+    private ShipRevisions revisions;
+    // Every change at or below it is applied; written under the write lock
+    private volatile long feedRevision;
+
+    public ShipRegistry(ShipRepository shipRepository,
+                        TombstoneRepository tombstoneRepository,
+                        CommittingRevisions committingRevisions,
+                        ObjectProvider<FleetSnapshotFile> snapshotFile,
+                        RevisionFeed revisionFeed,
+                        TransactionTemplate transactionTemplate,
+                        MeterRegistry meterRegistry,
+                        @Value("${vms.ship-registry.page-size-mb:16}") int pageSizeMb,
+                        @Value("${vms.streaming.fetch-size:500}") int fetchSize) {
+        this.shipRepository = shipRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.committingRevisions = committingRevisions;
+        this.snapshotFile = snapshotFile;
+        this.revisionFeed = revisionFeed;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.pageSize = pageSizeMb * 1024 * 1024;
+        this.fetchSize = fetchSize;
+
+        this.hits = Counter.builder("vms.registry.lookups")
+                .description("Ship lookups answered by the off-heap registry")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("vms.registry.lookups")
+                .description("Ship lookups answered by the off-heap registry")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("vms.registry.ships", this, registry -> registry.measure(OffHeapShipStore::size))
+                .description("Ships resident in the off-heap registry")
+                .register(meterRegistry);
+        Gauge.builder("vms.registry.memory", this, registry -> registry.measure(OffHeapShipStore::offHeapBytes))
+                .description("Direct memory held by the off-heap registry")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getWarmupName() {
+        return "off-heap ship registry";
+    }
+
+    @Override
+    public void warmUp() {
+        load();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!isLoaded()) {
+            load();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFleetChange(FleetChangeEvent event) {
+        // Owner deletions arrive as ship updates; owners themselves are not held
+        if (event.getEntityType() != FleetChangeEvent.EntityType.SHIP) {
+            return;
+        }
+        pending.add(event);
+        long stamp = lock.writeLock();
+        try {
+            applyPending();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Applies the changes committed since the last poll, including those made by other
+     * instances. The database is read without holding the lock.
+     */
+
+    @Scheduled(fixedDelayString = "${vms.revision-feed.poll-interval-ms:1000}",
+               initialDelayString = "${vms.revision-feed.poll-interval-ms:1000}")
+    public void followFeed() {
+        if (!isLoaded()) {
+            return;
+        }
+        try {
+            long reached = revisionFeed.changesSince(feedRevision, pending::add);
+            long stamp = lock.writeLock();
+            try {
+                applyPending();
+                feedRevision = Math.max(feedRevision, reached);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not follow the revision feed into the off-heap registry", e);
+        }
+    }
+
+    /**
+     * Builds a new store from the {@link FleetSnapshotFile} or, failing that, the database
+     * without blocking lookups, then swaps it in and applies the changes committed in the
+     * meantime that it does not already reflect.
+     */
+
+    public void load() {
+        long start = System.nanoTime();
+        Loaded loaded = restore();
+        if (loaded == null) {
+            loaded = readOnlyTransaction.execute(status -> readAll());
+        }
+        long stamp = lock.writeLock();
+        try {
+            store = loaded.store();
+            revisions = loaded.revisions();
+            applyPending();
+            feedRevision = revisions.loadedRevision();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        log.info("Loaded {} ships into the off-heap registry ({} MB direct memory) in {} ms", loaded.store().size(),
+                loaded.store().offHeapBytes() / (1024 * 1024), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    public boolean isLoaded() {
+        return read(current -> true) != null;
+    }
+
+    /**
+     * Empty when the ship is not resident, including before the first load; callers
+     * fall back to the database.
+     */
+
+    public Optional<ShipDto> findById(long shipId) {
+        return count(Optional.ofNullable(read(current -> current.get(shipId))));
+    }
+
+    public Optional<ShipDto> findByImoNumber(String imoNumber) {
+        return count(Optional.ofNullable(read(current -> current.getByImo(imoNumber))));
+    }
+
+    private Optional<ShipDto> count(Optional<ShipDto> ship) {
+        (ship.isPresent() ? hits : misses).increment();
+        return ship;
+    }
+
+    private <T> T read(Function<OffHeapShipStore, T> lookup) {
+        long stamp = lock.readLock();
+        try {
+            return store != null ? lookup.apply(store) : null;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long measure(ToLongFunction<OffHeapShipStore> metric) {
+        Long value = read(metric::applyAsLong);
+        return value != null ? value : 0;
+    }
+
+    private Loaded restore() {
+        FleetSnapshotFile file = snapshotFile.getIfAvailable();
+        if (file == null) {
+            return null;
+        }
+        OffHeapShipStore restored = new OffHeapShipStore(pageSize);
+        long revision = file.restore(restored::put, pending::add);
+        return revision >= 0 ? new Loaded(restored, new ShipRevisions(revision)) : null;
+    }
+
+    private Loaded readAll() {
+        // Read first: the rows below include every change at or below it
+        ShipRevisions revisions = new ShipRevisions(tombstoneRepository.safeRevision());
+        OffHeapShipStore loaded = new OffHeapShipStore(pageSize);
+        // Row layout: id, shipName, imoNumber, shipType, shipTonnage, ownerId (one row per owner), revision
+        try (Stream<Object[]> rows = shipRepository.streamProjectedWithRevision(EnumSet.allOf(ShipField.class), fetchSize)) {
+            Iterator<Object[]> iterator = rows.iterator();
+            ShipDto ship = null;
+            LongIdSet.Builder ownerIds = LongIdSet.builder(4);
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                if (ship == null || !ship.getId().equals(row[0])) {
+                    if (ship != null) {
+                        ship.setOwnerIds(ownerIds.build());
+                        loaded.put(ship);
+                    }
+                    ship = new ShipDto();
+                    ship.setId((Long) row[0]);
+                    ship.setShipName((String) row[1]);
+                    ship.setImoNumber((String) row[2]);
+                    ship.setShipType((String) row[3]);
+                    ship.setShipTonnage((Integer) row[4]);
+                    revisions.loaded(ship.getId(), (Long) row[6]);
+                }
+                if (row[5] != null) {
+                    ownerIds.add((Long) row[5]);
+                }
+            }
+            if (ship != null) {
+                ship.setOwnerIds(ownerIds.build());
+                loaded.put(ship);
+            }
+        }
+        return new Loaded(loaded, revisions);
+    }
+
+    /**
+     * Must hold the write lock. Before the first load the queue is left for load() to
+     * drain.
+     */
+
+    private void applyPending() {
+        if (store == null) {
+            return;
+        }
+        FleetChangeEvent event;
+        while ((event = pending.poll()) != null) {
+            if (!revisions.accept(event)) {
+                continue;
+            }
+            if (event.getChangeType() == FleetChangeEvent.ChangeType.DELETED) {
+                store.remove(event.getEntityId());
+            } else {
+                store.put(event.getShip());
+            }
+        }
+        revisions.forgetBefore(committingRevisions.oldest());
+    }
+
+    private record Loaded(OffHeapShipStore store, ShipRevisions revisions) {
+    }
+}
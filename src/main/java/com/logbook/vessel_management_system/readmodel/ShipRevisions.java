@@ -0,0 +1,102 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/ShipRevisions.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Which FleetChangeEvents are news to one generation of an in-memory model.
+ *
+ * Events can be delivered out of revision order, so a model that applied every event
+ * as it came could overwrite a ship with an older state, or bring back a deleted one.
+ * A generation instead records the revision it was loaded at (everything at or below
+ * it is already reflected) and the last change it took for each ship since, and drops
+ * a change that is not newer than both.
+ *
+ * A ship's entry is forgotten once {@link CommittingRevisions} lists no older revision:
+ * an older change committed before the entry's change, so it is either delivered by
+ * then or still listed there.
+ *
+ * Not thread-safe; guarded by the lock of the owning model.
+ */
+
+final class ShipRevisions {
+
+    /**
+     * What a generation holds for a ship: the revision, and the ship as of the change
+     * that set it (null for a deletion, and when the revision came from the load).
+     */
+
+    record Held(long revision, ShipDto ship, boolean fromChange) {
+    }
+
+    private final long loadedRevision;
+    // Insertion order is close to revision order, which keeps forgetting cheap
+    private final LinkedHashMap<Long, Held> held = new LinkedHashMap<>();
+
+    ShipRevisions(long loadedRevision) {
+        this.loadedRevision = loadedRevision;
+    }
+
+    long loadedRevision() {
+        return loadedRevision;
+    }
+
+    /**
+     * Records a ship read by the load at its row revision; only rows written after the
+     * load revision was taken need an entry.
+     */
+
+    void loaded(long shipId, long revision) {
+        if (revision > loadedRevision) {
+            held.put(shipId, new Held(revision, null, false));
+        }
+    }
+
+    /**
+     * True, recording the change, when it is newer than the state held for its ship;
+     * false when it must be ignored.
+     */
+
+    boolean accept(FleetChangeEvent event) {
+        long revision = event.getRevision();
+        if (revision <= loadedRevision) {
+            return false;
+        }
+        Held current = held.get(event.getEntityId());
+        if (current != null && revision <= current.revision()) {
+            return false;
+        }
+        held.remove(event.getEntityId());
+        held.put(event.getEntityId(), new Held(revision, event.getShip(), true));
+        return true;
+    }
+
+    /**
+     * The entry for a ship changed or loaded after the load revision, or null.
+     */
+
+    Held held(long shipId) {
+        return held.get(shipId);
+    }
+
+    /**
+     * Forgets entries below the oldest revision still being delivered. Stops at the
+     * first entry it must keep, so an entry recorded out of order may stay a while longer.
+     */
+
+    void forgetBefore(long oldestCommitting) {
+        Iterator<Map.Entry<Long, Held>> entries = held.entrySet().iterator();
+        while (entries.hasNext() && entries.next().getValue().revision() < oldestCommitting) {
+            entries.remove();
+        }
+    }
+
+    int size() {
+        return held.size();
+    }
+}
@@ -0,0 +1,25 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/ShipTypeTonnage.java
+package com.logbook.vessel_management_system.readmodel;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Tonnage aggregate of the ships of one type; the tonnage figures cover only the ships
+ * that have a tonnage and are null when none has.
+ */
+
+@Schema(description = "Tonnage aggregate for one ship type")
+public record ShipTypeTonnage(
+        @Schema(description = "Ship type; null groups ships without a type", example = "Tanker")
+        String shipType,
+        @Schema(description = "Number of ships of this type", example = "42")
+        long ships,
+        @Schema(description = "Sum of the tonnage in gross tons", example = "3150000")
+        long totalTonnage,
+        @Schema(description = "Smallest tonnage", example = "12000")
+        Integer minTonnage,
+        @Schema(description = "Largest tonnage", example = "320000")
+        Integer maxTonnage,
+        @Schema(description = "Mean tonnage", example = "75000.0")
+        Double averageTonnage) {
+}
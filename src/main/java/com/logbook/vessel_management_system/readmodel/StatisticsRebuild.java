@@ -0,0 +1,20 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/StatisticsRebuild.java
+package com.logbook.vessel_management_system.readmodel;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Outcome of rebuilding the tonnage sketches from the database.
+ */
+
+@Schema(description = "Result of rebuilding the tonnage statistics from the database")
+public record StatisticsRebuild(
+        @Schema(description = "Ships with a tonnage read from the database", example = "250000")
+        long ships,
+        @Schema(description = "Sketches built: fleet-wide, per ship type and per owner", example = "18012")
+        int sketches,
+        @Schema(description = "Incrementally maintained sketches that differed from the rebuilt ones", example = "0")
+        int driftedSketches,
+        @Schema(description = "Time taken to read and build, in milliseconds", example = "840")
+        long elapsedMs) {
+}
@@ -0,0 +1,43 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/TonnageDistribution.java
+package com.logbook.vessel_management_system.readmodel;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Approximate tonnage distribution of a group of ships, read from quantile sketches.
+ * Quantiles are within relativeAccuracy of the exact tonnage; histogram counts may
+ * place a ship whose tonnage is within the same margin of a boundary in the
+ * neighbouring bin.
+ */
+
+@Schema(description = "Approximate tonnage percentiles and histogram for a group of ships")
+public record TonnageDistribution(
+        @Schema(description = "Ships with a tonnage in the group", example = "1250")
+        long ships,
+        @Schema(description = "Relative error bound of the quantiles", example = "0.01")
+        double relativeAccuracy,
+        @Schema(description = "Requested quantiles, in the order asked for")
+        List<Quantile> quantiles,
+        @Schema(description = "Ship counts between consecutive histogram boundaries")
+        List<Bin> histogram) {
+
+    @Schema(description = "Tonnage at one quantile")
+    public record Quantile(
+            @Schema(description = "Quantile between 0 and 1", example = "0.9")
+            double quantile,
+            @Schema(description = "Tonnage at the quantile; null when the group is empty", example = "118000.0")
+            Double tonnage) {
+    }
+
+    @Schema(description = "Ships with a tonnage in [from, to)")
+    public record Bin(
+            @Schema(description = "Inclusive lower bound; null for the first bin", example = "10000")
+            Integer from,
+            @Schema(description = "Exclusive upper bound; null for the last bin", example = "100000")
+            Integer to,
+            @Schema(description = "Number of ships in the bin", example = "640")
+            long ships) {
+    }
+}
@@ -0,0 +1,163 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/TonnageSketch.java
+package com.logbook.vessel_management_system.readmodel;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable quantile sketch of ship tonnages with a relative error guarantee
+ * (DDSketch): every tonnage falls in a logarithmic bucket (γ^(i-1), γ^i] with
+ * γ = (1 + α) / (1 - α), and a quantile is answered with the bucket's midpoint, which
+ * is within α of the true value. Tonnages of zero or less share one extra bucket.
+ *
+ * Buckets are exact counts, so unlike t-digest or KLL a value can be taken out again
+ * (a ship's tonnage changing or the ship being deleted), and add/remove commute: changes
+ * applied out of order leave the same sketch. Two sketches merge by adding counts.
+ * Only occupied buckets are stored, in two sorted parallel arrays: a few entries for
+ * a small owner, at most ~700 for α = 1% over the whole tonnage range.
+ *
+ * Not thread-safe; FleetStatistics guards every sketch.
+ */
+
+final class TonnageSketch {
+
+    static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private int[] indexes = new int[4];
+    private long[] counts = new long[4];
+    private int buckets;
+    private long zeroCount;
+    private long count;
+
+    void add(int tonnage) {
+        adjust(tonnage, 1);
+    }
+
+    void remove(int tonnage) {
+        adjust(tonnage, -1);
+    }
+
+    long count() {
+        return count;
+    }
+
+    boolean isEmpty() {
+        return count == 0 && zeroCount == 0 && buckets == 0;
+    }
+
+    void merge(TonnageSketch other) {
+        int[] mergedIndexes = new int[buckets + other.buckets];
+        long[] mergedCounts = new long[mergedIndexes.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < buckets || j < other.buckets) {
+            int index;
+            long total;
+            if (j == other.buckets || (i < buckets && indexes[i] < other.indexes[j])) {
+                index = indexes[i];
+                total = counts[i++];
+            } else if (i == buckets || other.indexes[j] < indexes[i]) {
+                index = other.indexes[j];
+                total = other.counts[j++];
+            } else {
+                index = indexes[i];
+                total = counts[i++] + other.counts[j++];
+            }
+            if (total != 0) {
+                mergedIndexes[size] = index;
+                mergedCounts[size++] = total;
+            }
+        }
+        indexes = mergedIndexes.length > 0 ? mergedIndexes : new int[4];
+        counts = mergedCounts.length > 0 ? mergedCounts : new long[4];
+        buckets = size;
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    /**
+     * Tonnage at quantile q (0 to 1), within RELATIVE_ACCURACY of the exact answer;
+     * NaN when the sketch is empty.
+     */
+
+    double quantile(double q) {
+        if (count <= 0) {
+            return Double.NaN;
+        }
+        double rank = q * (count - 1);
+        long below = zeroCount;
+        if (rank < below) {
+            return 0;
+        }
+        for (int i = 0; i < buckets; i++) {
+            below += counts[i];
+            if (below > rank) {
+                return valueOf(indexes[i]);
+            }
+        }
+        return buckets > 0 ? valueOf(indexes[buckets - 1]) : 0;
+    }
+
+    /**
+     * Number of tonnages below the given value; a bucket straddling it counts as below
+     * when its midpoint is.
+     */
+
+    long countBelow(long tonnage) {
+        if (tonnage <= 0) {
+            return 0;
+        }
+        long below = zeroCount;
+        for (int i = 0; i < buckets && valueOf(indexes[i]) < tonnage; i++) {
+            below += counts[i];
+        }
+        return below;
+    }
+
+    boolean sameCounts(TonnageSketch other) {
+        return count == other.count && zeroCount == other.zeroCount
+                && Arrays.equals(indexes, 0, buckets, other.indexes, 0, other.buckets)
+                && Arrays.equals(counts, 0, buckets, other.counts, 0, other.buckets);
+    }
+
+    static int indexOf(int tonnage) {
+        return (int) Math.ceil(Math.log(tonnage) / LOG_GAMMA);
+    }
+
+    static double valueOf(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+
+    private void adjust(int tonnage, long delta) {
+        count += delta;
+        if (tonnage <= 0) {
+            zeroCount += delta;
+            return;
+        }
+        int index = indexOf(tonnage);
+        int position = Arrays.binarySearch(indexes, 0, buckets, index);
+        if (position >= 0) {
+            counts[position] += delta;
+            if (counts[position] == 0) {
+                System.arraycopy(indexes, position + 1, indexes, position, buckets - position - 1);
+                System.arraycopy(counts, position + 1, counts, position, buckets - position - 1);
+                buckets--;
+            }
+            return;
+        }
+        // Removals can arrive before the matching add; the count goes negative until it does
+        position = -position - 1;
+        if (buckets == indexes.length) {
+            indexes = Arrays.copyOf(indexes, buckets * 2);
+            counts = Arrays.copyOf(counts, buckets * 2);
+        }
+        System.arraycopy(indexes, position, indexes, position + 1, buckets - position);
+        System.arraycopy(counts, position, counts, position + 1, buckets - position);
+        indexes[position] = index;
+        counts[position] = delta;
+        buckets++;
+    }
+}
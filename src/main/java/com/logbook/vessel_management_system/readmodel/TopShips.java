@@ -0,0 +1,123 @@
+// src/main/java/com/logbook/vessel_management_system/readmodel/TopShips.java
+package com.logbook.vessel_management_system.readmodel;
+
+import java.util.Arrays;
+
+/**
+ * The largest ships of one group (the fleet, a ship type or an owner), as id/tonnage
+ * pairs ranked by tonnage descending and then id, holding at most capacity of them.
+ *
+ * Entries live in two sorted parallel arrays: a rank is found by binary search and an
+ * insert or removal shifts at most capacity entries, which for a bound of a few hundred
+ * is cheaper than the nodes of a heap or skip list and needs no separate index for
+ * removals. Once a ship has been evicted the group is incomplete: what it holds is still
+ * exactly the group's largest size() ships, but a ship ranking below all of them may
+ * rank below ships it no longer knows, so such offers are dropped, and a removal shrinks
+ * the number of ships the group can answer for.
+ *
+ * Not thread-safe; LargestShips guards every group.
+ */
+
+final class TopShips {
+
+    private final int capacity;
+    private long[] ids = new long[4];
+    private int[] tonnages = new int[4];
+    private int size;
+    private boolean complete = true;
+
+    TopShips(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds the ship, or moves it to its new rank if it is already held.
+     */
+
+    void offer(long shipId, int tonnage) {
+        remove(shipId);
+        int position = -position(shipId, tonnage) - 1;
+        if (!complete && position == size) {
+            return;
+        }
+        if (size == ids.length) {
+            int grown = Math.min(size * 2, capacity + 1);
+            ids = Arrays.copyOf(ids, grown);
+            tonnages = Arrays.copyOf(tonnages, grown);
+        }
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        System.arraycopy(tonnages, position, tonnages, position + 1, size - position);
+        ids[position] = shipId;
+        tonnages[position] = tonnage;
+        size++;
+        if (size > capacity) {
+            size--;
+            complete = false;
+        }
+    }
+
+    boolean remove(long shipId) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == shipId) {
+                System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                System.arraycopy(tonnages, i + 1, tonnages, i, size - i - 1);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ids of the k largest ships, largest first, or null when ships this group does not
+     * hold could be among them.
+     */
+
+    long[] largest(int k) {
+        if (k > size && !complete) {
+            return null;
+        }
+        return Arrays.copyOf(ids, Math.min(k, size));
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * True when the group has no ships at all, as opposed to holding none of them.
+     */
+
+    boolean isEmpty() {
+        return size == 0 && complete;
+    }
+
+    boolean sameShips(TopShips other) {
+        return complete == other.complete
+                && Arrays.equals(ids, 0, size, other.ids, 0, other.size)
+                && Arrays.equals(tonnages, 0, size, other.tonnages, 0, other.size);
+    }
+
+    private int position(long shipId, int tonnage) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int order = tonnages[middle] != tonnage
+                    ? Integer.compare(tonnage, tonnages[middle])
+                    : Long.compare(ids[middle], shipId);
+            if (order < 0) {
+                low = middle + 1;
+            } else if (order > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+}
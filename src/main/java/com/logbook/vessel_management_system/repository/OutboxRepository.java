@@ -0,0 +1,53 @@
+package com.logbook.vessel_management_system.repository;
+
+import com.logbook.vessel_management_system.entity.OutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository Pattern: Data access for the transactional outbox used by the relay.
+ */
+
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Locks the oldest messages no relay holds a live claim on. SKIP LOCKED lets several
+     * relay instances claim concurrently, each taking a disjoint batch without waiting on
+     * the others. Must be called inside a transaction, which should only stamp the claim
+     * ({@link #claim}) and commit: the locks are held until it ends.
+     */
+
+    @Query(value = "SELECT * FROM Outbox_Table WHERE Claimed_until IS NULL OR Claimed_until < :now " +
+            "ORDER BY Id LIMIT :batchSize FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxMessage> lockNextBatch(@Param("batchSize") int batchSize, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.claimedUntil = :until WHERE m.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("until") Instant until);
+
+    /**
+     * Hands a batch whose delivery failed back to the next poll instead of waiting for
+     * its claim to expire.
+     */
+
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.claimedUntil = NULL WHERE m.id IN :ids")
+    int release(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Creation time of the oldest pending message, read from the Created_at index
+     * without loading any payload. Its age is the relay lag.
+     */
+
+    @Query("SELECT min(m.createdAt) FROM OutboxMessage m")
+    Optional<Instant> findOldestCreatedAt();
+}
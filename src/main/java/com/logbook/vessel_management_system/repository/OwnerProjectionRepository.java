@@ -0,0 +1,25 @@
+package com.logbook.vessel_management_system.repository;
+
+import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.OwnerField;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment for sparse fieldsets: reads owners straight into DTOs, touching
+ * the ownership links only when the ship ids are requested.
+ */
+
+public interface OwnerProjectionRepository {
+
+    List<OwnerDto> findAllProjected(Set<OwnerField> fields);
+
+    /**
+     * Streams owners as flat rows in owner id order: the owner id, the name if
+     * selected, then (if shipIds is selected) one ship id or null per row.
+     */
+
+    Stream<Object[]> streamProjected(Set<OwnerField> fields, int fetchSize);
+}
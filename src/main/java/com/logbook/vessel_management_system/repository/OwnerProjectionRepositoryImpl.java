@@ -0,0 +1,81 @@
+package com.logbook.vessel_management_system.repository;
+
+import com.logbook.vessel_management_system.dto.LongIdSet;
+import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.OwnerField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Repository Pattern: Custom fragment implementation picked up by Spring Data by its
+ * "Impl" suffix; the owner counterpart of {@link ShipProjectionRepositoryImpl}.
+ */
+
+public class OwnerProjectionRepositoryImpl implements OwnerProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<OwnerDto> findAllProjected(Set<OwnerField> fields) {
+        boolean name = fields.contains(OwnerField.OWNER_NAME);
+        List<Tuple> rows = entityManager.createQuery(
+                        name ? "SELECT o.ownerId AS ownerId, o.ownerName AS ownerName FROM Owner o"
+                             : "SELECT o.ownerId AS ownerId FROM Owner o",
+                        Tuple.class)
+                .getResultList();
+
+        List<OwnerDto> owners = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            OwnerDto dto = new OwnerDto();
+            dto.setOwnerId(row.get("ownerId", Long.class));
+            if (name) {
+                dto.setOwnerName(row.get("ownerName", String.class));
+            }
+            owners.add(dto);
+        }
+
+        if (fields.contains(OwnerField.SHIP_IDS) && !owners.isEmpty()) {
+            List<Object[]> links = entityManager.createQuery(
+                            "SELECT o.ownerId, s.id FROM Owner o JOIN o.ships s", Object[].class)
+                    .getResultList();
+            Map<Long, LongIdSet.Builder> shipIds = new HashMap<>();
+            for (Object[] link : links) {
+                shipIds.computeIfAbsent((Long) link[0], id -> LongIdSet.builder(4)).add((Long) link[1]);
+            }
+            for (OwnerDto dto : owners) {
+                LongIdSet.Builder builder = shipIds.get(dto.getOwnerId());
+                dto.setShipIds(builder != null ? builder.build() : LongIdSet.of());
+            }
+        }
+        return owners;
+    }
+
+    @Override
+    public Stream<Object[]> streamProjected(Set<OwnerField> fields, int fetchSize) {
+        StringBuilder jpql = new StringBuilder("SELECT o.ownerId");
+        if (fields.contains(OwnerField.OWNER_NAME)) {
+            jpql.append(", o.ownerName");
+        }
+        if (fields.contains(OwnerField.SHIP_IDS)) {
+            jpql.append(", s.id FROM Owner o LEFT JOIN o.ships s");
+        } else {
+            jpql.append(" FROM Owner o");
+        }
+        jpql.append(" ORDER BY o.ownerId");
+
+        return entityManager.createQuery(jpql.toString(), Object[].class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -1,9 +1,14 @@
 package com.logbook.vessel_management_system.repository;
 
 import com.logbook.vessel_management_system.entity.Owner;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,7 +17,7 @@ import java.util.Optional;
  */
 
 @Repository
-public interface OwnerRepository extends JpaRepository<Owner, Long> {
+public interface OwnerRepository extends JpaRepository<Owner, Long>, OwnerProjectionRepository {
 
     /**
      * Repository Pattern: Method name conventions define the query implementation that's
@@ -20,4 +25,15 @@ public interface OwnerRepository extends JpaRepository<Owner, Long> {
      */
 
     Optional<Owner> findByOwnerName(String ownerName); // Example custom query
+
+    /**
+     * Delta sync: owners written in the revision range [from, to], oldest change first.
+     */
+
+    List<Owner> findByRevisionBetweenOrderByRevisionAsc(Long from, Long to, Pageable pageable);
+
+    List<Owner> findByRevision(Long revision);
+
+    @Query("SELECT DISTINCT o FROM Owner o LEFT JOIN FETCH o.ships WHERE o.ownerId IN :ownerIds")
+    List<Owner> findAllWithShipsByIdIn(@Param("ownerIds") Collection<Long> ownerIds);
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.logbook.vessel_management_system.repository;
+
+import java.util.UUID;
+
+/**
+ * Repository fragment exposing the revision clock that orders all writes for the
+ * delta sync API.
+ *
+ * Revisions are handed out in commit order: drawing one increments the single row of
+ * the clock table, and the row lock this takes is held until the drawing transaction
+ * commits or rolls back. A writer therefore cannot draw revision r + 1 before the
+ * writer holding r has finished, so once a reader sees the clock at r every revision
+ * up to r is either committed or gone, and none of them can still appear later.
+ *
+ * The price is that writers are serialized database-wide between their draw and their
+ * commit, which is why callers draw as late as they can.
+ */
+
+public interface RevisionSequence {
+
+    /**
+     * Sequence still used as the column default of ownership link rows; link revisions
+     * are not part of the sync protocol (see V2__add_revisions.sql).
+     */
+
+    String SEQUENCE_NAME = "vms_revision_seq";
+
+    String CLOCK_TABLE = "Revision_Clock_Table";
+
+    /**
+     * Draws the next revision. Callers draw one value per business operation, as late
+     * as they can (writers queue on the clock from here until they commit), and stamp
+     * it on every row that operation touches.
+     */
+
+    long nextRevision();
+
+    /**
+     * Highest revision no in-flight transaction can still write at: every row stamped
+     * with it or below is already visible to a new read.
+     */
+
+    long safeRevision();
+
+    /**
+     * Random id of this database's revision history. Bulk loads outside the service layer
+     * (which write at revision 0, or into tables emptied without tombstones) replace it,
+     * so state recorded at some revision can tell that it no longer describes this data.
+     */
+
+    UUID databaseId();
+}
@@ -0,0 +1,56 @@
+package com.logbook.vessel_management_system.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.util.UUID;
+
+/**
+ * Repository Pattern: Custom fragment implementation picked up by Spring Data by its
+ * "Impl" suffix. Plain UPDATE and SELECT statements on the one-row clock table work
+ * the same on PostgreSQL in production and H2 in tests.
+ */
+
+public class RevisionSequenceImpl implements RevisionSequence {
+
+    private static final String INCREMENT_SQL = "UPDATE " + CLOCK_TABLE + " SET Revision = Revision + 1 WHERE Id = 1";
+    private static final String READ_SQL = "SELECT Revision FROM " + CLOCK_TABLE + " WHERE Id = 1";
+    private static final String DATABASE_ID_SQL = "SELECT Database_id FROM " + CLOCK_TABLE + " WHERE Id = 1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long nextRevision() {
+        // Naming the table keeps Hibernate from flushing or invalidating anything else
+        int updated = entityManager.createNativeQuery(INCREMENT_SQL)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(CLOCK_TABLE)
+                .executeUpdate();
+        if (updated != 1) {
+            throw new IllegalStateException(CLOCK_TABLE + " must hold exactly one row");
+        }
+        return read();
+    }
+
+    @Override
+    public long safeRevision() {
+        return read();
+    }
+
+    @Override
+    public UUID databaseId() {
+        return UUID.fromString((String) entityManager.createNativeQuery(DATABASE_ID_SQL)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(CLOCK_TABLE)
+                .getSingleResult());
+    }
+
+    private long read() {
+        return ((Number) entityManager.createNativeQuery(READ_SQL)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(CLOCK_TABLE)
+                .getSingleResult()).longValue();
+    }
+}
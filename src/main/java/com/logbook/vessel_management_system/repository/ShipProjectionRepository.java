@@ -0,0 +1,45 @@
+package com.logbook.vessel_management_system.repository;
+
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.ShipField;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment for sparse fieldsets: reads ships straight into DTOs, selecting
+ * only the requested columns and joining only the relations they come from.
+ */
+
+public interface ShipProjectionRepository {
+
+    List<ShipDto> findAllProjected(Set<ShipField> fields);
+
+    Optional<ShipDto> findProjectedById(Long shipId, Set<ShipField> fields);
+
+    /**
+     * Ships with the given ids, in no particular order; ids without a ship are skipped.
+     */
+
+    List<ShipDto> findAllProjectedByIdIn(Collection<Long> shipIds, Set<ShipField> fields);
+
+    /**
+     * Streams the selection as flat rows in ship id order, for writing responses as
+     * they are read. Each row holds the ship id, then the selected scalar fields in
+     * {@link ShipField} order, then (if ownerIds is selected) one owner id or null;
+     * a ship with several owners spans consecutive rows. Must be consumed and closed
+     * inside a transaction.
+     */
+
+    Stream<Object[]> streamProjected(Set<ShipField> fields, int fetchSize);
+
+    /**
+     * As {@link #streamProjected}, with the ship's revision appended to every row, for
+     * in-memory models that must know how current each loaded ship is.
+     */
+
+    Stream<Object[]> streamProjectedWithRevision(Set<ShipField> fields, int fetchSize);
+}
@@ -0,0 +1,160 @@
+package com.logbook.vessel_management_system.repository;
+
+import com.logbook.vessel_management_system.dto.LongIdSet;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.ShipField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Repository Pattern: Custom fragment implementation picked up by Spring Data by its
+ * "Impl" suffix. The JPQL is assembled from the selected fields: Category_Table is
+ * only joined for shipType/shipTonnage and owner ids are read with a second query
+ * over the link table only when ownerIds is selected. The ship id is always read
+ * to assemble the result.
+ */
+
+public class ShipProjectionRepositoryImpl implements ShipProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ShipDto> findAllProjected(Set<ShipField> fields) {
+        return project(fields, null);
+    }
+
+    @Override
+    public Optional<ShipDto> findProjectedById(Long shipId, Set<ShipField> fields) {
+        return project(fields, List.of(shipId)).stream().findFirst();
+    }
+
+    @Override
+    public List<ShipDto> findAllProjectedByIdIn(Collection<Long> shipIds, Set<ShipField> fields) {
+        return shipIds.isEmpty() ? new ArrayList<>() : project(fields, shipIds);
+    }
+
+    @Override
+    public Stream<Object[]> streamProjected(Set<ShipField> fields, int fetchSize) {
+        return stream(fields, false, fetchSize);
+    }
+
+    @Override
+    public Stream<Object[]> streamProjectedWithRevision(Set<ShipField> fields, int fetchSize) {
+        return stream(fields, true, fetchSize);
+    }
+
+    private Stream<Object[]> stream(Set<ShipField> fields, boolean withRevision, int fetchSize) {
+        StringBuilder jpql = new StringBuilder("SELECT s.id");
+        if (fields.contains(ShipField.SHIP_NAME)) {
+            jpql.append(", s.shipName");
+        }
+        if (fields.contains(ShipField.IMO_NUMBER)) {
+            jpql.append(", s.imoNumber");
+        }
+        if (fields.contains(ShipField.SHIP_TYPE)) {
+            jpql.append(", d.shipType");
+        }
+        if (fields.contains(ShipField.SHIP_TONNAGE)) {
+            jpql.append(", d.shipTonnage");
+        }
+        if (fields.contains(ShipField.OWNER_IDS)) {
+            jpql.append(", o.ownerId");
+        }
+        if (withRevision) {
+            jpql.append(", s.revision");
+        }
+        jpql.append(" FROM Ship s");
+        if (ShipField.needsDetails(fields)) {
+            jpql.append(" LEFT JOIN s.details d");
+        }
+        if (fields.contains(ShipField.OWNER_IDS)) {
+            jpql.append(" LEFT JOIN s.owners o");
+        }
+        jpql.append(" ORDER BY s.id");
+
+        return entityManager.createQuery(jpql.toString(), Object[].class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private List<ShipDto> project(Set<ShipField> fields, Collection<Long> shipIds) {
+        boolean details = ShipField.needsDetails(fields);
+        StringBuilder jpql = new StringBuilder("SELECT s.id AS shipId");
+        if (fields.contains(ShipField.SHIP_NAME)) {
+            jpql.append(", s.shipName AS shipName");
+        }
+        if (fields.contains(ShipField.IMO_NUMBER)) {
+            jpql.append(", s.imoNumber AS imoNumber");
+        }
+        if (fields.contains(ShipField.SHIP_TYPE)) {
+            jpql.append(", d.shipType AS shipType");
+        }
+        if (fields.contains(ShipField.SHIP_TONNAGE)) {
+            jpql.append(", d.shipTonnage AS shipTonnage");
+        }
+        jpql.append(" FROM Ship s");
+        if (details) {
+            jpql.append(" LEFT JOIN s.details d");
+        }
+        if (shipIds != null) {
+            jpql.append(" WHERE s.id IN :shipIds");
+        }
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        if (shipIds != null) {
+            query.setParameter("shipIds", shipIds);
+        }
+
+        List<ShipDto> ships = new ArrayList<>();
+        for (Tuple row : query.getResultList()) {
+            ShipDto dto = new ShipDto();
+            dto.setId(row.get("shipId", Long.class));
+            if (fields.contains(ShipField.SHIP_NAME)) {
+                dto.setShipName(row.get("shipName", String.class));
+            }
+            if (fields.contains(ShipField.IMO_NUMBER)) {
+                dto.setImoNumber(row.get("imoNumber", String.class));
+            }
+            if (fields.contains(ShipField.SHIP_TYPE)) {
+                dto.setShipType(row.get("shipType", String.class));
+            }
+            if (fields.contains(ShipField.SHIP_TONNAGE)) {
+                dto.setShipTonnage(row.get("shipTonnage", Integer.class));
+            }
+            ships.add(dto);
+        }
+
+        if (fields.contains(ShipField.OWNER_IDS) && !ships.isEmpty()) {
+            // Only the owner id is referenced, so Hibernate reads it from the link table's foreign key
+            TypedQuery<Object[]> owners = entityManager.createQuery(
+                    "SELECT s.id, o.ownerId FROM Ship s JOIN s.owners o" + (shipIds != null ? " WHERE s.id IN :shipIds" : ""),
+                    Object[].class);
+            if (shipIds != null) {
+                owners.setParameter("shipIds", shipIds);
+            }
+            Map<Long, LongIdSet.Builder> ownerIds = new HashMap<>();
+            for (Object[] link : owners.getResultList()) {
+                ownerIds.computeIfAbsent((Long) link[0], id -> LongIdSet.builder(2)).add((Long) link[1]);
+            }
+            for (ShipDto dto : ships) {
+                LongIdSet.Builder builder = ownerIds.get(dto.getId());
+                dto.setOwnerIds(builder != null ? builder.build() : LongIdSet.of());
+            }
+        }
+        return ships;
+    }
+}
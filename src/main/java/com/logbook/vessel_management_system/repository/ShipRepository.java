@@ -1,10 +1,15 @@
 package com.logbook.vessel_management_system.repository;
 
 import com.logbook.vessel_management_system.entity.Ship;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,7 +19,7 @@ import java.util.Optional;
  */
 
 @Repository
-public interface ShipRepository extends JpaRepository<Ship, Long> { // Ship ID is Long
+public interface ShipRepository extends JpaRepository<Ship, Long>, ShipProjectionRepository { // Ship ID is Long
 
      /**
       * Repository Pattern: Custom query method that demonstrates how the repository pattern
@@ -25,10 +30,71 @@ public interface ShipRepository extends JpaRepository<Ship, Long> { // Ship ID i
      @Query("SELECT s FROM Ship s LEFT JOIN FETCH s.details LEFT JOIN FETCH s.owners WHERE s.id = :shipId")
      Optional<Ship> findByIdWithDetailsAndOwners(@Param("shipId") Long shipId);
 
+     /**
+      * Write paths: locks the ship's row until the transaction ends, so the before-image a
+      * write captures is the state it replaces, then initializes details and owners. The
+      * lock is taken on Ships_Table alone because PostgreSQL cannot lock the nullable side
+      * of the outer joins that fetch the relations.
+      */
+
+     default Optional<Ship> findByIdWithDetailsAndOwnersForUpdate(Long shipId) {
+         return findByIdForUpdate(shipId).flatMap(ship -> findByIdWithDetailsAndOwners(shipId));
+     }
+
+     @Lock(LockModeType.PESSIMISTIC_WRITE)
+     @Query("SELECT s FROM Ship s WHERE s.id = :shipId")
+     Optional<Ship> findByIdForUpdate(@Param("shipId") Long shipId);
+
+     /**
+      * Locks every ship of the owner, in id order so that concurrent writers queue
+      * instead of deadlocking. Relations are not fetched here; see
+      * {@link #findAllWithDetailsAndOwnersByIdIn}.
+      */
+
+     @Lock(LockModeType.PESSIMISTIC_WRITE)
+     @Query("SELECT s FROM Ship s WHERE s.id IN (SELECT owned.id FROM Owner o JOIN o.ships owned WHERE o.ownerId = :ownerId) ORDER BY s.id")
+     List<Ship> findAllByOwnerIdForUpdate(@Param("ownerId") Long ownerId);
+
      /**
       * Repository Pattern: Method name conventions are used to automatically generate query
       * implementations, abstracting the data access details.
       */
 
      Optional<Ship> findByImoNumber(String imoNumber);
+
+     /**
+      * Delta sync: ships written in the revision range [from, to], oldest change first.
+      * Relations are not fetched here; see {@link #findAllWithDetailsAndOwnersByIdIn}.
+      */
+
+     List<Ship> findByRevisionBetweenOrderByRevisionAsc(Long from, Long to, Pageable pageable);
+
+     List<Ship> findByRevision(Long revision);
+
+     /**
+      * Initializes details and owners for an already selected page of ships in a single
+      * query, avoiding both per-row lazy loads and in-memory pagination of a collection fetch.
+      */
+
+     @Query("SELECT DISTINCT s FROM Ship s LEFT JOIN FETCH s.details LEFT JOIN FETCH s.owners WHERE s.id IN :shipIds")
+     List<Ship> findAllWithDetailsAndOwnersByIdIn(@Param("shipIds") Collection<Long> shipIds);
+
+     /**
+      * Ids of the largest ships, largest first and ties by id; ships without a tonnage are
+      * left out. Reads the first entries of the V5 tonnage index rather than sorting.
+      */
+
+     @Query(value = "SELECT c.Ship_id FROM Category_Table c WHERE c.Ship_tonnage IS NOT NULL"
+             + " ORDER BY c.Ship_tonnage DESC, c.Ship_id LIMIT :limit", nativeQuery = true)
+     List<Long> findLargestShipIds(@Param("limit") int limit);
+
+     @Query(value = "SELECT c.Ship_id FROM Category_Table c JOIN Ship_Type_Table t ON t.Type_id = c.Ship_type_id"
+             + " WHERE t.Type_name = :shipType AND c.Ship_tonnage IS NOT NULL"
+             + " ORDER BY c.Ship_tonnage DESC, c.Ship_id LIMIT :limit", nativeQuery = true)
+     List<Long> findLargestShipIdsByType(@Param("shipType") String shipType, @Param("limit") int limit);
+
+     @Query(value = "SELECT c.Ship_id FROM Category_Table c JOIN Ship_Ownership_Link_Table l ON l.Ship_Id_FK = c.Ship_id"
+             + " WHERE l.Owner_Id_FK = :ownerId AND c.Ship_tonnage IS NOT NULL"
+             + " ORDER BY c.Ship_tonnage DESC, c.Ship_id LIMIT :limit", nativeQuery = true)
+     List<Long> findLargestShipIdsByOwner(@Param("ownerId") Long ownerId, @Param("limit") int limit);
 }
\ No newline at end of file
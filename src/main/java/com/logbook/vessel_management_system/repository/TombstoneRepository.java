@@ -0,0 +1,21 @@
+package com.logbook.vessel_management_system.repository;
+
+import com.logbook.vessel_management_system.entity.Tombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository Pattern: Stores deletion markers and hands out revisions from the
+ * shared revision clock (via the {@link RevisionSequence} fragment).
+ */
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long>, RevisionSequence {
+
+    List<Tombstone> findByRevisionBetweenOrderByRevisionAsc(Long from, Long to, Pageable pageable);
+
+    List<Tombstone> findByRevision(Long revision);
+}
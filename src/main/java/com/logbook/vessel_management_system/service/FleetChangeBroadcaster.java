@@ -0,0 +1,297 @@
+// src/main/java/com/logbook/vessel_management_system/service/FleetChangeBroadcaster.java
+package com.logbook.vessel_management_system.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Observer Pattern: Fans committed fleet changes out to Server-Sent Events subscribers.
+ *
+ * Connections are held with servlet async processing, so an idle subscriber costs
+ * a socket and a small buffer rather than a thread. Each event is serialized once
+ * and appended to a shared history ring used for Last-Event-ID resume; every
+ * subscriber additionally gets a bounded queue that a small dispatcher pool drains.
+ * A subscriber whose queue overflows is disconnected instead of slowing everyone else
+ * down, and can reconnect with Last-Event-ID to pick up where it left off.
+ *
+ * Event ids are "{stream}-{sequence}", where the stream id is drawn when this instance
+ * starts: an id from before a restart or from another instance cannot be mistaken for
+ * a position in this history and gets a "reset" instead.
+ *
+ * A blocking socket write cannot be interrupted, so dispatchers never write themselves:
+ * each write runs on a writer thread and the dispatcher waits for it at most
+ * vms.changes.send-timeout-ms. A subscriber whose write takes longer is disconnected and
+ * its writer is left to the container's own write timeout, so a stuck client delays
+ * the others by one send timeout at most. Heartbeats are queued like events, so the
+ * shared scheduler thread never touches a socket either.
+ */
+
+@Slf4j
+@Component
+public class FleetChangeBroadcaster {
+
+    static final String RESET_EVENT = "reset";
+
+    private static final ChangeRecord HEARTBEAT = new ChangeRecord(0, "heartbeat", "");
+
+    private final ObjectMapper objectMapper;
+    private final int subscriberBufferSize;
+    private final Long emitterTimeoutMs;
+    private final long sendTimeoutMs;
+    private final String streamId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    private final ChangeRecord[] history;
+    private long lastEventId = 0;
+    private final Object historyLock = new Object();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher;
+    // Unbounded, but a writer is only ever busy for a subscriber being drained
+    private final ExecutorService writers;
+
+    public FleetChangeBroadcaster(ObjectMapper objectMapper,
+                                  @Value("${vms.changes.history-size:4096}") int historySize,
+                                  @Value("${vms.changes.subscriber-buffer-size:256}") int subscriberBufferSize,
+                                  @Value("${vms.changes.emitter-timeout-ms:0}") long emitterTimeoutMs,
+                                  @Value("${vms.changes.dispatcher-threads:2}") int dispatcherThreads,
+                                  @Value("${vms.changes.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.history = new ChangeRecord[historySize];
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "fleet-changes-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger writerCounter = new AtomicInteger();
+        this.writers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fleet-changes-writer-" + writerCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registers a new subscriber. When the client supplies the id of the last event
+     * it saw, everything newer that is still in the history ring is replayed first;
+     * if the gap can no longer be filled, or the id is not one of this stream's, a
+     * single "reset" event tells the client to reload the full lists instead.
+     */
+
+    public SseEmitter subscribe(String lastEventIdHeader) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, subscriberBufferSize);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        synchronized (historyLock) {
+            if (lastEventIdHeader != null && !lastEventIdHeader.isBlank()) {
+                resume(subscriber, parseEventId(lastEventIdHeader));
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Only committed changes are broadcast, so subscribers never see a write that
+     * was rolled back afterwards.
+     */
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFleetChange(FleetChangeEvent event) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize {} for change stream", event, e);
+            return;
+        }
+
+        synchronized (historyLock) {
+            ChangeRecord record = new ChangeRecord(++lastEventId, event.getEventName(), json);
+            history[(int) (record.id() % history.length)] = record;
+            for (Subscriber subscriber : subscribers) {
+                enqueue(subscriber, record);
+            }
+        }
+    }
+
+    /**
+     * Periodic comment line that keeps intermediaries from closing idle connections
+     * and surfaces dead peers as write errors. Only queued here, so the shared
+     * scheduler thread never blocks on a socket; subscribers with events pending need
+     * no heartbeat.
+     */
+
+    @Scheduled(fixedDelayString = "${vms.changes.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue().isEmpty() && subscriber.queue().offer(HEARTBEAT)) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        writers.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter().complete();
+        }
+        subscribers.clear();
+    }
+
+    /**
+     * Must hold the history lock. A negative position (an id of another stream) or one
+     * ahead of this history means the client's state cannot be related to it.
+     */
+
+    private void resume(Subscriber subscriber, long resumeFrom) {
+        if (resumeFrom < 0 || resumeFrom > lastEventId) {
+            reset(subscriber);
+        } else if (resumeFrom < lastEventId) {
+            replay(subscriber, resumeFrom);
+        }
+    }
+
+    private void reset(Subscriber subscriber) {
+        subscriber.queue().offer(new ChangeRecord(lastEventId, RESET_EVENT, "{}"));
+    }
+
+    private void replay(Subscriber subscriber, long resumeFrom) {
+        long oldestRetained = Math.max(1, lastEventId - history.length + 1);
+        long missed = lastEventId - resumeFrom;
+        if (resumeFrom + 1 < oldestRetained || missed > subscriberBufferSize) {
+            reset(subscriber);
+            return;
+        }
+        for (long id = resumeFrom + 1; id <= lastEventId; id++) {
+            subscriber.queue().offer(history[(int) (id % history.length)]);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, ChangeRecord record) {
+        if (!subscriber.queue().offer(record)) {
+            log.info("Disconnecting slow change stream subscriber after {} buffered events", subscriberBufferSize);
+            disconnect(subscriber);
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining().compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            ChangeRecord record;
+            while ((record = subscriber.queue().poll()) != null) {
+                ChangeRecord next = record;
+                Future<?> write = writers.submit(() -> {
+                    send(subscriber, next);
+                    return null;
+                });
+                write.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException e) {
+            log.info("Disconnecting change stream subscriber blocked in a write for more than {} ms", sendTimeoutMs);
+            disconnect(subscriber);
+            return;
+        } catch (ExecutionException e) {
+            disconnect(subscriber);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            subscriber.draining().set(false);
+        }
+        // An event may have been enqueued after the last poll but before the flag was cleared
+        if (!subscriber.queue().isEmpty() && subscribers.contains(subscriber)) {
+            schedule(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, ChangeRecord record) throws IOException {
+        if (record == HEARTBEAT) {
+            subscriber.emitter().send(SseEmitter.event().comment("keep-alive"));
+        } else {
+            subscriber.emitter().send(SseEmitter.event()
+                    .id(streamId + "-" + record.id())
+                    .name(record.eventName())
+                    .data(record.json(), MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.queue().clear();
+            subscriber.emitter().complete();
+        }
+    }
+
+    /**
+     * Position of an event id of this stream, or -1 for anything else.
+     */
+
+    private long parseEventId(String header) {
+        String id = header.trim();
+        String prefix = streamId + "-";
+        if (!id.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(id.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    record ChangeRecord(long id, String eventName, String json) {
+    }
+
+    private record Subscriber(SseEmitter emitter, ArrayBlockingQueue<ChangeRecord> queue, AtomicBoolean draining) {
+        Subscriber(SseEmitter emitter, int bufferSize) {
+            this(emitter, new ArrayBlockingQueue<>(bufferSize), new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,174 @@
+// src/main/java/com/logbook/vessel_management_system/service/FleetJsonStreamer.java
+package com.logbook.vessel_management_system.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbook.vessel_management_system.diagnostics.RequestTimings;
+import com.logbook.vessel_management_system.dto.OwnerField;
+import com.logbook.vessel_management_system.dto.ShipField;
+import com.logbook.vessel_management_system.dto.SparseFields;
+import com.logbook.vessel_management_system.repository.OwnerRepository;
+import com.logbook.vessel_management_system.repository.ShipRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Writes the ship and owner lists as JSON while the rows are read, instead of
+ * building the DTO list and then the response body in memory.
+ *
+ * Iterator Pattern: Rows come from a forward-only result stream fetched in chunks of
+ * vms.streaming.fetch-size and go straight into a Jackson JsonGenerator on the
+ * response stream, so memory stays flat however large the fleet is and no DTOs are
+ * created. The output has the same shape as the serialized DTOs, including the
+ * ?fields= selection. Field names are pre-encoded once.
+ */
+
+@Service
+public class FleetJsonStreamer {
+
+    private static final SerializableString[] SHIP_FIELD_NAMES = names(ShipField.values());
+    private static final SerializableString[] OWNER_FIELD_NAMES = names(OwnerField.values());
+
+    private final ShipRepository shipRepository;
+    private final OwnerRepository ownerRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public FleetJsonStreamer(ShipRepository shipRepository,
+                             OwnerRepository ownerRepository,
+                             ObjectMapper objectMapper,
+                             @Value("${vms.streaming.fetch-size:500}") int fetchSize) {
+        this.shipRepository = shipRepository;
+        this.ownerRepository = ownerRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public void writeShips(Set<ShipField> fields, OutputStream out) throws IOException {
+        SerializableString[] scalars = Arrays.stream(ShipField.values())
+                .filter(field -> field != ShipField.ID && field != ShipField.OWNER_IDS && fields.contains(field))
+                .map(field -> SHIP_FIELD_NAMES[field.ordinal()])
+                .toArray(SerializableString[]::new);
+        try (Stream<Object[]> rows = shipRepository.streamProjected(fields, fetchSize)) {
+            write(rows.iterator(), out,
+                    fields.contains(ShipField.ID) ? SHIP_FIELD_NAMES[ShipField.ID.ordinal()] : null,
+                    scalars,
+                    fields.contains(ShipField.OWNER_IDS) ? SHIP_FIELD_NAMES[ShipField.OWNER_IDS.ordinal()] : null);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeOwners(Set<OwnerField> fields, OutputStream out) throws IOException {
+        SerializableString[] scalars = fields.contains(OwnerField.OWNER_NAME)
+                ? new SerializableString[] { OWNER_FIELD_NAMES[OwnerField.OWNER_NAME.ordinal()] }
+                : new SerializableString[0];
+        try (Stream<Object[]> rows = ownerRepository.streamProjected(fields, fetchSize)) {
+            write(rows.iterator(), out,
+                    fields.contains(OwnerField.OWNER_ID) ? OWNER_FIELD_NAMES[OwnerField.OWNER_ID.ordinal()] : null,
+                    scalars,
+                    fields.contains(OwnerField.SHIP_IDS) ? OWNER_FIELD_NAMES[OwnerField.SHIP_IDS.ordinal()] : null);
+        }
+    }
+
+    /**
+     * Writes rows of the form [id, scalars..., childId] as an array of objects, merging
+     * consecutive rows with the same id into one object whose child ids form an array.
+     * Time spent pulling rows from the result stream is reported as the {@code db}
+     * Server-Timing phase and the rest as {@code ser}, so the two never overlap.
+     */
+
+    private void write(Iterator<Object[]> rows, OutputStream out, SerializableString idName,
+                       SerializableString[] scalarNames, SerializableString childrenName) throws IOException {
+        RequestTimings timings = RequestTimings.current();
+        long start = RequestTimings.start();
+        long fetchNanos = 0;
+        try (JsonGenerator json = objectMapper.createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            int childColumn = scalarNames.length + 1;
+            Object currentId = null;
+            json.writeStartArray();
+            while (true) {
+                long fetchStart = 0;
+                long databaseNanos = 0;
+                if (timings != null) {
+                    fetchStart = System.nanoTime();
+                    databaseNanos = timings.getNanos(RequestTimings.Phase.DB);
+                }
+                Object[] row = rows.hasNext() ? rows.next() : null;
+                if (timings != null) {
+                    fetchNanos += timings.addFetchTime(fetchStart, databaseNanos);
+                }
+                if (row == null) {
+                    break;
+                }
+                if (!row[0].equals(currentId)) {
+                    if (currentId != null) {
+                        endObject(json, childrenName);
+                    }
+                    currentId = row[0];
+                    json.writeStartObject();
+                    if (idName != null) {
+                        json.writeFieldName(idName);
+                        writeValue(json, row[0]);
+                    }
+                    for (int i = 0; i < scalarNames.length; i++) {
+                        json.writeFieldName(scalarNames[i]);
+                        writeValue(json, row[i + 1]);
+                    }
+                    if (childrenName != null) {
+                        json.writeFieldName(childrenName);
+                        json.writeStartArray();
+                    }
+                }
+                if (childrenName != null && row[childColumn] != null) {
+                    writeValue(json, row[childColumn]);
+                }
+            }
+            if (currentId != null) {
+                endObject(json, childrenName);
+            }
+            json.writeEndArray();
+        } finally {
+            // Fetching is already counted as db
+            RequestTimings.stop(RequestTimings.Phase.SERIALIZE, start + fetchNanos);
+        }
+    }
+
+    private static void endObject(JsonGenerator json, SerializableString childrenName) throws IOException {
+        if (childrenName != null) {
+            json.writeEndArray();
+        }
+        json.writeEndObject();
+    }
+
+    private static void writeValue(JsonGenerator json, Object value) throws IOException {
+        if (value == null) {
+            json.writeNull();
+        } else if (value instanceof Long number) {
+            json.writeNumber(number);
+        } else if (value instanceof Integer number) {
+            json.writeNumber(number);
+        } else {
+            json.writeString(value.toString());
+        }
+    }
+
+    private static SerializableString[] names(SparseFields.Field[] fields) {
+        SerializableString[] names = new SerializableString[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            names[i] = new SerializedString(fields[i].getJsonName());
+        }
+        return names;
+    }
+}
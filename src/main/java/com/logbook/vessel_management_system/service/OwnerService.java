@@ -1,7 +1,9 @@
 package com.logbook.vessel_management_system.service;
 
 import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.OwnerField;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Facade Pattern: Provides a simplified interface for owner management operations,
@@ -10,6 +12,7 @@ import java.util.List;
 
 public interface OwnerService {
     List<OwnerDto> getAllOwners();
+    List<OwnerDto> getAllOwners(Set<OwnerField> fields);
     OwnerDto createOwner(OwnerDto ownerDto); // Example: if you want to create owners
     void deleteOwner(Long ownerId);
 }
\ No newline at end of file
@@ -1,16 +1,24 @@
 package com.logbook.vessel_management_system.service;
 
+import com.logbook.vessel_management_system.diagnostics.RequestTimings;
+import com.logbook.vessel_management_system.dto.LongIdSet;
 import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.OwnerField;
+import com.logbook.vessel_management_system.dto.ShipDto;
 import com.logbook.vessel_management_system.entity.Owner;
 import com.logbook.vessel_management_system.entity.Ship;
+import com.logbook.vessel_management_system.entity.Tombstone;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
 import com.logbook.vessel_management_system.exception.ResourceNotFoundException;
 import com.logbook.vessel_management_system.repository.OwnerRepository;
 import com.logbook.vessel_management_system.repository.ShipRepository;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet; 
 import java.util.List;
 import java.util.Set;     
 import java.util.stream.Collectors;
@@ -27,10 +35,13 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "vms.service", description = "Time spent in owner service operations")
 public class OwnerServiceImpl implements OwnerService {
 
     private final OwnerRepository ownerRepository;
     private final ShipRepository shipRepository; // Now used
+    private final TombstoneRepository tombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Proxy Pattern: The @Transactional annotation triggers Spring to create a proxy
@@ -44,10 +55,24 @@ public class OwnerServiceImpl implements OwnerService {
     @Transactional(readOnly = true)
     public List<OwnerDto> getAllOwners() {
         return ownerRepository.findAll().stream()
-                .map(this::mapToOwnerDto)
+                .map(OwnerServiceImpl::mapToOwnerDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Sparse fieldsets: a partial selection is read as a projection, so the
+     * ownership links are only queried when shipIds is requested.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OwnerDto> getAllOwners(Set<OwnerField> fields) {
+        if (fields.size() == OwnerField.values().length) {
+            return getAllOwners();
+        }
+        return ownerRepository.findAllProjected(fields);
+    }
+
     /**
      * Command Pattern: Executes a specific operation (creating an owner)
      * that changes the state of the system.
@@ -60,8 +85,12 @@ public class OwnerServiceImpl implements OwnerService {
             throw new IllegalArgumentException("Owner with name " + ownerDto.getOwnerName() + " already exists.");
         }
         Owner owner = new Owner(ownerDto.getOwnerName());
+        long revision = tombstoneRepository.nextRevision();
+        owner.setRevision(revision);
         Owner savedOwner = ownerRepository.save(owner);
-        return mapToOwnerDto(savedOwner);
+        OwnerDto createdOwner = mapToOwnerDto(savedOwner);
+        eventPublisher.publishEvent(FleetChangeEvent.ownerCreated(createdOwner, revision));
+        return createdOwner;
     }
 
     /**
@@ -76,16 +105,26 @@ public class OwnerServiceImpl implements OwnerService {
         Owner owner = ownerRepository.findById(ownerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Owner", "id", ownerId));
 
-        
-        Set<Ship> shipsOwned = new HashSet<>(owner.getShips());
+        // Lock the owner's ships before capturing their before-images, then load their relations in one query
+        List<Ship> shipsOwned = shipRepository.findAllByOwnerIdForUpdate(ownerId);
+        if (!shipsOwned.isEmpty()) {
+            shipRepository.findAllWithDetailsAndOwnersByIdIn(shipsOwned.stream().map(Ship::getId).collect(Collectors.toList()));
+        }
+
+        long revision = tombstoneRepository.nextRevision();
         for (Ship ship : shipsOwned) {
-            
+            ShipDto previousShip = ShipServiceImpl.mapToShipDto(ship);
             ship.removeOwner(owner);
+            ship.setRevision(revision);
             shipRepository.save(ship); 
+            // The ship's owner list changed, so subscribers see it as an update
+            eventPublisher.publishEvent(FleetChangeEvent.shipUpdated(previousShip, ShipServiceImpl.mapToShipDto(ship), revision));
         }
         
 
         ownerRepository.delete(owner);
+        tombstoneRepository.save(new Tombstone(Tombstone.OWNER, ownerId, revision));
+        eventPublisher.publishEvent(FleetChangeEvent.ownerDeleted(ownerId, revision));
     }
 
     /**
@@ -93,17 +132,24 @@ public class OwnerServiceImpl implements OwnerService {
      * for the presentation layer, keeping entity details internal.
      */
 
-    private OwnerDto mapToOwnerDto(Owner owner) {
-        OwnerDto dto = new OwnerDto();
-        dto.setOwnerId(owner.getOwnerId());
-        dto.setOwnerName(owner.getOwnerName());
-        if (owner.getShips() != null) {
-            dto.setShipIds(owner.getShips().stream()
-                              .map(Ship::getId)
-                              .collect(Collectors.toSet()));
-        } else {
-            dto.setShipIds(new HashSet<>());
+    static OwnerDto mapToOwnerDto(Owner owner) {
+        long start = RequestTimings.start();
+        try {
+            OwnerDto dto = new OwnerDto();
+            dto.setOwnerId(owner.getOwnerId());
+            dto.setOwnerName(owner.getOwnerName());
+            if (owner.getShips() != null) {
+                LongIdSet.Builder shipIds = LongIdSet.builder(owner.getShips().size());
+                for (Ship ship : owner.getShips()) {
+                    shipIds.add(ship.getId());
+                }
+                dto.setShipIds(shipIds.build());
+            } else {
+                dto.setShipIds(LongIdSet.of());
+            }
+            return dto;
+        } finally {
+            RequestTimings.stop(RequestTimings.Phase.MAP, start);
         }
-        return dto;
     }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+// src/main/java/com/logbook/vessel_management_system/service/RegistryShipService.java
+package com.logbook.vessel_management_system.service;
+
+import com.logbook.vessel_management_system.dto.CreateShipRequest;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.ShipField;
+import com.logbook.vessel_management_system.dto.UpdateShipRequest;
+import com.logbook.vessel_management_system.readmodel.ShipRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Decorator Pattern: Serves getShipById from the off-heap {@link ShipRegistry} and
+ * hands everything else, and every registry miss, to ShipServiceImpl. Being @Primary,
+ * it is what controllers and the warm-up receive when they ask for a ShipService.
+ */
+
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "vms.ship-registry", name = "enabled", havingValue = "true")
+public class RegistryShipService implements ShipService {
+
+    private final ShipServiceImpl delegate;
+    private final ShipRegistry shipRegistry;
+
+    @Override
+    public List<ShipDto> getAllShips() {
+        return delegate.getAllShips();
+    }
+
+    @Override
+    public List<ShipDto> getAllShips(Set<ShipField> fields) {
+        return delegate.getAllShips(fields);
+    }
+
+    @Override
+    public ShipDto getShipById(Long shipId) {
+        return shipRegistry.findById(shipId).orElseGet(() -> delegate.getShipById(shipId));
+    }
+
+    /**
+     * Unselected fields are cleared, as the projection query would leave them, so that
+     * formats the sparse-fieldset filter does not reach (protobuf) get the same selection.
+     */
+
+    @Override
+    public ShipDto getShipById(Long shipId, Set<ShipField> fields) {
+        return shipRegistry.findById(shipId)
+                .map(ship -> retain(ship, fields))
+                .orElseGet(() -> delegate.getShipById(shipId, fields));
+    }
+
+    @Override
+    public ShipDto createShip(CreateShipRequest request) {
+        return delegate.createShip(request);
+    }
+
+    @Override
+    public ShipDto updateShip(Long shipId, UpdateShipRequest request) {
+        return delegate.updateShip(shipId, request);
+    }
+
+    @Override
+    public void deleteShip(Long shipId) {
+        delegate.deleteShip(shipId);
+    }
+
+    private static ShipDto retain(ShipDto ship, Set<ShipField> fields) {
+        if (!fields.contains(ShipField.SHIP_NAME)) {
+            ship.setShipName(null);
+        }
+        if (!fields.contains(ShipField.IMO_NUMBER)) {
+            ship.setImoNumber(null);
+        }
+        if (!fields.contains(ShipField.SHIP_TYPE)) {
+            ship.setShipType(null);
+        }
+        if (!fields.contains(ShipField.SHIP_TONNAGE)) {
+            ship.setShipTonnage(null);
+        }
+        if (!fields.contains(ShipField.OWNER_IDS)) {
+            ship.setOwnerIds(null);
+        }
+        return ship;
+    }
+}
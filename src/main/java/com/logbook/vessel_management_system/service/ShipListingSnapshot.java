@@ -0,0 +1,233 @@
+// src/main/java/com/logbook/vessel_management_system/service/ShipListingSnapshot.java
+package com.logbook.vessel_management_system.service;
+
+import com.logbook.vessel_management_system.dto.ShipField;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import com.logbook.vessel_management_system.warmup.WarmupParticipant;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Materialized view of the full ship listing: the complete JSON body of
+ * {@code GET /api/v1/ships}, plus a gzipped copy, kept as byte arrays and served
+ * with a strong ETag instead of being rebuilt for every caller.
+ *
+ * Observer Pattern: Committed ship changes mark the snapshot stale and schedule a
+ * rebuild on a background thread. The rebuild is debounced: it runs
+ * vms.ship-snapshot.debounce-ms after the first change and includes every change up
+ * to that point. Until then callers keep getting the previous snapshot, so that
+ * delay plus the rebuild time is the stale window, published as
+ * vms.snapshot.ships.stale. The rebuild time is vms.snapshot.ships.rebuild.
+ */
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "vms.ship-snapshot", name = "enabled", havingValue = "true")
+public class ShipListingSnapshot implements WarmupParticipant {
+
+    /**
+     * One immutable generation of the listing.
+     */
+
+    public record Snapshot(byte[] json, byte[] gzip, String etag, String gzipEtag) {
+    }
+
+    private final FleetJsonStreamer fleetJsonStreamer;
+    private final long debounceMs;
+    private final Timer rebuildTimer;
+    private final ScheduledExecutorService rebuilder;
+
+    private final AtomicLong changes = new AtomicLong();
+    private final AtomicLong staleSinceNanos = new AtomicLong();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private volatile Snapshot current;
+
+    public ShipListingSnapshot(FleetJsonStreamer fleetJsonStreamer,
+                               MeterRegistry meterRegistry,
+                               @Value("${vms.ship-snapshot.debounce-ms:250}") long debounceMs) {
+        this.fleetJsonStreamer = fleetJsonStreamer;
+        this.debounceMs = debounceMs;
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ship-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.rebuildTimer = Timer.builder("vms.snapshot.ships.rebuild")
+                .description("Time to rebuild the serialized ship listing")
+                .register(meterRegistry);
+        Gauge.builder("vms.snapshot.ships.stale", this, ShipListingSnapshot::staleSeconds)
+                .description("Seconds since the first ship change not yet in the served listing (0 when current)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("vms.snapshot.ships.size", this, snapshot -> snapshot.current != null ? snapshot.current.json().length : 0)
+                .description("Size of the serialized ship listing")
+                .tag("encoding", "identity")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("vms.snapshot.ships.size", this, snapshot -> snapshot.current != null ? snapshot.current.gzip().length : 0)
+                .description("Size of the serialized ship listing")
+                .tag("encoding", "gzip")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getWarmupName() {
+        return "ship listing snapshot";
+    }
+
+    @Override
+    public void warmUp() {
+        rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (current == null) {
+            scheduleRebuild(0);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFleetChange(FleetChangeEvent event) {
+        // Owner deletions arrive as ship updates; a new owner does not change the listing
+        if (event.getEntityType() != FleetChangeEvent.EntityType.SHIP) {
+            return;
+        }
+        changes.incrementAndGet();
+        staleSinceNanos.compareAndSet(0, System.nanoTime());
+        scheduleRebuild(debounceMs);
+    }
+
+    /**
+     * Writes the snapshot if one exists: 304 when If-None-Match matches, otherwise the
+     * gzipped bytes for clients that accept gzip and the plain JSON for the rest, each
+     * in a single write. Returns false when no snapshot has been built yet.
+     */
+
+    public boolean serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            return false;
+        }
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(gzip ? snapshot.gzipEtag() : snapshot.etag())) {
+            return true;
+        }
+
+        byte[] body = gzip ? snapshot.gzip() : snapshot.json();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        return true;
+    }
+
+    Snapshot current() {
+        return current;
+    }
+
+    /**
+     * Serializes the full listing through the streaming writer and swaps it in.
+     * Synchronized so that a warm-up build and a scheduled one do not overlap.
+     */
+
+    synchronized void rebuild() {
+        long startNanos = System.nanoTime();
+        long changesAtStart = changes.get();
+        long staleSinceAtStart = staleSinceNanos.get();
+
+        Snapshot previous = current;
+        ByteArrayOutputStream json = new ByteArrayOutputStream(previous != null ? previous.json().length + 4096 : 64 * 1024);
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream(previous != null ? previous.gzip().length + 1024 : 16 * 1024);
+        try {
+            fleetJsonStreamer.writeShips(EnumSet.allOf(ShipField.class), json);
+            byte[] jsonBytes = json.toByteArray();
+            try (GZIPOutputStream out = new GZIPOutputStream(gzip, 64 * 1024)) {
+                out.write(jsonBytes);
+            }
+            String digest = HexFormat.of().formatHex(Arrays.copyOf(sha256(jsonBytes), 16));
+            current = new Snapshot(jsonBytes, gzip.toByteArray(), "\"" + digest + "\"", "\"" + digest + "-gzip\"");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rebuildTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        if (changes.get() == changesAtStart) {
+            staleSinceNanos.compareAndSet(staleSinceAtStart, 0);
+        } else {
+            // Changes committed during the build are not in it; their rebuild is already scheduled
+            staleSinceNanos.set(startNanos);
+        }
+    }
+
+    private void scheduleRebuild(long delayMs) {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuilder.schedule(this::runScheduledRebuild, delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void runScheduledRebuild() {
+        // Changes from here on schedule the next rebuild
+        rebuildScheduled.set(false);
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild the ship listing snapshot; serving the previous one", e);
+        }
+    }
+
+    private double staleSeconds() {
+        long since = staleSinceNanos.get();
+        return since == 0 ? 0 : (System.nanoTime() - since) / 1e9;
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+}
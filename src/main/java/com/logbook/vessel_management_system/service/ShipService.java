@@ -3,9 +3,11 @@ package com.logbook.vessel_management_system.service;
 
 import com.logbook.vessel_management_system.dto.CreateShipRequest;
 import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.ShipField;
 import com.logbook.vessel_management_system.dto.UpdateShipRequest;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Facade Pattern: Provides a simplified interface for ship management operations,
@@ -14,7 +16,9 @@ import java.util.List;
 
 public interface ShipService {
     List<ShipDto> getAllShips();
+    List<ShipDto> getAllShips(Set<ShipField> fields);
     ShipDto getShipById(Long shipId);
+    ShipDto getShipById(Long shipId, Set<ShipField> fields);
     ShipDto createShip(CreateShipRequest request);
     ShipDto updateShip(Long shipId, UpdateShipRequest request);
     void deleteShip(Long shipId);
@@ -1,16 +1,24 @@
 // src/main/java/com/logbook/vessel_management_system/service/ShipServiceImpl.java
 package com.logbook.vessel_management_system.service;
 
+import com.logbook.vessel_management_system.diagnostics.RequestTimings;
 import com.logbook.vessel_management_system.dto.CreateShipRequest;
+import com.logbook.vessel_management_system.dto.LongIdSet;
 import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.ShipField;
 import com.logbook.vessel_management_system.dto.UpdateShipRequest;
 import com.logbook.vessel_management_system.entity.Owner;
 import com.logbook.vessel_management_system.entity.Ship;
 import com.logbook.vessel_management_system.entity.ShipCategoryDetails;
+import com.logbook.vessel_management_system.entity.Tombstone;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
 import com.logbook.vessel_management_system.exception.ResourceNotFoundException;
 import com.logbook.vessel_management_system.repository.OwnerRepository;
 import com.logbook.vessel_management_system.repository.ShipRepository;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,10 +39,14 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "vms.service", description = "Time spent in ship service operations")
 public class ShipServiceImpl implements ShipService {
 
     private final ShipRepository shipRepository;
     private final OwnerRepository ownerRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final ShipTypeDictionary shipTypeDictionary;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Template Method Pattern: Concrete implementation of an abstract operation
@@ -48,10 +60,24 @@ public class ShipServiceImpl implements ShipService {
     @Transactional(readOnly = true)
     public List<ShipDto> getAllShips() {
         return shipRepository.findAll().stream()
-                .map(this::mapToShipDto)
+                .map(ShipServiceImpl::mapToShipDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Sparse fieldsets: a partial selection is read as a projection so that
+     * relations nobody asked for are neither joined nor lazily loaded.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ShipDto> getAllShips(Set<ShipField> fields) {
+        if (fields.size() == ShipField.values().length) {
+            return getAllShips();
+        }
+        return shipRepository.findAllProjected(fields);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ShipDto getShipById(Long shipId) {
@@ -60,6 +86,16 @@ public class ShipServiceImpl implements ShipService {
         return mapToShipDto(ship);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ShipDto getShipById(Long shipId, Set<ShipField> fields) {
+        if (fields.size() == ShipField.values().length) {
+            return getShipById(shipId);
+        }
+        return shipRepository.findProjectedById(shipId, fields)
+                .orElseThrow(() -> new ResourceNotFoundException("Ship", "id", shipId));
+    }
+
     /**
      * Facade Pattern: Hides the complexity of fetching data from repositories
      * and mapping between entities and DTOs.
@@ -74,9 +110,13 @@ public class ShipServiceImpl implements ShipService {
             throw new IllegalArgumentException("Ship with IMO number " + request.getImoNumber() + " already exists.");
         }
 
+        long revision = tombstoneRepository.nextRevision();
         Ship ship = new Ship(request.getShipName(), request.getImoNumber());
+        ship.setRevision(revision);
 
         if (request.getShipType() != null || request.getShipTonnage() != null) {
+            // New type names join the dictionary in this transaction, before anything is flushed
+            shipTypeDictionary.register(request.getShipType());
             ShipCategoryDetails details = new ShipCategoryDetails(request.getShipType(), request.getShipTonnage());
             ship.setDetails(details);
         }
@@ -86,11 +126,14 @@ public class ShipServiceImpl implements ShipService {
             Set<Owner> owners = findAndValidateOwners(request.getOwnerIds());
             for (Owner owner : owners) {
                 ship.addOwner(owner); 
+                owner.setRevision(revision); // owner's ship list changed
             }
         }
 
         Ship savedShip = shipRepository.save(ship);
-        return mapToShipDto(savedShip);
+        ShipDto createdShip = mapToShipDto(savedShip);
+        eventPublisher.publishEvent(FleetChangeEvent.shipCreated(createdShip, revision));
+        return createdShip;
     }
 
      /**
@@ -101,13 +144,18 @@ public class ShipServiceImpl implements ShipService {
     @Override
     @Transactional
     public ShipDto updateShip(Long shipId, UpdateShipRequest request) {
-        Ship ship = shipRepository.findById(shipId)
+        // Locked until commit: a concurrent write to this ship waits, so the before-image is exact
+        Ship ship = shipRepository.findByIdWithDetailsAndOwnersForUpdate(shipId)
                 .orElseThrow(() -> new ResourceNotFoundException("Ship", "id", shipId));
 
+        ShipDto previousShip = mapToShipDto(ship);
+        long revision = tombstoneRepository.nextRevision();
         ship.setShipName(request.getShipName());
+        ship.setRevision(revision);
 
         ShipCategoryDetails details = ship.getDetails();
         if (request.getShipType() != null || request.getShipTonnage() != null) {
+            shipTypeDictionary.register(request.getShipType());
             if (details == null) {
                 details = new ShipCategoryDetails();
                 ship.setDetails(details);
@@ -121,34 +169,44 @@ public class ShipServiceImpl implements ShipService {
             Set<Owner> currentOwners = new HashSet<>(ship.getOwners());
             for (Owner owner : currentOwners) {
                 ship.removeOwner(owner);
+                owner.setRevision(revision);
             }
             
             // Add new owners
             Set<Owner> newOwners = findAndValidateOwners(request.getOwnerIds());
             for (Owner owner : newOwners) {
                 ship.addOwner(owner);
+                owner.setRevision(revision);
             }
         }
 
         Ship updatedShip = shipRepository.save(ship);
         
         // Fetch again with details for the response DTO
-        return mapToShipDto(shipRepository.findByIdWithDetailsAndOwners(updatedShip.getId()).get());
+        ShipDto updatedShipDto = mapToShipDto(shipRepository.findByIdWithDetailsAndOwners(updatedShip.getId()).get());
+        eventPublisher.publishEvent(FleetChangeEvent.shipUpdated(previousShip, updatedShipDto, revision));
+        return updatedShipDto;
     }
 
     @Override
     @Transactional
     public void deleteShip(Long shipId) {
-        Ship ship = shipRepository.findById(shipId)
+        Ship ship = shipRepository.findByIdWithDetailsAndOwnersForUpdate(shipId)
                 .orElseThrow(() -> new ResourceNotFoundException("Ship", "id", shipId));
                 
+        ShipDto previousShip = mapToShipDto(ship);
+        long revision = tombstoneRepository.nextRevision();
+
         // Remove all owner relationships before deleting the ship
         Set<Owner> currentOwners = new HashSet<>(ship.getOwners());
         for (Owner owner : currentOwners) {
             ship.removeOwner(owner);
+            owner.setRevision(revision);
         }
         
         shipRepository.delete(ship);
+        tombstoneRepository.save(new Tombstone(Tombstone.SHIP, shipId, revision));
+        eventPublisher.publishEvent(FleetChangeEvent.shipDeleted(previousShip, revision));
     }
 
     private Set<Owner> findAndValidateOwners(Set<Long> ownerIds) {
@@ -169,26 +227,37 @@ public class ShipServiceImpl implements ShipService {
      * Adapter Pattern: Helper method that adapts/transforms the Ship entity into
      * a ShipDto for the presentation layer. This isolates the internal data model
      * from what's exposed through the API.
+     *
+     * Package-private and static so that other services in this package can
+     * reuse the exact same mapping without depending on this implementation.
      */
 
-    private ShipDto mapToShipDto(Ship ship) {
-        ShipDto dto = new ShipDto();
-        dto.setId(ship.getId());
-        dto.setShipName(ship.getShipName());
-        dto.setImoNumber(ship.getImoNumber());
+    static ShipDto mapToShipDto(Ship ship) {
+        long start = RequestTimings.start();
+        try {
+            ShipDto dto = new ShipDto();
+            dto.setId(ship.getId());
+            dto.setShipName(ship.getShipName());
+            dto.setImoNumber(ship.getImoNumber());
 
-        if (ship.getDetails() != null) {
-            dto.setShipType(ship.getDetails().getShipType());
-            dto.setShipTonnage(ship.getDetails().getShipTonnage());
-        }
+            if (ship.getDetails() != null) {
+                dto.setShipType(ship.getDetails().getShipType());
+                dto.setShipTonnage(ship.getDetails().getShipTonnage());
+            }
 
-        if (ship.getOwners() != null) {
-            dto.setOwnerIds(ship.getOwners().stream()
-                                .map(Owner::getOwnerId)
-                                .collect(Collectors.toSet()));
-        } else {
-            dto.setOwnerIds(new HashSet<>());
+            if (ship.getOwners() != null) {
+                // Primitive id set: no boxed Long or hash node per owner
+                LongIdSet.Builder ownerIds = LongIdSet.builder(ship.getOwners().size());
+                for (Owner owner : ship.getOwners()) {
+                    ownerIds.add(owner.getOwnerId());
+                }
+                dto.setOwnerIds(ownerIds.build());
+            } else {
+                dto.setOwnerIds(LongIdSet.of());
+            }
+            return dto;
+        } finally {
+            RequestTimings.stop(RequestTimings.Phase.MAP, start);
         }
-        return dto;
     }
 }
\ No newline at end of file
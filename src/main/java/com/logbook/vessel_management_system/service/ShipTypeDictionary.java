@@ -0,0 +1,225 @@
+// src/main/java/com/logbook/vessel_management_system/service/ShipTypeDictionary.java
+package com.logbook.vessel_management_system.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Intern cache over Ship_Type_Table, the dictionary behind Category_Table.Ship_type_id.
+ *
+ * Flyweight Pattern: Each ship type name is held once, with its small-integer id. Reads
+ * translate the id back with an array lookup, so every ShipDto of a type shares one
+ * String instance.
+ *
+ * New names are added by the service layer through {@link #register} before anything
+ * is flushed, in the caller's own transaction: a rolled-back write leaves no type
+ * behind, and the converter that runs during flush only ever looks names up. A name
+ * added by a transaction still in progress is visible to that transaction alone and
+ * joins the shared cache once it commits. Names are capped at
+ * vms.ship-types.max-name-length characters and the dictionary at
+ * vms.ship-types.max-types entries, well inside the SMALLINT id space.
+ *
+ * An id this node has not seen (added by another node or the fleet generator) reloads
+ * the whole table, which only holds a few dozen rows, over the caller's connection.
+ */
+
+@Slf4j
+@Service
+public class ShipTypeDictionary {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxTypes;
+    private final int maxNameLength;
+
+    private final ConcurrentMap<String, Short> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[0];
+
+    public ShipTypeDictionary(JdbcTemplate jdbcTemplate,
+                              @Value("${vms.ship-types.max-types:1000}") int maxTypes,
+                              @Value("${vms.ship-types.max-name-length:100}") int maxNameLength) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxTypes = Math.min(maxTypes, Short.MAX_VALUE);
+        this.maxNameLength = maxNameLength;
+    }
+
+    /**
+     * Dictionary id for the type name, adding the name if it is new; null for null.
+     * Must run inside the transaction that will store the id.
+     *
+     * @throws IllegalArgumentException when the name is blank or too long, or the
+     *         dictionary is full
+     */
+
+    public Short register(String name) {
+        if (name == null) {
+            return null;
+        }
+        Short id = lookUp(name);
+        if (id != null) {
+            return id;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Ship types must be registered inside the writing transaction");
+        }
+        if (name.isBlank() || name.length() > maxNameLength) {
+            throw new IllegalArgumentException("Ship type must be 1 to " + maxNameLength + " characters long.");
+        }
+
+        List<Short> existing = findId(name);
+        if (existing.isEmpty()) {
+            Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Ship_Type_Table", Integer.class);
+            if (count != null && count >= maxTypes) {
+                throw new IllegalArgumentException("Unknown ship type '" + name + "': the dictionary already holds "
+                        + maxTypes + " types.");
+            }
+            // Waits for a concurrent writer adding the same name, then finds its row
+            jdbcTemplate.update("INSERT INTO Ship_Type_Table (Type_name) VALUES (?) ON CONFLICT (Type_name) DO NOTHING", name);
+            existing = findId(name);
+        }
+        id = existing.get(0);
+        pending().put(name, id);
+        log.debug("Ship type '{}' has dictionary id {}", name, id);
+        return id;
+    }
+
+    /**
+     * Dictionary id for a name already registered; null for null. Used while flushing,
+     * so it never writes.
+     */
+
+    public Short idOf(String name) {
+        if (name == null) {
+            return null;
+        }
+        Short id = lookUp(name);
+        if (id == null) {
+            throw new IllegalStateException("Ship type '" + name + "' was not registered before the flush");
+        }
+        return id;
+    }
+
+    /**
+     * The shared name instance for a dictionary id; null for null.
+     */
+
+    public String nameOf(Short id) {
+        if (id == null) {
+            return null;
+        }
+        String[] current = names;
+        if (id >= 0 && id < current.length && current[id] != null) {
+            return current[id];
+        }
+        return resolve(id);
+    }
+
+    /**
+     * The shared instance of a registered type name.
+     */
+
+    public String intern(String name) {
+        return nameOf(idOf(name));
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    private Short lookUp(String name) {
+        Short id = ids.get(name);
+        if (id == null) {
+            Map<String, Short> added = pendingIfBound();
+            id = added != null ? added.get(name) : null;
+        }
+        return id;
+    }
+
+    private List<Short> findId(String name) {
+        return jdbcTemplate.queryForList("SELECT Type_id FROM Ship_Type_Table WHERE Type_name = ?", Short.class, name);
+    }
+
+    /**
+     * Names this transaction added; they join the shared cache after commit.
+     */
+
+    private Map<String, Short> pending() {
+        Map<String, Short> added = pendingIfBound();
+        if (added == null) {
+            Map<String, Short> bound = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bound.forEach((name, id) -> cache(id, name));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ShipTypeDictionary.this);
+                }
+            });
+            added = bound;
+        }
+        return added;
+    }
+
+    private String resolve(short id) {
+        if (id >= 0) {
+            Map<String, Short> added = pendingIfBound();
+            if (added != null) {
+                for (Map.Entry<String, Short> entry : added.entrySet()) {
+                    if (entry.getValue() == id) {
+                        return entry.getKey();
+                    }
+                }
+            }
+            // Plain JDBC on the caller's connection: no new connection and no re-entry into the session.
+            // Names this transaction added stay out of the shared cache until it commits
+            jdbcTemplate.query("SELECT Type_id, Type_name FROM Ship_Type_Table", (RowCallbackHandler) row -> {
+                String name = row.getString(2);
+                if (added == null || !added.containsKey(name)) {
+                    cache(row.getShort(1), name);
+                }
+            });
+        }
+        String[] current = names;
+        if (id < 0 || id >= current.length || current[id] == null) {
+            throw new IllegalStateException("Ship type id " + id + " is not in Ship_Type_Table");
+        }
+        return current[id];
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Short> pendingIfBound() {
+        return (Map<String, Short>) TransactionSynchronizationManager.getResource(this);
+    }
+
+    /**
+     * Copy-on-write, so nameOf reads the array without locking; the monitor only
+     * covers the copy, never a database call.
+     */
+
+    private synchronized void cache(short id, String name) {
+        String[] current = names;
+        if (id < current.length && current[id] != null) {
+            // Keep the instance already handed out
+            return;
+        }
+        String[] updated = Arrays.copyOf(current, id < current.length ? current.length : Math.max(id + 1, current.length * 2));
+        updated[id] = name;
+        ids.put(name, id);
+        names = updated;
+    }
+}
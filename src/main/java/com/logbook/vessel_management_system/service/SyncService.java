@@ -0,0 +1,19 @@
+// src/main/java/com/logbook/vessel_management_system/service/SyncService.java
+package com.logbook.vessel_management_system.service;
+
+import com.logbook.vessel_management_system.dto.SyncChangesDto;
+
+/**
+ * Facade Pattern: Incremental synchronization for downstream systems, so that
+ * keeping a replica current costs in proportion to churn rather than fleet size.
+ */
+
+public interface SyncService {
+
+    /**
+     * Revision to sync from to receive the whole data set, including rows at revision 0.
+     */
+    long FROM_START = -1L;
+
+    SyncChangesDto getChangesSince(long sinceRevision, int limit);
+}
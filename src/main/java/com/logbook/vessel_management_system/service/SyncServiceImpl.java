@@ -0,0 +1,154 @@
+// src/main/java/com/logbook/vessel_management_system/service/SyncServiceImpl.java
+package com.logbook.vessel_management_system.service;
+
+import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.SyncChangesDto;
+import com.logbook.vessel_management_system.dto.TombstoneDto;
+import com.logbook.vessel_management_system.entity.Owner;
+import com.logbook.vessel_management_system.entity.Ship;
+import com.logbook.vessel_management_system.entity.Tombstone;
+import com.logbook.vessel_management_system.repository.OwnerRepository;
+import com.logbook.vessel_management_system.repository.ShipRepository;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the SyncService interface.
+ *
+ * Every write in the service layer stamps the rows it touches with a revision from a
+ * single database sequence, and deletions leave a tombstone at their revision. A page
+ * is built by reading up to {@code limit} rows past the client's revision from each of
+ * the three sources and cutting all of them at the lowest revision where any source
+ * ran out of room, so the page is always complete up to {@code toRevision}.
+ *
+ * Rows that predate revision tracking, and rows loaded outside the service layer,
+ * carry revision 0. A client starting from scratch therefore syncs from
+ * {@link SyncService#FROM_START} (-1), which is the only negative revision accepted.
+ *
+ * Only revisions up to the clock's safe watermark are read: a revision above it may
+ * belong to a transaction that has not committed yet, and handing out a toRevision
+ * past it would make the client skip that transaction's rows for good.
+ */
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "vms.service", description = "Time spent in sync service operations")
+public class SyncServiceImpl implements SyncService {
+
+    public static final int MAX_LIMIT = 5000;
+
+    private final ShipRepository shipRepository;
+    private final OwnerRepository ownerRepository;
+    private final TombstoneRepository tombstoneRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public SyncChangesDto getChangesSince(long sinceRevision, int limit) {
+        if (sinceRevision < FROM_START) {
+            throw new IllegalArgumentException("Revision must be " + FROM_START + " (from the start) or higher.");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        PageRequest page = PageRequest.of(0, limit);
+        long safeRevision = Math.max(sinceRevision, tombstoneRepository.safeRevision());
+
+        List<Ship> ships = shipRepository.findByRevisionBetweenOrderByRevisionAsc(sinceRevision + 1, safeRevision, page);
+        List<Owner> owners = ownerRepository.findByRevisionBetweenOrderByRevisionAsc(sinceRevision + 1, safeRevision, page);
+        List<Tombstone> tombstones = tombstoneRepository.findByRevisionBetweenOrderByRevisionAsc(sinceRevision + 1, safeRevision, page);
+
+        long shipsCap = truncatedAt(ships, limit, Ship::getRevision);
+        long ownersCap = truncatedAt(owners, limit, Owner::getRevision);
+        long tombstonesCap = truncatedAt(tombstones, limit, Tombstone::getRevision);
+        long toRevision = Math.min(shipsCap, Math.min(ownersCap, tombstonesCap));
+        boolean hasMore = toRevision != Long.MAX_VALUE;
+        if (!hasMore) {
+            // Everything up to the watermark has been read, including revisions that touched nothing synced
+            toRevision = safeRevision;
+        }
+
+        // One transaction stamps all its rows with the same revision; never split such a group
+        ships = cut(ships, toRevision, limit, Ship::getRevision, shipRepository::findByRevision);
+        owners = cut(owners, toRevision, limit, Owner::getRevision, ownerRepository::findByRevision);
+        tombstones = cut(tombstones, toRevision, limit, Tombstone::getRevision, tombstoneRepository::findByRevision);
+
+        SyncChangesDto changes = new SyncChangesDto();
+        changes.setFromRevision(sinceRevision);
+        changes.setToRevision(toRevision);
+        changes.setHasMore(hasMore);
+        changes.setShips(loadShips(ships));
+        changes.setOwners(loadOwners(owners));
+        changes.setDeletions(tombstones.stream().map(this::mapToTombstoneDto).collect(Collectors.toList()));
+        return changes;
+    }
+
+    private static <T> List<T> cut(List<T> rows, long toRevision, int limit,
+                                   Function<T, Long> revisionOf, LongFunction<List<T>> findByRevision) {
+        List<T> kept = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            if (revisionOf.apply(row) < toRevision) {
+                kept.add(row);
+            }
+        }
+        if (rows.size() == limit && lastRevision(rows, revisionOf) == toRevision) {
+            // This source was truncated inside the boundary revision; fetch that revision whole
+            kept.addAll(findByRevision.apply(toRevision));
+        } else {
+            for (T row : rows) {
+                if (revisionOf.apply(row) == toRevision) {
+                    kept.add(row);
+                }
+            }
+        }
+        return kept;
+    }
+
+    private List<ShipDto> loadShips(List<Ship> ships) {
+        if (ships.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // Initializes details and owners of the already loaded entities in one query
+        shipRepository.findAllWithDetailsAndOwnersByIdIn(ships.stream().map(Ship::getId).collect(Collectors.toList()));
+        return ships.stream().map(ShipServiceImpl::mapToShipDto).collect(Collectors.toList());
+    }
+
+    private List<OwnerDto> loadOwners(List<Owner> owners) {
+        if (owners.isEmpty()) {
+            return new ArrayList<>();
+        }
+        ownerRepository.findAllWithShipsByIdIn(owners.stream().map(Owner::getOwnerId).collect(Collectors.toList()));
+        return owners.stream().map(OwnerServiceImpl::mapToOwnerDto).collect(Collectors.toList());
+    }
+
+    private TombstoneDto mapToTombstoneDto(Tombstone tombstone) {
+        TombstoneDto dto = new TombstoneDto();
+        dto.setEntityType(tombstone.getEntityType());
+        dto.setEntityId(tombstone.getEntityId());
+        dto.setRevision(tombstone.getRevision());
+        return dto;
+    }
+
+    /**
+     * Revision of the last row when the source filled the whole page (so there may be
+     * more beyond it), otherwise Long.MAX_VALUE.
+     */
+
+    private static <T> long truncatedAt(List<T> rows, int limit, Function<T, Long> revisionOf) {
+        return rows.size() == limit ? lastRevision(rows, revisionOf) : Long.MAX_VALUE;
+    }
+
+    private static <T> long lastRevision(List<T> rows, Function<T, Long> revisionOf) {
+        return rows.isEmpty() ? 0L : revisionOf.apply(rows.get(rows.size() - 1));
+    }
+}
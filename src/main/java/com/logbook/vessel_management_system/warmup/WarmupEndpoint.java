@@ -0,0 +1,27 @@
+// src/main/java/com/logbook/vessel_management_system/warmup/WarmupEndpoint.java
+package com.logbook.vessel_management_system.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint (GET /actuator/warmup on the management port): result of the
+ * startup warm-up; 404 when the warm-up is disabled or has not finished.
+ */
+
+@Component
+@Endpoint(id = "warmup")
+@RequiredArgsConstructor
+public class WarmupEndpoint {
+
+    private final ObjectProvider<WarmupRunner> warmupRunner;
+
+    @ReadOperation
+    public WarmupReport warmup() {
+        WarmupRunner runner = warmupRunner.getIfAvailable();
+        return runner != null ? runner.getReport() : null;
+    }
+}
@@ -0,0 +1,15 @@
+// src/main/java/com/logbook/vessel_management_system/warmup/WarmupParticipant.java
+package com.logbook.vessel_management_system.warmup;
+
+/**
+ * A component with state worth loading before the application reports ready, such as
+ * an in-memory cache or read model. Participants are called once by
+ * {@link WarmupRunner}, before the synthetic request loop, in @Order order.
+ */
+
+public interface WarmupParticipant {
+
+    String getWarmupName();
+
+    void warmUp();
+}
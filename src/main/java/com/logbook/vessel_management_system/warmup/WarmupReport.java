@@ -0,0 +1,31 @@
+// src/main/java/com/logbook/vessel_management_system/warmup/WarmupReport.java
+package com.logbook.vessel_management_system.warmup;
+
+import java.util.List;
+
+/**
+ * Outcome of the startup warm-up. The p99 of the first and last window of
+ * getShipById calls (including serialization) shows how much the warm-up took off
+ * the latency the first real requests would otherwise have paid.
+ *
+ * @param iterations         synthetic request iterations executed
+ * @param elapsedMillis      total warm-up time, including participants and pool filling
+ * @param budgetExhausted    true if the time budget ended the warm-up before all iterations ran
+ * @param poolConnections    connections opened in the pool before the request loop
+ * @param participants       warm-up participants that ran (caches, read models)
+ * @param firstWindowP99Micros p99 of the first window of calls
+ * @param lastWindowP99Micros  p99 of the last window of calls
+ * @param p99Improvement     firstWindowP99Micros / lastWindowP99Micros
+ * @param failures           steps that failed (logged; the warm-up went on without them)
+ */
+
+public record WarmupReport(long iterations,
+                           long elapsedMillis,
+                           boolean budgetExhausted,
+                           int poolConnections,
+                           List<String> participants,
+                           long firstWindowP99Micros,
+                           long lastWindowP99Micros,
+                           double p99Improvement,
+                           List<String> failures) {
+}
@@ -0,0 +1,190 @@
+// src/main/java/com/logbook/vessel_management_system/warmup/WarmupRunner.java
+package com.logbook.vessel_management_system.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbook.vessel_management_system.entity.Ship;
+import com.logbook.vessel_management_system.repository.OwnerRepository;
+import com.logbook.vessel_management_system.repository.ShipRepository;
+import com.logbook.vessel_management_system.service.OwnerService;
+import com.logbook.vessel_management_system.service.ShipService;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Warms the JIT, the connection pool and in-memory caches before the readiness probe
+ * reports UP.
+ *
+ * Spring Boot only publishes ReadinessState.ACCEPTING_TRAFFIC after all application
+ * runners have completed, so running here keeps the instance out of the load balancer
+ * until it is warm. The warm-up is read-only: it opens the pool's connections, runs
+ * every {@link WarmupParticipant}, then replays getShipById (and, for fleets small
+ * enough, getAllOwners) through the real service proxies and Jackson until either the
+ * iteration count or the time budget runs out.
+ *
+ * Warm-up only ever delays readiness, it never prevents startup: a failing step (a
+ * brief database error, a participant that cannot load) is logged and listed in the
+ * report, and the remaining steps still run where they can.
+ */
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "vms.warmup", name = "enabled", havingValue = "true")
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final int SAMPLE_SHIPS = 256;
+    private static final int REPORT_WINDOW = 200;
+    private static final int LIST_EVERY = 50;
+
+    private final ShipService shipService;
+    private final OwnerService ownerService;
+    private final ShipRepository shipRepository;
+    private final OwnerRepository ownerRepository;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<WarmupParticipant> participants;
+    private final long budgetNanos;
+    private final int iterations;
+    private final int maxListSize;
+
+    private volatile WarmupReport report;
+
+    public WarmupRunner(ShipService shipService,
+                        OwnerService ownerService,
+                        ShipRepository shipRepository,
+                        OwnerRepository ownerRepository,
+                        DataSource dataSource,
+                        ObjectMapper objectMapper,
+                        ObjectProvider<WarmupParticipant> participants,
+                        @Value("${vms.warmup.budget-ms:20000}") long budgetMillis,
+                        @Value("${vms.warmup.iterations:12000}") int iterations,
+                        @Value("${vms.warmup.max-list-size:5000}") int maxListSize) {
+        this.shipService = shipService;
+        this.ownerService = ownerService;
+        this.shipRepository = shipRepository;
+        this.ownerRepository = ownerRepository;
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.participants = participants;
+        this.budgetNanos = budgetMillis * 1_000_000;
+        this.iterations = iterations;
+        this.maxListSize = maxListSize;
+    }
+
+    public WarmupReport getReport() {
+        return report;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        List<String> failures = new ArrayList<>();
+
+        int connections = 0;
+        try {
+            connections = fillConnectionPool();
+        } catch (Exception e) {
+            failed(failures, "connection pool", e);
+        }
+
+        List<String> participantNames = new ArrayList<>();
+        for (WarmupParticipant participant : participants.orderedStream().toList()) {
+            try {
+                participant.warmUp();
+                participantNames.add(participant.getWarmupName());
+            } catch (Exception e) {
+                failed(failures, participant.getWarmupName(), e);
+            }
+        }
+
+        Histogram firstWindow = new Histogram(3);
+        long[] lastWindow = new long[REPORT_WINDOW];
+        long completed = 0;
+        try {
+            long[] shipIds = shipRepository.findAll(PageRequest.of(0, SAMPLE_SHIPS))
+                    .stream().mapToLong(Ship::getId).toArray();
+            boolean warmLists = ownerRepository.count() <= maxListSize;
+
+            while (completed < iterations && System.nanoTime() < deadline) {
+                long callStart = System.nanoTime();
+                if (shipIds.length > 0) {
+                    objectMapper.writeValueAsBytes(shipService.getShipById(shipIds[(int) (completed % shipIds.length)]));
+                }
+                if (warmLists && completed % LIST_EVERY == 0) {
+                    objectMapper.writeValueAsBytes(ownerService.getAllOwners());
+                }
+                long micros = Math.max(1, (System.nanoTime() - callStart) / 1000);
+                if (completed < REPORT_WINDOW) {
+                    firstWindow.recordValue(micros);
+                }
+                lastWindow[(int) (completed % REPORT_WINDOW)] = micros;
+                completed++;
+            }
+        } catch (Exception e) {
+            // A ship deleted since it was sampled fails the same way; stop replaying either way
+            failed(failures, "request replay", e);
+        }
+
+        Histogram lastWindowHistogram = new Histogram(3);
+        for (int i = 0; i < Math.min(completed, REPORT_WINDOW); i++) {
+            lastWindowHistogram.recordValue(lastWindow[i]);
+        }
+        long firstP99 = firstWindow.getValueAtPercentile(99);
+        long lastP99 = lastWindowHistogram.getValueAtPercentile(99);
+        report = new WarmupReport(completed,
+                (System.nanoTime() - start) / 1_000_000,
+                completed < iterations,
+                connections,
+                participantNames,
+                firstP99,
+                lastP99,
+                lastP99 > 0 ? Math.round((double) firstP99 / lastP99 * 10) / 10.0 : 0,
+                failures);
+
+        log.info("Warm-up finished in {} ms: {} iterations{}, {} pool connections, participants {}; p99 {} us in the first {} calls -> {} us in the last {} ({}x); failed steps {}",
+                report.elapsedMillis(), completed, report.budgetExhausted() ? " (budget exhausted)" : "", connections, participantNames,
+                firstP99, REPORT_WINDOW, lastP99, REPORT_WINDOW, report.p99Improvement(), failures);
+    }
+
+    private static void failed(List<String> failures, String step, Exception e) {
+        log.warn("Warm-up step '{}' failed, continuing without it: {}", step, e.toString());
+        failures.add(step + ": " + e);
+    }
+
+    /**
+     * Borrows as many connections as the pool may hold at once, so the first burst of
+     * traffic does not pay for TCP and authentication handshakes.
+     */
+
+    private int fillConnectionPool() throws SQLException {
+        int size = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 1;
+        List<Connection> borrowed = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                borrowed.add(dataSource.getConnection());
+            }
+        } finally {
+            for (Connection connection : borrowed) {
+                connection.close();
+            }
+        }
+        return borrowed.size();
+    }
+}
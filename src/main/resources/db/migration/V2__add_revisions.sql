@@ -0,0 +1,32 @@
+-- V2__add_revisions.sql
+-- Adds revision tracking for the delta sync API (GET /api/v1/sync/changes)
+
+-- Single sequence ordering every write made through the service layer
+CREATE SEQUENCE IF NOT EXISTS vms_revision_seq;
+
+-- Rows that existed before revision tracking start at revision 0,
+-- so a client syncing from -1 (the API's default) receives the full data set once
+ALTER TABLE Ships_Table ADD COLUMN IF NOT EXISTS Revision BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE Owner_Table ADD COLUMN IF NOT EXISTS Revision BIGINT NOT NULL DEFAULT 0;
+
+-- Ownership links are only ever inserted or deleted. Inserts draw their own revision here;
+-- both inserts and deletes also bump the revision of the ship and owners involved,
+-- which is how link changes reach sync clients (as part of ShipDto.ownerIds / OwnerDto.shipIds)
+ALTER TABLE Ship_Ownership_Link_Table ADD COLUMN IF NOT EXISTS Revision BIGINT NOT NULL DEFAULT nextval('vms_revision_seq');
+
+-- Create Tombstone Table (deletion markers)
+CREATE TABLE IF NOT EXISTS Tombstone_Table (
+    Id BIGSERIAL PRIMARY KEY,
+    Entity_type VARCHAR(20) NOT NULL,
+    Entity_id BIGINT NOT NULL,
+    Revision BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_ships_revision ON Ships_Table(Revision);
+CREATE INDEX IF NOT EXISTS idx_owner_revision ON Owner_Table(Revision);
+CREATE INDEX IF NOT EXISTS idx_ownership_revision ON Ship_Ownership_Link_Table(Revision);
+CREATE INDEX IF NOT EXISTS idx_tombstone_revision ON Tombstone_Table(Revision);
+
+COMMENT ON TABLE Tombstone_Table IS 'Deleted ships and owners, kept so delta sync clients can remove them';
+COMMENT ON COLUMN Ships_Table.Revision IS 'Revision of the last write affecting this ship (including its ownership links)';
+COMMENT ON COLUMN Owner_Table.Revision IS 'Revision of the last write affecting this owner (including its ownership links)';
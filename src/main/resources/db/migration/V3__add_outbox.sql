@@ -0,0 +1,16 @@
+-- V3__add_outbox.sql
+-- Transactional outbox for delivering ship and ownership changes to downstream consumers
+
+CREATE TABLE IF NOT EXISTS Outbox_Table (
+    Id BIGSERIAL PRIMARY KEY,
+    Aggregate_type VARCHAR(20) NOT NULL,
+    Aggregate_id BIGINT NOT NULL,
+    Event_type VARCHAR(50) NOT NULL,
+    Payload TEXT NOT NULL,
+    Created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+-- Rows are inserted and deleted at a high rate; keep autovacuum aggressive on this table
+ALTER TABLE Outbox_Table SET (autovacuum_vacuum_scale_factor = 0.01, autovacuum_vacuum_threshold = 1000);
+
+COMMENT ON TABLE Outbox_Table IS 'Changes written in the same transaction as the entity change, drained by the outbox relay';
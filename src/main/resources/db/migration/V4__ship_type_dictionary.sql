@@ -0,0 +1,48 @@
+-- V4__ship_type_dictionary.sql
+-- Replaces the free-text Category_Table.Ship_type with a small-integer reference to a ship type dictionary
+
+CREATE TABLE IF NOT EXISTS Ship_Type_Table (
+    Type_id SMALLSERIAL PRIMARY KEY,
+    Type_name VARCHAR(100) NOT NULL UNIQUE
+);
+
+INSERT INTO Ship_Type_Table (Type_name)
+SELECT DISTINCT Ship_type FROM Category_Table WHERE Ship_type IS NOT NULL ORDER BY Ship_type
+ON CONFLICT (Type_name) DO NOTHING;
+
+ALTER TABLE Category_Table ADD COLUMN IF NOT EXISTS Ship_type_id SMALLINT REFERENCES Ship_Type_Table(Type_id);
+
+UPDATE Category_Table c
+SET Ship_type_id = t.Type_id
+FROM Ship_Type_Table t
+WHERE t.Type_name = c.Ship_type;
+
+CREATE INDEX IF NOT EXISTS idx_category_ship_type_id ON Category_Table(Ship_type_id);
+
+-- Ship_type stays for one release, so the previous release keeps working during a rolling deploy or a
+-- rollback; V7__drop_ship_type_text.sql removes it. Until then this trigger keeps both columns in step:
+-- rows written by the previous release (text only) get their id, rows written by this one get their text
+CREATE OR REPLACE FUNCTION sync_category_ship_type() RETURNS trigger AS $$
+BEGIN
+    IF NEW.Ship_type_id IS NULL AND NEW.Ship_type IS NOT NULL THEN
+        INSERT INTO Ship_Type_Table (Type_name) VALUES (NEW.Ship_type) ON CONFLICT (Type_name) DO NOTHING;
+        SELECT Type_id INTO NEW.Ship_type_id FROM Ship_Type_Table WHERE Type_name = NEW.Ship_type;
+    ELSIF NEW.Ship_type_id IS NOT NULL THEN
+        SELECT Type_name INTO NEW.Ship_type FROM Ship_Type_Table WHERE Type_id = NEW.Ship_type_id;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_category_ship_type ON Category_Table;
+CREATE TRIGGER trg_category_ship_type
+    BEFORE INSERT OR UPDATE ON Category_Table
+    FOR EACH ROW EXECUTE FUNCTION sync_category_ship_type();
+
+-- The UPDATE rewrote every row; on a large fleet run VACUUM FULL Category_Table afterwards
+-- (outside a transaction) to return the space of the old versions
+ANALYZE Category_Table;
+
+COMMENT ON TABLE Ship_Type_Table IS 'Dictionary of ship type names, referenced by Category_Table.Ship_type_id';
+COMMENT ON COLUMN Category_Table.Ship_type_id IS 'Ship type, as a Ship_Type_Table id';
+COMMENT ON COLUMN Category_Table.Ship_type IS 'Deprecated: kept in step with Ship_type_id for one release, dropped by V7';
@@ -0,0 +1,15 @@
+-- V5__tonnage_indexes.sql
+-- Indexes for "largest ships" queries (ORDER BY Ship_tonnage DESC, Ship_id LIMIT k), overall and per ship type,
+-- so the top-k fallback reads k index entries instead of sorting Category_Table
+
+-- Ships without a tonnage are never ranked, so they are left out of the index
+CREATE INDEX IF NOT EXISTS idx_category_tonnage
+    ON Category_Table(Ship_tonnage DESC, Ship_id)
+    WHERE Ship_tonnage IS NOT NULL;
+
+-- Leads with the type id, so it also serves plain lookups by type and replaces the single-column index
+CREATE INDEX IF NOT EXISTS idx_category_ship_type_id_tonnage
+    ON Category_Table(Ship_type_id, Ship_tonnage DESC, Ship_id);
+DROP INDEX IF EXISTS idx_category_ship_type_id;
+
+ANALYZE Category_Table;
@@ -0,0 +1,26 @@
+-- V6__revision_clock.sql
+-- Hands out sync revisions in commit order (GET /api/v1/sync/changes)
+
+-- A sequence value is drawn early in a transaction but only becomes visible at commit, so a
+-- reader could see revision r + 1 while r was still in flight and skip r for good. Revisions
+-- now come from this single row instead: incrementing it locks the row until the writer commits,
+-- so the committed value is always a safe watermark for readers.
+-- Cost: this serializes every write made through the service layer across the whole database.
+-- A writer holds the row from the moment it draws a revision until it commits, so concurrent
+-- writers queue behind each other there and write throughput is bounded by the inverse of that
+-- window. Services draw the revision as the last step before commit to keep the window short.
+CREATE TABLE IF NOT EXISTS Revision_Clock_Table (
+    Id SMALLINT PRIMARY KEY CHECK (Id = 1),
+    Revision BIGINT NOT NULL
+);
+
+-- Continue from the highest revision handed out so far
+INSERT INTO Revision_Clock_Table (Id, Revision)
+SELECT 1, GREATEST(
+    (SELECT last_value FROM vms_revision_seq),
+    (SELECT COALESCE(MAX(Revision), 0) FROM Ships_Table),
+    (SELECT COALESCE(MAX(Revision), 0) FROM Owner_Table),
+    (SELECT COALESCE(MAX(Revision), 0) FROM Tombstone_Table))
+ON CONFLICT (Id) DO NOTHING;
+
+COMMENT ON TABLE Revision_Clock_Table IS 'Last revision handed out; its committed value is the sync low-watermark';
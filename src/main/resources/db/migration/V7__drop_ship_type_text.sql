@@ -0,0 +1,8 @@
+-- V7__drop_ship_type_text.sql
+-- Drops the free-text Category_Table.Ship_type that V4__ship_type_dictionary.sql kept for one release.
+-- Apply only once no instance of the release before V4 is running or could be rolled back to.
+
+DROP TRIGGER IF EXISTS trg_category_ship_type ON Category_Table;
+DROP FUNCTION IF EXISTS sync_category_ship_type();
+DROP INDEX IF EXISTS idx_category_ship_type;
+ALTER TABLE Category_Table DROP COLUMN IF EXISTS Ship_type;
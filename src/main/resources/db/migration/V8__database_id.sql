@@ -0,0 +1,12 @@
+-- V8__database_id.sql
+-- Identifies the revision history of this database (FleetSnapshotFile)
+
+-- A snapshot records the revision it is current to, which only means something against the
+-- database it was taken from: another database, or this one emptied and reloaded outside the
+-- service layer (FleetWriter, seed_data.sql), can hold different data at the same revisions.
+-- Those loads replace the id, and a snapshot written under another id is not restored.
+ALTER TABLE Revision_Clock_Table ADD COLUMN IF NOT EXISTS Database_id VARCHAR(36);
+UPDATE Revision_Clock_Table SET Database_id = gen_random_uuid()::text WHERE Database_id IS NULL;
+ALTER TABLE Revision_Clock_Table ALTER COLUMN Database_id SET NOT NULL;
+
+COMMENT ON COLUMN Revision_Clock_Table.Database_id IS 'Random id of this revision history; replaced by bulk loads outside the service layer';
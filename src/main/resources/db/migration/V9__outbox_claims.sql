@@ -0,0 +1,13 @@
+-- V9__outbox_claims.sql
+-- Lets the outbox relay deliver without holding row locks (OutboxRelay)
+
+-- A relay claims a batch in a short transaction by setting Claimed_until, commits, and only
+-- then calls the sink. Other relays skip claimed rows until the claim expires, so a relay that
+-- dies mid-delivery only delays its batch. Delivery stays at-least-once: a batch whose delivery
+-- outlives its claim may be delivered again by another relay.
+ALTER TABLE Outbox_Table ADD COLUMN IF NOT EXISTS Claimed_until TIMESTAMP WITH TIME ZONE;
+
+-- The lag gauge reads min(Created_at) on every poll
+CREATE INDEX IF NOT EXISTS idx_outbox_created_at ON Outbox_Table(Created_at);
+
+COMMENT ON COLUMN Outbox_Table.Claimed_until IS 'Set while a relay delivers the row; NULL or past means claimable';
@@ -103,12 +103,13 @@ SELECT
     s.Ship_name,
     s.Imo_number,
     o.Owner_name,
-    c.Ship_type,
+    t.Type_name AS Ship_type,
     c.Ship_tonnage
 FROM Ships_Table s
 JOIN Ship_Ownership_Link_Table sol ON s.Id = sol.Ship_Id_FK
 JOIN Owner_Table o ON sol.Owner_Id_FK = o.Owner_Id
 LEFT JOIN Category_Table c ON s.Id = c.Ship_id
+LEFT JOIN Ship_Type_Table t ON c.Ship_type_id = t.Type_id
 ORDER BY s.Ship_name, o.Owner_name;
 
 \echo '==================== HEALTH CHECK COMPLETE ===================='
\ No newline at end of file
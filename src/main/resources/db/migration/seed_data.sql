@@ -19,6 +19,13 @@ INSERT INTO Ships_Table (Ship_name, Imo_number) VALUES
     ('Carnival Luminosa', '9398905')
 ON CONFLICT (Imo_number) DO NOTHING;
 
+-- Insert Ship Types
+INSERT INTO Ship_Type_Table (Type_name) VALUES
+    ('Cruise'),
+    ('Crude Oil Tanker'),
+    ('LPG Tanker')
+ON CONFLICT (Type_name) DO NOTHING;
+
 -- Insert Ship Categories (Details)
 DO $do$
 DECLARE
@@ -35,26 +42,26 @@ BEGIN
 
     -- Insert category details
     IF symphony_id IS NOT NULL THEN
-        INSERT INTO Category_Table (Ship_id, Ship_type, Ship_tonnage)
-        VALUES (symphony_id, 'Cruise', 208081) 
+        INSERT INTO Category_Table (Ship_id, Ship_type_id, Ship_tonnage)
+        VALUES (symphony_id, (SELECT Type_id FROM Ship_Type_Table WHERE Type_name = 'Cruise'), 208081) 
         ON CONFLICT (Ship_id) DO NOTHING;
     END IF;
 
     IF eco_arctic_id IS NOT NULL THEN
-        INSERT INTO Category_Table (Ship_id, Ship_type, Ship_tonnage)
-        VALUES (eco_arctic_id, 'Crude Oil Tanker', 19554) 
+        INSERT INTO Category_Table (Ship_id, Ship_type_id, Ship_tonnage)
+        VALUES (eco_arctic_id, (SELECT Type_id FROM Ship_Type_Table WHERE Type_name = 'Crude Oil Tanker'), 19554) 
         ON CONFLICT (Ship_id) DO NOTHING;
     END IF;
 
     IF explorer_spirit_id IS NOT NULL THEN
-        INSERT INTO Category_Table (Ship_id, Ship_type, Ship_tonnage)
-        VALUES (explorer_spirit_id, 'LPG Tanker', 57657) 
+        INSERT INTO Category_Table (Ship_id, Ship_type_id, Ship_tonnage)
+        VALUES (explorer_spirit_id, (SELECT Type_id FROM Ship_Type_Table WHERE Type_name = 'LPG Tanker'), 57657) 
         ON CONFLICT (Ship_id) DO NOTHING;
     END IF;
 
     IF carnival_luminosa_id IS NOT NULL THEN
-        INSERT INTO Category_Table (Ship_id, Ship_type, Ship_tonnage)
-        VALUES (carnival_luminosa_id, 'Cruise', 323872) 
+        INSERT INTO Category_Table (Ship_id, Ship_type_id, Ship_tonnage)
+        VALUES (carnival_luminosa_id, (SELECT Type_id FROM Ship_Type_Table WHERE Type_name = 'Cruise'), 323872) 
         ON CONFLICT (Ship_id) DO NOTHING;
     END IF;
 END $do$;
@@ -116,6 +123,10 @@ BEGIN
     END IF;
 END $do$;
 
+-- The rows above are written at revision 0, so no fleet snapshot taken before them may be
+-- restored: give the database a new id (V8__database_id.sql)
+UPDATE Revision_Clock_Table SET Database_id = gen_random_uuid()::text WHERE Id = 1;
+
 -- Verify data insertion
 \echo 'Seed data insertion complete!'
 \echo 'Verifying data...'
@@ -0,0 +1,132 @@
+// src/test/java/com/logbook/vessel_management_system/controller/BinaryContentNegotiationIntegrationTest.java
+package com.logbook.vessel_management_system.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.logbook.vessel_management_system.converter.FleetProtobufCodec;
+import com.logbook.vessel_management_system.converter.FleetProtobufHttpMessageConverter;
+import com.logbook.vessel_management_system.dto.CreateShipRequest;
+import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.entity.Owner;
+import com.logbook.vessel_management_system.repository.OwnerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@Rollback
+class BinaryContentNegotiationIntegrationTest {
+
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    private Owner owner;
+    private ShipDto ship;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        owner = ownerRepository.save(new Owner("Binary Owner"));
+
+        CreateShipRequest request = new CreateShipRequest();
+        request.setShipName("Binary Ship");
+        request.setImoNumber("5555555");
+        request.setShipType("Cargo");
+        request.setShipTonnage(42000);
+        request.setOwnerIds(Set.of(owner.getOwnerId()));
+
+        String body = mockMvc.perform(post("/api/v1/ships")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        ship = objectMapper.readValue(body, ShipDto.class);
+    }
+
+    @Test
+    void getShipById_AcceptingCbor_ShouldReturnCbor() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/ships/{id}", ship.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(ship, new ObjectMapper(new CBORFactory()).readValue(body, ShipDto.class));
+    }
+
+    @Test
+    void getShipById_AcceptingSmile_ShouldReturnSmile() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/ships/{id}", ship.getId()).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(ship, new ObjectMapper(new SmileFactory()).readValue(body, ShipDto.class));
+    }
+
+    @Test
+    void getAllShips_AcceptingProtobuf_ShouldReturnShipList() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/ships").accept(FleetProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(FleetProtobufHttpMessageConverter.PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<ShipDto> ships = FleetProtobufCodec.readShips(new ByteArrayInputStream(body));
+        assertEquals(List.of(ship), ships);
+    }
+
+    @Test
+    void getShipById_AcceptingProtobuf_WhenMissing_ShouldReturnJsonNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/ships/{id}", Long.MAX_VALUE).accept(FleetProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    @Test
+    void createOwner_WithProtobufBody_ShouldCreateOwner() throws Exception {
+        OwnerDto request = new OwnerDto();
+        request.setOwnerName("Protobuf Owner");
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        FleetProtobufCodec.writeOwner(request, body);
+
+        mockMvc.perform(post("/api/v1/owners")
+                        .contentType(FleetProtobufHttpMessageConverter.PROTOBUF)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(body.toByteArray()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.ownerName").value("Protobuf Owner"));
+    }
+
+    @Test
+    void getShipById_AcceptingAnything_ShouldStillReturnJson() throws Exception {
+        mockMvc.perform(get("/api/v1/ships/{id}", ship.getId()).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+}
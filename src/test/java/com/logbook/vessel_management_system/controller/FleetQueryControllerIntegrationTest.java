@@ -0,0 +1,167 @@
+// src/test/java/com/logbook/vessel_management_system/controller/FleetQueryControllerIntegrationTest.java
+package com.logbook.vessel_management_system.controller;
+
+import com.logbook.vessel_management_system.dto.CreateShipRequest;
+import com.logbook.vessel_management_system.dto.LongIdSet;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.entity.Owner;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import com.logbook.vessel_management_system.readmodel.CommittingRevisions;
+import com.logbook.vessel_management_system.readmodel.ShipReadModel;
+import com.logbook.vessel_management_system.repository.OwnerRepository;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
+import com.logbook.vessel_management_system.service.ShipService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "vms.read-model.enabled=true")
+@AutoConfigureMockMvc
+@Transactional
+@Rollback
+class FleetQueryControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShipService shipService;
+
+    @Autowired
+    private ShipReadModel shipReadModel;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private CommittingRevisions committingRevisions;
+
+    private Owner owner;
+    private ShipDto tanker;
+    private ShipDto bulkCarrier;
+
+    @BeforeEach
+    void setUp() {
+        owner = ownerRepository.save(new Owner("Read Model Owner"));
+        tanker = shipService.createShip(request("Read Model Tanker", "5550001", "Tanker", 150000));
+        bulkCarrier = shipService.createShip(request("Read Model Bulker", "5550002", "Bulk Carrier", 60000));
+        shipService.createShip(request("Read Model Small Tanker", "5550003", "Tanker", 30000));
+        // Rollback tests never commit, so reload from inside the test transaction
+        shipReadModel.load();
+    }
+
+    @Test
+    void findShips_ShouldFilterByOwnerAndSortByTonnageDescending() throws Exception {
+        mockMvc.perform(get("/api/v1/fleet/ships")
+                        .param("ownerId", owner.getOwnerId().toString())
+                        .param("sort", "tonnage")
+                        .param("direction", "desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].shipTonnage", contains(150000, 60000, 30000)))
+                .andExpect(jsonPath("$[0].shipType").value("Tanker"))
+                .andExpect(jsonPath("$[0].ownerIds", contains(owner.getOwnerId().intValue())));
+    }
+
+    @Test
+    void findShips_ShouldCombineTypeAndTonnageFilters() throws Exception {
+        mockMvc.perform(get("/api/v1/fleet/ships")
+                        .param("ownerId", owner.getOwnerId().toString())
+                        .param("shipType", "Tanker")
+                        .param("minTonnage", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(tanker.getId()));
+    }
+
+    @Test
+    void tonnageByType_ShouldAggregatePerType() throws Exception {
+        mockMvc.perform(get("/api/v1/fleet/ship-types").param("ownerId", owner.getOwnerId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].shipType", contains("Bulk Carrier", "Tanker")))
+                .andExpect(jsonPath("$[1].ships").value(2))
+                .andExpect(jsonPath("$[1].totalTonnage").value(180000))
+                .andExpect(jsonPath("$[1].minTonnage").value(30000))
+                .andExpect(jsonPath("$[1].maxTonnage").value(150000))
+                .andExpect(jsonPath("$[1].averageTonnage").value(90000.0));
+    }
+
+    @Test
+    void committedChanges_ShouldBeMergedIntoTheModel() throws Exception {
+        ShipDto retyped = shipReadModel.findById(bulkCarrier.getId()).orElseThrow();
+        retyped.setShipType("Tanker");
+        retyped.setShipTonnage(200000);
+        retyped.setOwnerIds(LongIdSet.of(owner.getOwnerId()));
+
+        // Delivered by the AFTER_COMMIT listener in production
+        shipReadModel.onFleetChange(FleetChangeEvent.shipUpdated(retyped, tombstoneRepository.nextRevision()));
+        shipReadModel.onFleetChange(FleetChangeEvent.shipDeleted(tanker.getId(), tombstoneRepository.nextRevision()));
+        shipReadModel.flush();
+
+        mockMvc.perform(get("/api/v1/fleet/ships")
+                        .param("ownerId", owner.getOwnerId().toString())
+                        .param("shipType", "Tanker")
+                        .param("sort", "tonnage")
+                        .param("direction", "desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].shipTonnage", contains(200000, 30000)))
+                .andExpect(jsonPath("$[0].id").value(bulkCarrier.getId()));
+    }
+
+    @Test
+    void changesDeliveredAfterNewerOnes_ShouldBeIgnored() throws Exception {
+        ShipDto older = shipReadModel.findById(bulkCarrier.getId()).orElseThrow();
+        older.setShipTonnage(1000);
+        List<FleetChangeEvent> changes = List.of(
+                FleetChangeEvent.shipUpdated(older, tombstoneRepository.nextRevision()),
+                FleetChangeEvent.shipUpdated(tanker, tombstoneRepository.nextRevision()),
+                FleetChangeEvent.shipUpdated(bulkCarrier, tombstoneRepository.nextRevision()),
+                FleetChangeEvent.shipDeleted(tanker.getId(), tombstoneRepository.nextRevision()));
+        changes.forEach(committingRevisions::onCommitting);
+
+        // Each newer change overtakes an older one between the two commits
+        shipReadModel.onFleetChange(changes.get(2));
+        shipReadModel.onFleetChange(changes.get(3));
+        shipReadModel.onFleetChange(changes.get(0));
+        shipReadModel.onFleetChange(changes.get(1));
+        shipReadModel.flush();
+        changes.forEach(committingRevisions::onCompleted);
+
+        mockMvc.perform(get("/api/v1/fleet/ships")
+                        .param("ownerId", owner.getOwnerId().toString())
+                        .param("sort", "tonnage")
+                        .param("direction", "desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].shipTonnage", contains(60000, 30000)));
+    }
+
+    @Test
+    void findShips_WithUnknownSortKey_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/fleet/ships").param("sort", "hullColour"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private CreateShipRequest request(String name, String imoNumber, String shipType, int tonnage) {
+        CreateShipRequest request = new CreateShipRequest();
+        request.setShipName(name);
+        request.setImoNumber(imoNumber);
+        request.setShipType(shipType);
+        request.setShipTonnage(tonnage);
+        request.setOwnerIds(Set.of(owner.getOwnerId()));
+        return request;
+    }
+}
@@ -0,0 +1,133 @@
+// src/test/java/com/logbook/vessel_management_system/controller/FleetStatisticsControllerIntegrationTest.java
+package com.logbook.vessel_management_system.controller;
+
+import com.logbook.vessel_management_system.dto.CreateShipRequest;
+import com.logbook.vessel_management_system.dto.LongIdSet;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.entity.Owner;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import com.logbook.vessel_management_system.readmodel.FleetStatistics;
+import com.logbook.vessel_management_system.repository.OwnerRepository;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
+import com.logbook.vessel_management_system.service.ShipService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "vms.fleet-statistics.enabled=true")
+@AutoConfigureMockMvc
+@Transactional
+@Rollback
+class FleetStatisticsControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShipService shipService;
+
+    @Autowired
+    private FleetStatistics fleetStatistics;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    private Owner owner;
+    private ShipDto bulkCarrier;
+
+    @BeforeEach
+    void setUp() {
+        owner = ownerRepository.save(new Owner("Statistics Owner"));
+        shipService.createShip(request("Statistics Tanker", "6660001", "Statistics Tanker", 150000));
+        bulkCarrier = shipService.createShip(request("Statistics Bulker", "6660002", "Statistics Bulker", 60000));
+        shipService.createShip(request("Statistics Small Tanker", "6660003", "Statistics Tanker", 30000));
+        // Rollback tests never commit, so rebuild from inside the test transaction
+        fleetStatistics.rebuild();
+    }
+
+    @Test
+    void tonnage_ByOwner_ShouldReturnQuantilesAndHistogram() throws Exception {
+        mockMvc.perform(get("/api/v1/fleet/statistics/tonnage")
+                        .param("ownerId", owner.getOwnerId().toString())
+                        .param("quantiles", "0,0.5,1")
+                        .param("boundaries", "50000,100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ships").value(3))
+                .andExpect(jsonPath("$.quantiles[0].tonnage", closeTo(30000.0, 300.0)))
+                .andExpect(jsonPath("$.quantiles[1].tonnage", closeTo(60000.0, 600.0)))
+                .andExpect(jsonPath("$.quantiles[2].tonnage", closeTo(150000.0, 1500.0)))
+                .andExpect(jsonPath("$.histogram[*].ships", contains(1, 1, 1)))
+                .andExpect(jsonPath("$.histogram[0].from").value(nullValue()))
+                .andExpect(jsonPath("$.histogram[2].to").value(nullValue()));
+    }
+
+    @Test
+    void committedChanges_ShouldMoveTheShipBetweenGroups() throws Exception {
+        ShipDto retyped = new ShipDto();
+        retyped.setId(bulkCarrier.getId());
+        retyped.setShipType("Statistics Tanker");
+        retyped.setShipTonnage(90000);
+        retyped.setOwnerIds(LongIdSet.of(owner.getOwnerId()));
+
+        // Delivered by the AFTER_COMMIT listener in production
+        fleetStatistics.onFleetChange(FleetChangeEvent.shipUpdated(bulkCarrier, retyped, tombstoneRepository.nextRevision()));
+
+        mockMvc.perform(get("/api/v1/fleet/statistics/tonnage")
+                        .param("shipType", "Statistics Tanker", "Statistics Bulker")
+                        .param("quantiles", "0.5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ships").value(3))
+                .andExpect(jsonPath("$.quantiles[0].tonnage", closeTo(90000.0, 900.0)));
+        mockMvc.perform(get("/api/v1/fleet/statistics/tonnage").param("shipType", "Statistics Bulker"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ships").value(0))
+                .andExpect(jsonPath("$.quantiles[0].tonnage").value(nullValue()));
+    }
+
+    @Test
+    void rebuild_ShouldReportSketchesThatDriftedFromTheDatabase() throws Exception {
+        mockMvc.perform(post("/api/v1/fleet/statistics/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.driftedSketches").value(0));
+
+        // A change the database never saw
+        fleetStatistics.onFleetChange(FleetChangeEvent.shipDeleted(bulkCarrier, tombstoneRepository.nextRevision()));
+
+        mockMvc.perform(post("/api/v1/fleet/statistics/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.driftedSketches", greaterThan(0)));
+    }
+
+    @Test
+    void tonnage_ByTypeAndOwner_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/fleet/statistics/tonnage")
+                        .param("shipType", "Statistics Tanker")
+                        .param("ownerId", owner.getOwnerId().toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private CreateShipRequest request(String name, String imoNumber, String shipType, int tonnage) {
+        CreateShipRequest request = new CreateShipRequest();
+        request.setShipName(name);
+        request.setImoNumber(imoNumber);
+        request.setShipType(shipType);
+        request.setShipTonnage(tonnage);
+        request.setOwnerIds(Set.of(owner.getOwnerId()));
+        return request;
+    }
+}
@@ -0,0 +1,169 @@
+// src/test/java/com/logbook/vessel_management_system/controller/LargestShipsControllerIntegrationTest.java
+package com.logbook.vessel_management_system.controller;
+
+import com.logbook.vessel_management_system.dto.CreateShipRequest;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.UpdateShipRequest;
+import com.logbook.vessel_management_system.entity.Owner;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import com.logbook.vessel_management_system.readmodel.CommittingRevisions;
+import com.logbook.vessel_management_system.readmodel.LargestShips;
+import com.logbook.vessel_management_system.repository.OwnerRepository;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
+import com.logbook.vessel_management_system.service.ShipService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"vms.largest-ships.enabled=true", "vms.largest-ships.capacity=2"})
+@AutoConfigureMockMvc
+@Transactional
+@Rollback
+class LargestShipsControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShipService shipService;
+
+    @Autowired
+    private LargestShips largestShips;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private CommittingRevisions committingRevisions;
+
+    private Owner owner;
+    private ShipDto bulker;
+    private ShipDto smallTanker;
+
+    @BeforeEach
+    void setUp() {
+        owner = ownerRepository.save(new Owner("Largest Ships Owner"));
+        shipService.createShip(request("Largest Tanker", "7770001", "Largest Tanker", 150000));
+        bulker = shipService.createShip(request("Largest Bulker", "7770002", "Largest Bulker", 60000));
+        smallTanker = shipService.createShip(request("Largest Small Tanker", "7770003", "Largest Tanker", 30000));
+        // Rollback tests never commit, so rebuild from inside the test transaction
+        largestShips.rebuild();
+    }
+
+    @Test
+    void largestShips_ByOwner_ShouldReturnTheLargestFirst() throws Exception {
+        mockMvc.perform(get("/api/v1/fleet/largest-ships")
+                        .param("ownerId", owner.getOwnerId().toString())
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].shipName", contains("Largest Tanker", "Largest Bulker")))
+                .andExpect(jsonPath("$[0].shipTonnage").value(150000))
+                .andExpect(jsonPath("$[0].ownerIds", contains(owner.getOwnerId().intValue())));
+    }
+
+    @Test
+    void largestShips_BeyondTheCapacity_ShouldFallBackToTheTonnageIndex() throws Exception {
+        // Three ships against a capacity of two: the owner's group no longer holds all of them
+        mockMvc.perform(get("/api/v1/fleet/largest-ships")
+                        .param("ownerId", owner.getOwnerId().toString())
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].shipTonnage", contains(150000, 60000, 30000)));
+    }
+
+    @Test
+    void committedUpdate_ShouldReRankTheShip() throws Exception {
+        UpdateShipRequest update = new UpdateShipRequest();
+        update.setShipName(smallTanker.getShipName());
+        update.setShipType(smallTanker.getShipType());
+        update.setShipTonnage(200000);
+        update.setOwnerIds(Set.of(owner.getOwnerId()));
+        ShipDto updated = shipService.updateShip(smallTanker.getId(), update);
+
+        // Delivered by the AFTER_COMMIT listener in production; the test transaction sees its own revision
+        largestShips.onFleetChange(FleetChangeEvent.shipUpdated(smallTanker, updated, tombstoneRepository.safeRevision()));
+
+        mockMvc.perform(get("/api/v1/fleet/largest-ships")
+                        .param("shipType", "Largest Tanker")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(smallTanker.getId()))
+                .andExpect(jsonPath("$[0].shipTonnage").value(200000));
+    }
+
+    @Test
+    void changeDeliveredAfterANewerOne_ShouldNotBeApplied() throws Exception {
+        ShipDto retyped = copy(smallTanker, "Largest Bulker", 30000);
+        ShipDto enlarged = copy(smallTanker, "Largest Bulker", 90000);
+        long older = tombstoneRepository.nextRevision();
+        long newer = tombstoneRepository.nextRevision();
+
+        FleetChangeEvent olderChange = FleetChangeEvent.shipUpdated(smallTanker, retyped, older);
+        FleetChangeEvent newerChange = FleetChangeEvent.shipUpdated(retyped, enlarged, newer);
+        committingRevisions.onCommitting(olderChange);
+        committingRevisions.onCommitting(newerChange);
+
+        // The newer change overtakes the older one between the two commits
+        largestShips.onFleetChange(newerChange);
+        largestShips.onFleetChange(olderChange);
+        committingRevisions.onCompleted(newerChange);
+        committingRevisions.onCompleted(olderChange);
+
+        // The late retype still takes the ship out of its old type's group
+        mockMvc.perform(get("/api/v1/fleet/largest-ships")
+                        .param("shipType", "Largest Tanker")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].shipName", contains("Largest Tanker")));
+        // Ranked by the newer change, not the older one's 30000 tonnes
+        mockMvc.perform(get("/api/v1/fleet/largest-ships")
+                        .param("shipType", "Largest Bulker")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(smallTanker.getId().intValue(), bulker.getId().intValue())));
+    }
+
+    @Test
+    void largestShips_ByTypeAndOwner_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/fleet/largest-ships")
+                        .param("shipType", "Largest Tanker")
+                        .param("ownerId", owner.getOwnerId().toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static ShipDto copy(ShipDto ship, String shipType, int tonnage) {
+        ShipDto copy = new ShipDto();
+        copy.setId(ship.getId());
+        copy.setShipName(ship.getShipName());
+        copy.setImoNumber(ship.getImoNumber());
+        copy.setShipType(shipType);
+        copy.setShipTonnage(tonnage);
+        copy.setOwnerIds(ship.getOwnerIds());
+        return copy;
+    }
+
+    private CreateShipRequest request(String name, String imoNumber, String shipType, int tonnage) {
+        CreateShipRequest request = new CreateShipRequest();
+        request.setShipName(name);
+        request.setImoNumber(imoNumber);
+        request.setShipType(shipType);
+        request.setShipTonnage(tonnage);
+        request.setOwnerIds(Set.of(owner.getOwnerId()));
+        return request;
+    }
+}
@@ -0,0 +1,76 @@
+// src/test/java/com/logbook/vessel_management_system/controller/OpenApiSpecIntegrationTest.java
+package com.logbook.vessel_management_system.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Generates the OpenAPI spec from the controllers (runtime springdoc scanning is
+ * enabled in tests) and fails when the committed build-time copy that production
+ * serves statically is missing or differs from it. Only a run with
+ * -PupdateOpenApiSpec=true writes the file.
+ */
+
+@SpringBootTest(properties = {
+        // Same group as production's application.properties, which tests do not load
+        "springdoc.api-docs.path=/api-docs",
+        "springdoc.group-configs[0].group=vessel-management",
+        "springdoc.group-configs[0].paths-to-match=/api/v1/**",
+        // Controllers production enables, so that the spec documents them too
+        "vms.read-model.enabled=true",
+        "vms.fleet-statistics.enabled=true",
+        "vms.largest-ships.enabled=true"
+})
+@AutoConfigureMockMvc
+class OpenApiSpecIntegrationTest {
+
+    static final Path COMMITTED_SPEC = Path.of("src/main/resources/static/openapi/v1/vessel-management.json");
+    static final String UPDATE_COMMAND = "./gradlew test --tests '*OpenApiSpecIntegrationTest' -PupdateOpenApiSpec=true";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void generatedSpec_ShouldMatchCommittedSpec() throws Exception {
+        String generated = mockMvc.perform(get("/api-docs/vessel-management"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode generatedTree = objectMapper.readTree(generated);
+
+        if (Boolean.getBoolean("vms.openapi.update")) {
+            Files.createDirectories(COMMITTED_SPEC.getParent());
+            // Sorted keys keep the committed file's diffs limited to real API changes
+            Map<?, ?> sorted = objectMapper.convertValue(generatedTree, Map.class);
+            Files.writeString(COMMITTED_SPEC, objectMapper.copy()
+                    .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writerWithDefaultPrettyPrinter()
+                    .writeValueAsString(sorted) + System.lineSeparator());
+            return;
+        }
+
+        assertThat(COMMITTED_SPEC)
+                .as("%s is missing; generate it with %s and commit it", COMMITTED_SPEC, UPDATE_COMMAND)
+                .isRegularFile();
+        JsonNode committedTree = objectMapper.readTree(COMMITTED_SPEC.toFile());
+        assertThat(generatedTree)
+                .as("The controllers no longer match %s; regenerate it with %s and commit the result", COMMITTED_SPEC, UPDATE_COMMAND)
+                .isEqualTo(committedTree);
+    }
+}
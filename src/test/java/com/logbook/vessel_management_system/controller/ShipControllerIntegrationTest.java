@@ -20,7 +20,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 // import java.util.HashSet;
-// import java.util.List;
+import java.util.List;
 import java.util.Set;
 // import java.util.stream.Collectors;
 
@@ -300,4 +300,39 @@ class ShipControllerIntegrationTest {
         mockMvc.perform(delete("/api/v1/ships/{shipId}", nonExistentShipId))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetAllShips_StreamedJsonGroupsCoOwners() throws Exception {
+        CreateShipRequest coOwned = new CreateShipRequest();
+        coOwned.setShipName("Co-owned Ship");
+        coOwned.setImoNumber("7777777");
+        coOwned.setOwnerIds(Set.of(testOwner1.getOwnerId(), testOwner2.getOwnerId()));
+
+        CreateShipRequest single = new CreateShipRequest();
+        single.setShipName("Single Owner Ship");
+        single.setImoNumber("8888888");
+        single.setShipType("Tug");
+        single.setShipTonnage(500);
+        single.setOwnerIds(Set.of(testOwner1.getOwnerId()));
+
+        for (CreateShipRequest request : List.of(coOwned, single)) {
+            mockMvc.perform(post("/api/v1/ships")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/v1/ships"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].shipName", is("Co-owned Ship")))
+                .andExpect(jsonPath("$[0].shipType", nullValue()))
+                .andExpect(jsonPath("$[0].ownerIds", containsInAnyOrder(
+                        testOwner1.getOwnerId().intValue(),
+                        testOwner2.getOwnerId().intValue())))
+                .andExpect(jsonPath("$[1].shipName", is("Single Owner Ship")))
+                .andExpect(jsonPath("$[1].shipTonnage", is(500)))
+                .andExpect(jsonPath("$[1].ownerIds", contains(testOwner1.getOwnerId().intValue())));
+    }
+}
@@ -0,0 +1,126 @@
+// src/test/java/com/logbook/vessel_management_system/controller/SparseFieldsetIntegrationTest.java
+package com.logbook.vessel_management_system.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbook.vessel_management_system.diagnostics.SqlBudgetInterceptor;
+import com.logbook.vessel_management_system.diagnostics.SqlStatementStats;
+import com.logbook.vessel_management_system.dto.CreateShipRequest;
+import com.logbook.vessel_management_system.entity.Owner;
+import com.logbook.vessel_management_system.repository.OwnerRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@Rollback
+class SparseFieldsetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Owner owner;
+    private long shipId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        owner = ownerRepository.save(new Owner("Sparse Owner"));
+
+        CreateShipRequest request = new CreateShipRequest();
+        request.setShipName("Sparse Ship");
+        request.setImoNumber("6666666");
+        request.setShipType("Tanker");
+        request.setShipTonnage(80000);
+        request.setOwnerIds(Set.of(owner.getOwnerId()));
+
+        MvcResult created = mockMvc.perform(post("/api/v1/ships")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        shipId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        // Start from an empty persistence context so lazy loads would show up as statements
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getAllShips_WithScalarFields_ShouldPruneJsonAndRelations() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/ships").param("fields", "id,shipName,imoNumber"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(shipId))
+                .andExpect(jsonPath("$[0].shipName").value("Sparse Ship"))
+                .andExpect(jsonPath("$[0].imoNumber").value("6666666"))
+                .andExpect(jsonPath("$[0].shipType").doesNotExist())
+                .andExpect(jsonPath("$[0].shipTonnage").doesNotExist())
+                .andExpect(jsonPath("$[0].ownerIds").doesNotExist())
+                .andReturn();
+
+        // One query over Ships_Table: no details join, no owner lookups
+        SqlStatementStats stats = (SqlStatementStats) result.getRequest().getAttribute(SqlBudgetInterceptor.STATS_ATTRIBUTE);
+        assertThat(stats.getStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getShipById_WithOwnerIds_ShouldReturnOnlySelectedFields() throws Exception {
+        mockMvc.perform(get("/api/v1/ships/{shipId}", shipId).param("fields", "shipTonnage,ownerIds"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.shipTonnage").value(80000))
+                .andExpect(jsonPath("$.ownerIds", contains(owner.getOwnerId().intValue())))
+                .andExpect(jsonPath("$.id").doesNotExist())
+                .andExpect(jsonPath("$.shipName").doesNotExist());
+    }
+
+    @Test
+    void getShipById_WithoutFields_ShouldReturnFullShip() throws Exception {
+        mockMvc.perform(get("/api/v1/ships/{shipId}", shipId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.shipType").value("Tanker"))
+                .andExpect(jsonPath("$.ownerIds", hasSize(1)));
+    }
+
+    @Test
+    void getAllOwners_WithoutShipIds_ShouldNotReadOwnershipLinks() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/owners").param("fields", "ownerId,ownerName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].ownerName", hasItem("Sparse Owner")))
+                .andExpect(jsonPath("$[0].shipIds").doesNotExist())
+                .andReturn();
+
+        SqlStatementStats stats = (SqlStatementStats) result.getRequest().getAttribute(SqlBudgetInterceptor.STATS_ATTRIBUTE);
+        assertThat(stats.getStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getAllShips_WithUnknownField_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/ships").param("fields", "id,hullColour"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("hullColour")));
+    }
+}
@@ -0,0 +1,132 @@
+package com.logbook.vessel_management_system.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbook.vessel_management_system.dto.CreateShipRequest;
+import com.logbook.vessel_management_system.entity.Owner;
+import com.logbook.vessel_management_system.entity.Ship;
+import com.logbook.vessel_management_system.repository.OwnerRepository;
+import com.logbook.vessel_management_system.repository.ShipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@Rollback
+class SyncControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private ShipRepository shipRepository;
+
+    private Owner testOwner;
+
+    @BeforeEach
+    void setUp() {
+        testOwner = ownerRepository.save(new Owner("Sync Test Owner"));
+    }
+
+    @Test
+    void testChangesSince_ReturnsCreatedShipAndLaterTombstone() throws Exception {
+        long startRevision = currentRevision();
+
+        CreateShipRequest request = new CreateShipRequest();
+        request.setShipName("Sync Ship");
+        request.setImoNumber("5555555");
+        request.setShipType("Tanker");
+        request.setShipTonnage(45000);
+        request.setOwnerIds(Set.of(testOwner.getOwnerId()));
+
+        String created = mockMvc.perform(post("/api/v1/ships")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long shipId = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(get("/api/v1/sync/changes").param("since", String.valueOf(startRevision)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore", is(false)))
+                .andExpect(jsonPath("$.ships", hasSize(1)))
+                .andExpect(jsonPath("$.ships[0].imoNumber", is("5555555")))
+                .andExpect(jsonPath("$.owners[*].ownerName", contains("Sync Test Owner")))
+                .andExpect(jsonPath("$.deletions", empty()));
+
+        long afterCreate = currentRevision();
+        mockMvc.perform(delete("/api/v1/ships/{shipId}", shipId))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/sync/changes").param("since", String.valueOf(afterCreate)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ships", empty()))
+                .andExpect(jsonPath("$.deletions", hasSize(1)))
+                .andExpect(jsonPath("$.deletions[0].entityType", is("SHIP")))
+                .andExpect(jsonPath("$.deletions[0].entityId", is((int) shipId)));
+    }
+
+    @Test
+    void testChangesFromStart_IncludesRowsAtRevisionZero() throws Exception {
+        // Saved through the repository, not the services, like legacy and seeded rows
+        Ship legacyShip = new Ship("Legacy Ship", "6666666");
+        legacyShip.addOwner(testOwner);
+        shipRepository.saveAndFlush(legacyShip);
+
+        mockMvc.perform(get("/api/v1/sync/changes").param("since", "-1").param("limit", "5000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fromRevision", is(-1)))
+                .andExpect(jsonPath("$.ships[*].imoNumber", hasItem("6666666")))
+                .andExpect(jsonPath("$.owners[*].ownerName", hasItem("Sync Test Owner")));
+
+        // since defaults to the start
+        mockMvc.perform(get("/api/v1/sync/changes").param("limit", "5000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ships[*].imoNumber", hasItem("6666666")));
+
+        // Revision 0 has been applied by a client that synced from the start once
+        mockMvc.perform(get("/api/v1/sync/changes").param("since", "0").param("limit", "5000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ships[*].imoNumber", not(hasItem("6666666"))));
+    }
+
+    @Test
+    void testChangesSince_RevisionBelowStart() throws Exception {
+        mockMvc.perform(get("/api/v1/sync/changes").param("since", "-2"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testChangesSince_InvalidLimit() throws Exception {
+        mockMvc.perform(get("/api/v1/sync/changes").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long currentRevision() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/sync/changes").param("limit", "5000"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode changes = objectMapper.readTree(body);
+        return changes.get("toRevision").asLong();
+    }
+}
@@ -0,0 +1,135 @@
+// src/test/java/com/logbook/vessel_management_system/converter/FleetProtobufSchemaTest.java
+package com.logbook.vessel_management_system.converter;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.DynamicMessage;
+import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.proto.Owner;
+import com.logbook.vessel_management_system.proto.OwnerList;
+import com.logbook.vessel_management_system.proto.Ship;
+import com.logbook.vessel_management_system.proto.ShipList;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Checks the hand-written wire format of {@link FleetProtobufCodec} against the
+ * descriptors protoc builds from src/main/proto/fleet.proto: what the codec writes
+ * must parse into exactly the declared fields, and messages built from the schema
+ * must read back into the same DTOs.
+ */
+
+class FleetProtobufSchemaTest {
+
+    private static final Descriptor SHIP = Ship.getDescriptor();
+    private static final Descriptor OWNER = Owner.getDescriptor();
+
+    @Test
+    void writeShip_ShouldMatchSchema() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FleetProtobufCodec.writeShip(ship(), out);
+
+        DynamicMessage message = DynamicMessage.parseFrom(SHIP, out.toByteArray());
+
+        assertThat(message.getUnknownFields().asMap()).isEmpty();
+        assertThat(message.getField(SHIP.findFieldByName("id"))).isEqualTo(42L);
+        assertThat(message.getField(SHIP.findFieldByName("ship_name"))).isEqualTo("Schema Ship");
+        assertThat(message.getField(SHIP.findFieldByName("imo_number"))).isEqualTo("9074729");
+        assertThat(message.getField(SHIP.findFieldByName("ship_type"))).isEqualTo("Tanker");
+        assertThat(message.getField(SHIP.findFieldByName("ship_tonnage"))).isEqualTo(150000);
+        assertThat((List<?>) message.getField(SHIP.findFieldByName("owner_ids"))).containsExactlyInAnyOrder(3L, 7L);
+    }
+
+    @Test
+    void writeShip_ShouldOmitNullFields() throws Exception {
+        ShipDto ship = new ShipDto();
+        ship.setShipName("Unnamed Type");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FleetProtobufCodec.writeShip(ship, out);
+
+        DynamicMessage message = DynamicMessage.parseFrom(SHIP, out.toByteArray());
+
+        assertThat(message.hasField(SHIP.findFieldByName("id"))).isFalse();
+        assertThat(message.hasField(SHIP.findFieldByName("ship_tonnage"))).isFalse();
+        assertThat(message.getField(SHIP.findFieldByName("ship_name"))).isEqualTo("Unnamed Type");
+    }
+
+    @Test
+    void writeShips_ShouldMatchShipListSchema() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FleetProtobufCodec.writeShips(List.of(ship(), ship()), out);
+
+        DynamicMessage list = DynamicMessage.parseFrom(ShipList.getDescriptor(), out.toByteArray());
+
+        assertThat(list.getUnknownFields().asMap()).isEmpty();
+        List<?> ships = (List<?>) list.getField(ShipList.getDescriptor().findFieldByName("ships"));
+        assertThat(ships).hasSize(2);
+        assertThat(((DynamicMessage) ships.get(1)).getField(SHIP.findFieldByName("imo_number"))).isEqualTo("9074729");
+    }
+
+    @Test
+    void writeOwners_ShouldMatchOwnerListSchema() throws Exception {
+        OwnerDto owner = new OwnerDto();
+        owner.setOwnerId(3L);
+        owner.setOwnerName("Schema Owner");
+        owner.setShipIds(Set.of(42L));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FleetProtobufCodec.writeOwners(List.of(owner), out);
+
+        DynamicMessage list = DynamicMessage.parseFrom(OwnerList.getDescriptor(), out.toByteArray());
+
+        assertThat(list.getUnknownFields().asMap()).isEmpty();
+        DynamicMessage parsed = (DynamicMessage) ((List<?>) list.getField(OwnerList.getDescriptor().findFieldByName("owners"))).get(0);
+        assertThat(parsed.getUnknownFields().asMap()).isEmpty();
+        assertThat(parsed.getField(OWNER.findFieldByName("owner_id"))).isEqualTo(3L);
+        assertThat(parsed.getField(OWNER.findFieldByName("owner_name"))).isEqualTo("Schema Owner");
+        assertThat((List<?>) parsed.getField(OWNER.findFieldByName("ship_ids"))).containsExactly(42L);
+    }
+
+    @Test
+    void readShip_ShouldReadMessageBuiltFromSchema() throws Exception {
+        DynamicMessage message = DynamicMessage.newBuilder(SHIP)
+                .setField(SHIP.findFieldByName("id"), 42L)
+                .setField(SHIP.findFieldByName("ship_name"), "Schema Ship")
+                .setField(SHIP.findFieldByName("imo_number"), "9074729")
+                .setField(SHIP.findFieldByName("ship_type"), "Tanker")
+                .setField(SHIP.findFieldByName("ship_tonnage"), 150000)
+                .addRepeatedField(SHIP.findFieldByName("owner_ids"), 3L)
+                .addRepeatedField(SHIP.findFieldByName("owner_ids"), 7L)
+                .build();
+
+        ShipDto read = FleetProtobufCodec.readShip(new ByteArrayInputStream(message.toByteArray()));
+
+        assertThat(read).isEqualTo(ship());
+    }
+
+    @Test
+    void readOwner_ShouldReadMessageBuiltFromSchema() throws Exception {
+        DynamicMessage message = DynamicMessage.newBuilder(OWNER)
+                .setField(OWNER.findFieldByName("owner_name"), "Schema Owner")
+                .build();
+
+        OwnerDto read = FleetProtobufCodec.readOwner(new ByteArrayInputStream(message.toByteArray()));
+
+        assertThat(read.getOwnerId()).isNull();
+        assertThat(read.getOwnerName()).isEqualTo("Schema Owner");
+        assertThat(read.getShipIds()).isEmpty();
+    }
+
+    private static ShipDto ship() {
+        ShipDto ship = new ShipDto();
+        ship.setId(42L);
+        ship.setShipName("Schema Ship");
+        ship.setImoNumber("9074729");
+        ship.setShipType("Tanker");
+        ship.setShipTonnage(150000);
+        ship.setOwnerIds(Set.of(3L, 7L));
+        return ship;
+    }
+}
@@ -0,0 +1,76 @@
+// src/test/java/com/logbook/vessel_management_system/diagnostics/LatencyTrackerTest.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LatencyTrackerTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @Test
+    void report_ShouldServePercentilesPerStatusClassAfterRotation() throws Exception {
+        LatencyTracker tracker = new LatencyTracker(100, 0.99);
+        Method handler = Object.class.getMethod("toString");
+
+        for (int i = 1; i <= 1000; i++) {
+            tracker.record(handler, "GET /api/v1/ships", 200, i * MILLIS / 10);
+        }
+        tracker.record(handler, "GET /api/v1/ships", 404, 5 * MILLIS);
+
+        // Nothing is visible until the current slot is rotated in
+        assertThat(tracker.report().get(0).statusClasses().get("2xx").get("1m").count()).isZero();
+
+        tracker.rotate();
+        List<LatencyTracker.EndpointReport> report = tracker.report();
+
+        assertThat(report).hasSize(1);
+        LatencyTracker.EndpointReport endpoint = report.get(0);
+        assertThat(endpoint.endpoint()).isEqualTo("GET /api/v1/ships");
+        assertThat(endpoint.statusClasses()).containsOnlyKeys("2xx", "4xx");
+
+        LatencyTracker.WindowStats ok = endpoint.statusClasses().get("2xx").get("1m");
+        assertThat(ok.count()).isEqualTo(1000);
+        assertThat(ok.p50()).isCloseTo(50, within(1.0));
+        assertThat(ok.p99()).isCloseTo(99, within(1.0));
+        assertThat(ok.max()).isCloseTo(100, within(1.0));
+        assertThat(endpoint.statusClasses().get("2xx").get("1h").count()).isEqualTo(1000);
+    }
+
+    @Test
+    void report_BurnRate_ShouldCountSlowAndServerErrorRequestsOnce() throws Exception {
+        LatencyTracker tracker = new LatencyTracker(100, 0.99);
+        Method handler = Object.class.getMethod("hashCode");
+
+        for (int i = 0; i < 96; i++) {
+            tracker.record(handler, "GET /api/v1/owners", 200, 10 * MILLIS);
+        }
+        tracker.record(handler, "GET /api/v1/owners", 200, 500 * MILLIS);
+        tracker.record(handler, "GET /api/v1/owners", 200, 800 * MILLIS);
+        tracker.record(handler, "GET /api/v1/owners", 500, 900 * MILLIS);
+        tracker.record(handler, "GET /api/v1/owners", 503, 2 * MILLIS);
+        tracker.rotate();
+
+        // 4 bad requests out of 100 against a 1% error budget
+        assertThat(tracker.report().get(0).burnRates()).containsEntry("1m", 4.0).containsEntry("5m", 4.0).containsEntry("1h", 4.0);
+    }
+
+    @Test
+    void report_ShouldDropSlotsOlderThanTheWindow() throws Exception {
+        LatencyTracker tracker = new LatencyTracker(100, 0.99);
+        Method handler = Object.class.getMethod("toString");
+
+        tracker.record(handler, "GET /api/v1/ships", 200, MILLIS);
+        for (int i = 0; i < 60 / LatencyTracker.SLOT_SECONDS + 1; i++) {
+            tracker.rotate();
+        }
+
+        LatencyTracker.EndpointReport endpoint = tracker.report().get(0);
+        assertThat(endpoint.statusClasses().get("2xx").get("1m").count()).isZero();
+        assertThat(endpoint.statusClasses().get("2xx").get("5m").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,67 @@
+// src/test/java/com/logbook/vessel_management_system/diagnostics/ServerTimingIntegrationTest.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import com.logbook.vessel_management_system.entity.Owner;
+import com.logbook.vessel_management_system.repository.OwnerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@Rollback
+class ServerTimingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Test
+    void getAllOwners_WithTimingRequested_ShouldReturnBreakdown() throws Exception {
+        ownerRepository.save(new Owner("Timed Owner"));
+
+        mockMvc.perform(get("/api/v1/owners").header(ServerTimingFilter.REQUEST_HEADER, "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].ownerName", hasItem("Timed Owner")))
+                .andExpect(header().string("Server-Timing", allOf(
+                        containsString("db;dur="),
+                        containsString("tx;dur="),
+                        containsString("ser;dur="),
+                        containsString("total;dur="))));
+    }
+
+    @Test
+    void getAllOwners_AsCborWithTimingRequested_ShouldIncludeMapping() throws Exception {
+        ownerRepository.save(new Owner("Mapped Owner"));
+
+        // Non-JSON lists are still built from DTOs, so the mapping phase shows up
+        mockMvc.perform(get("/api/v1/owners")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(ServerTimingFilter.REQUEST_HEADER, "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", allOf(
+                        containsString("db;dur="),
+                        containsString("tx;dur="),
+                        containsString("map;dur="),
+                        containsString("total;dur="))));
+    }
+
+    @Test
+    void getAllOwners_WithoutTimingRequested_ShouldNotAddHeader() throws Exception {
+        mockMvc.perform(get("/api/v1/owners"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Server-Timing"));
+    }
+}
@@ -0,0 +1,99 @@
+// src/test/java/com/logbook/vessel_management_system/diagnostics/SqlBudgetIntegrationTest.java
+package com.logbook.vessel_management_system.diagnostics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logbook.vessel_management_system.dto.CreateShipRequest;
+import com.logbook.vessel_management_system.entity.Owner;
+import com.logbook.vessel_management_system.repository.OwnerRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@Rollback
+class SqlBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void getShipById_ShouldStayWithinSqlBudget() throws Exception {
+        Owner owner = ownerRepository.save(new Owner("Budget Owner"));
+        CreateShipRequest request = new CreateShipRequest();
+        request.setShipName("Budget Ship");
+        request.setImoNumber("9744001");
+        request.setShipType("Bulk Carrier");
+        request.setShipTonnage(30000);
+        request.setOwnerIds(Set.of(owner.getOwnerId()));
+
+        MvcResult created = mockMvc.perform(post("/api/v1/ships")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long shipId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        // Start from an empty persistence context so lazy loads would show up as statements
+        entityManager.flush();
+        entityManager.clear();
+
+        MvcResult result = mockMvc.perform(get("/api/v1/ships/{shipId}", shipId))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        SqlStatementStats stats = (SqlStatementStats) result.getRequest().getAttribute(SqlBudgetInterceptor.STATS_ATTRIBUTE);
+        assertThat(stats).isNotNull();
+        assertThat(stats.getStatementCount()).isBetween(1, 2);
+        assertThat(stats.getMaxRepeats()).isEqualTo(1);
+    }
+
+    @Test
+    void statementStats_ShouldDetectRepeatedStatementShape() {
+        List<Long> ownerIds = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ownerIds.add(ownerRepository.save(new Owner("Repeat Owner " + i)).getOwnerId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            ownerIds.forEach(ownerRepository::findById);
+        } finally {
+            SqlStatementStats.end();
+        }
+
+        assertThat(SqlStatementStats.current()).isNull();
+        assertThat(stats.getStatementCount()).isEqualTo(6);
+        assertThat(stats.getDistinctStatementCount()).isEqualTo(1);
+        assertThat(stats.getMaxRepeats()).isEqualTo(6);
+        assertThat(stats.getMostRepeatedStatement()).containsIgnoringCase("owner_table");
+        assertThat(stats.getDbTimeNanos()).isPositive();
+    }
+}
@@ -0,0 +1,64 @@
+// src/test/java/com/logbook/vessel_management_system/dto/LongIdSetTest.java
+package com.logbook.vessel_management_system.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongIdSetTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .filters(SparseFields.defaultFilters())
+            .build();
+
+    @Test
+    void builder_ShouldSortAndDropDuplicates() {
+        LongIdSet ids = LongIdSet.builder(2).add(7).add(3).add(7).add(1).build();
+
+        assertThat(ids).containsExactly(1L, 3L, 7L);
+        assertThat(ids.containsLong(3)).isTrue();
+        assertThat(ids.contains(4L)).isFalse();
+        assertThat(ids.contains("3")).isFalse();
+    }
+
+    @Test
+    void equalsAndHashCode_ShouldFollowTheSetContract() {
+        LongIdSet ids = LongIdSet.of(2, 1);
+        Set<Long> boxed = new HashSet<>(Set.of(1L, 2L));
+
+        assertThat(ids).isEqualTo(boxed);
+        assertThat(boxed).isEqualTo(ids);
+        assertThat(ids.hashCode()).isEqualTo(boxed.hashCode());
+        assertThat(LongIdSet.of()).isEmpty();
+    }
+
+    @Test
+    void json_ShouldMatchTheBoxedSetRepresentation() throws Exception {
+        ShipDto dto = new ShipDto();
+        dto.setId(1L);
+        dto.setOwnerIds(LongIdSet.of(3, 1, 2));
+
+        String json = objectMapper.writeValueAsString(dto);
+        assertThat(json).contains("\"ownerIds\":[1,2,3]");
+
+        ShipDto read = objectMapper.readValue(json, ShipDto.class);
+        assertThat(read.getOwnerIds()).isInstanceOf(LongIdSet.class).containsExactly(1L, 2L, 3L);
+        assertThat(read).isEqualTo(dto);
+    }
+
+    @Test
+    void json_ShouldAcceptAnySetAndNull() throws Exception {
+        OwnerDto dto = new OwnerDto();
+        dto.setOwnerName("Boxed");
+        dto.setShipIds(new HashSet<>(Set.of(5L)));
+        assertThat(objectMapper.writeValueAsString(dto)).contains("\"shipIds\":[5]");
+
+        OwnerDto read = objectMapper.readValue("{\"ownerName\":\"x\",\"shipIds\":null}", OwnerDto.class);
+        assertThat(read.getShipIds()).isNull();
+    }
+}
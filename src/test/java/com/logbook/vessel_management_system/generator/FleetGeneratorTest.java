@@ -0,0 +1,84 @@
+// src/test/java/com/logbook/vessel_management_system/generator/FleetGeneratorTest.java
+package com.logbook.vessel_management_system.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FleetGeneratorTest {
+
+    @Test
+    void checkDigit_ShouldMatchPublishedExamples() {
+        assertThat(ImoNumbers.withCheckDigit(974400)).isEqualTo("9744001");
+        assertThat(ImoNumbers.withCheckDigit(907472)).isEqualTo("9074729");
+        assertThat(ImoNumbers.isValid("9074729")).isTrue();
+        assertThat(ImoNumbers.isValid("9074728")).isFalse();
+        assertThat(ImoNumbers.isValid("907472")).isFalse();
+    }
+
+    @Test
+    void ship_WithSameSeed_ShouldBeIdenticalRegardlessOfOrder() {
+        FleetGenerator first = new FleetGenerator(42, 10_000, 500);
+        FleetGenerator second = new FleetGenerator(42, 10_000, 500);
+
+        for (int i = 9_999; i >= 0; i -= 37) {
+            FleetGenerator.GeneratedShip a = first.ship(i);
+            FleetGenerator.GeneratedShip b = second.ship(i);
+            assertThat(b.shipName()).isEqualTo(a.shipName());
+            assertThat(b.imoNumber()).isEqualTo(a.imoNumber());
+            assertThat(b.shipType()).isEqualTo(a.shipType());
+            assertThat(b.shipTonnage()).isEqualTo(a.shipTonnage());
+            assertThat(b.ownerIndexes()).containsExactly(a.ownerIndexes());
+        }
+        assertThat(new FleetGenerator(43, 10_000, 500).ship(0).imoNumber()).isNotEqualTo(first.ship(0).imoNumber());
+    }
+
+    @Test
+    void ship_ShouldHaveUniqueValidImoNumbersAndDistinctOwners() {
+        FleetGenerator generator = new FleetGenerator(7, 50_000, 1_000);
+        Set<String> imoNumbers = new HashSet<>();
+        int coOwned = 0;
+
+        for (int i = 0; i < generator.getShipCount(); i++) {
+            FleetGenerator.GeneratedShip ship = generator.ship(i);
+            assertThat(ImoNumbers.isValid(ship.imoNumber())).as(ship.imoNumber()).isTrue();
+            assertThat(imoNumbers.add(ship.imoNumber())).isTrue();
+            assertThat(ship.ownerIndexes()).doesNotHaveDuplicates().allMatch(owner -> owner >= 0 && owner < 1_000);
+            assertThat(ship.shipTonnage()).isBetween(100, 250_000);
+            if (ship.ownerIndexes().length > 1) {
+                coOwned++;
+            }
+        }
+
+        assertThat(coOwned).isBetween(4_000, 6_000);
+    }
+
+    @Test
+    void ship_OwnerDistribution_ShouldBeSkewed() {
+        FleetGenerator generator = new FleetGenerator(1, 50_000, 1_000);
+        int[] shipsPerOwner = new int[1_000];
+        for (int i = 0; i < generator.getShipCount(); i++) {
+            for (int owner : generator.ship(i).ownerIndexes()) {
+                shipsPerOwner[owner]++;
+            }
+        }
+
+        int largest = Arrays.stream(shipsPerOwner).max().orElseThrow();
+        long smallOwners = Arrays.stream(shipsPerOwner).filter(count -> count < 20).count();
+        // A uniform spread would give every owner about 55 ships
+        assertThat(largest).isGreaterThan(2_000);
+        assertThat(smallOwners).isGreaterThan(500);
+    }
+
+    @Test
+    void imoNumber_BeyondSevenDigitCapacity_ShouldStayUnique() {
+        FleetGenerator generator = new FleetGenerator(3, ImoNumbers.CAPACITY + 10, 10);
+
+        assertThat(generator.imoNumber(ImoNumbers.CAPACITY)).hasSize(8).isNotEqualTo(generator.imoNumber(0));
+        assertThat(generator.imoNumber(ImoNumbers.CAPACITY + 1)).hasSize(8).isNotEqualTo(generator.imoNumber(ImoNumbers.CAPACITY));
+    }
+}
@@ -0,0 +1,154 @@
+package com.logbook.vessel_management_system.outbox;
+
+import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.entity.OutboxMessage;
+import com.logbook.vessel_management_system.repository.OutboxRepository;
+import com.logbook.vessel_management_system.service.OwnerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The scheduled relay is disabled in tests (vms.outbox.relay.enabled=false); these
+ * tests build relays by hand against the real outbox table and poll them directly.
+ */
+
+@SpringBootTest
+class OutboxRelayIntegrationTest {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private OwnerService ownerService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<OwnerDto> createdOwners = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdOwners.forEach(owner -> ownerService.deleteOwner(owner.getOwnerId()));
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    void poll_ShouldDeliverCommittedChangeAndRemoveIt() {
+        OwnerDto owner = createOwner("Outbox Relay Owner");
+        RecordingSink sink = new RecordingSink();
+
+        relay(sink, 10).poll();
+
+        assertThat(sink.delivered).singleElement().satisfies(message -> {
+            assertThat(message.getEventType()).isEqualTo("owner.created");
+            assertThat(message.getAggregateId()).isEqualTo(owner.getOwnerId());
+            assertThat(message.getPayload()).contains("Outbox Relay Owner");
+        });
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void poll_ShouldKeepBatchForNextPollWhenSinkFails() {
+        createOwner("Outbox Failing Owner");
+        RecordingSink sink = new RecordingSink();
+        sink.failNext.set(true);
+        OutboxRelay relay = relay(sink, 10);
+
+        relay.poll();
+
+        assertThat(sink.delivered).isEmpty();
+        assertThat(outboxRepository.findAll()).singleElement()
+                .satisfies(message -> assertThat(message.getClaimedUntil()).isNull());
+
+        relay.poll();
+
+        assertThat(sink.delivered).hasSize(1);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void poll_ConcurrentRelaysShouldDeliverDisjointBatchesWithoutWaitingOnEachOther() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            outboxRepository.save(new OutboxMessage("SHIP", (long) i, "ship.updated", "{}"));
+        }
+        CountDownLatch firstDelivering = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        RecordingSink blockingSink = new RecordingSink() {
+            @Override
+            public void deliver(List<OutboxMessage> batch) throws IOException {
+                firstDelivering.countDown();
+                try {
+                    releaseFirst.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.deliver(batch);
+            }
+        };
+        RecordingSink sink = new RecordingSink();
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> relay(blockingSink, 2).poll());
+        assertThat(firstDelivering.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // The first relay is inside its sink; its claim must not block or be taken by the second
+        relay(sink, 2).poll();
+        releaseFirst.countDown();
+        first.get(10, TimeUnit.SECONDS);
+
+        List<Long> delivered = new ArrayList<>();
+        blockingSink.delivered.forEach(message -> delivered.add(message.getAggregateId()));
+        sink.delivered.forEach(message -> delivered.add(message.getAggregateId()));
+        assertThat(blockingSink.delivered).hasSize(2);
+        assertThat(delivered).containsExactlyInAnyOrder(0L, 1L, 2L, 3L);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    private OwnerDto createOwner(String name) {
+        OwnerDto request = new OwnerDto();
+        request.setOwnerName(name);
+        OwnerDto owner = ownerService.createOwner(request);
+        createdOwners.add(owner);
+        return owner;
+    }
+
+    private OutboxRelay relay(OutboxSink sink, int batchSize) {
+        return new OutboxRelay(outboxRepository, sink, new TransactionTemplate(transactionManager),
+                new SimpleMeterRegistry(), batchSize, 1, 60_000);
+    }
+
+    private static class RecordingSink implements OutboxSink {
+
+        final List<OutboxMessage> delivered = Collections.synchronizedList(new ArrayList<>());
+        final AtomicBoolean failNext = new AtomicBoolean();
+
+        @Override
+        public void deliver(List<OutboxMessage> batch) throws IOException {
+            if (failNext.getAndSet(false)) {
+                throw new IOException("Sink unavailable");
+            }
+            delivered.addAll(batch);
+        }
+    }
+}
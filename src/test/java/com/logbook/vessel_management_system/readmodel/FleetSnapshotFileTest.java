@@ -0,0 +1,171 @@
+// src/test/java/com/logbook/vessel_management_system/readmodel/FleetSnapshotFileTest.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.dto.LongIdSet;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.dto.SyncChangesDto;
+import com.logbook.vessel_management_system.dto.TombstoneDto;
+import com.logbook.vessel_management_system.entity.Tombstone;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
+import com.logbook.vessel_management_system.service.SyncService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FleetSnapshotFileTest {
+
+    private static final UUID DATABASE_ID = UUID.fromString("6f1c2a9e-4b7d-4c1e-9a35-0d8e7f2b6c41");
+
+    @Mock
+    private TombstoneRepository tombstoneRepository;
+
+    @Mock
+    private SyncService syncService;
+
+    @Mock
+    private ObjectProvider<ShipReadModel> shipReadModel;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path directory;
+
+    private Path path;
+    private FleetSnapshotFile snapshotFile;
+
+    private final List<ShipDto> restoredShips = new ArrayList<>();
+    private final List<FleetChangeEvent> replayed = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("fleet.snapshot");
+        snapshotFile = new FleetSnapshotFile(tombstoneRepository, new RevisionFeed(syncService), shipReadModel,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry(), path.toString());
+    }
+
+    @Test
+    void restore_ShouldReturnTheSnapshotShipsThenReplayChangesSinceItsRevision() throws Exception {
+        List<ShipDto> ships = List.of(
+                ship(1, "Nordic Star", "9321483", "Tanker", 81000, 3, 1),
+                ship(2, null, null, null, null),
+                ship(5, "Ocean Pearl", "9456721", "Cruise", 1200));
+        snapshotFile.write(columns(ships), 1500, DATABASE_ID);
+        databaseAt(DATABASE_ID, 1520);
+
+        SyncChangesDto page = new SyncChangesDto();
+        page.setToRevision(1510);
+        page.getShips().add(ship(6, "Late Arrival", "9700001", "Tanker", 500));
+        page.getDeletions().add(tombstone(Tombstone.SHIP, 2));
+        page.getDeletions().add(tombstone("OWNER", 9));
+        when(syncService.getChangesSince(eq(1500L), anyInt())).thenReturn(page);
+
+        assertThat(snapshotFile.restore(restoredShips::add, replayed::add)).isEqualTo(1500L);
+
+        assertThat(restoredShips).containsExactlyElementsOf(ships);
+        assertThat(replayed).hasSize(2);
+        assertThat(replayed.get(0).getChangeType()).isEqualTo(FleetChangeEvent.ChangeType.UPDATED);
+        assertThat(replayed.get(0).getShip().getId()).isEqualTo(6L);
+        assertThat(replayed.get(1).getChangeType()).isEqualTo(FleetChangeEvent.ChangeType.DELETED);
+        assertThat(replayed.get(1).getEntityId()).isEqualTo(2L);
+        // Current as of the end of their page
+        assertThat(replayed).allSatisfy(change -> assertThat(change.getRevision()).isEqualTo(1510L));
+    }
+
+    @Test
+    void restore_CorruptBody_ShouldFallBackWithoutReplaying() throws Exception {
+        snapshotFile.write(columns(List.of(ship(1, "Nordic Star", "9321483", "Tanker", 81000, 1))), 10, DATABASE_ID);
+        databaseAt(DATABASE_ID, 10);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(Files.size(path) - 3);
+            file.write('x');
+        }
+
+        assertThat(snapshotFile.restore(restoredShips::add, replayed::add)).isEqualTo(-1L);
+
+        assertThat(restoredShips).isEmpty();
+        verify(syncService, never()).getChangesSince(anyLong(), anyInt());
+    }
+
+    @Test
+    void restore_FromAnotherDatabase_ShouldFallBackWithoutReplaying() throws Exception {
+        snapshotFile.write(columns(List.of(ship(1, "Nordic Star", "9321483", "Tanker", 81000, 1))), 10, DATABASE_ID);
+        databaseAt(UUID.fromString("0b3e8d52-7a61-4f0c-8e2d-5c9a1b7f3e60"), 10);
+
+        assertThat(snapshotFile.restore(restoredShips::add, replayed::add)).isEqualTo(-1L);
+
+        assertThat(restoredShips).isEmpty();
+        verify(syncService, never()).getChangesSince(anyLong(), anyInt());
+    }
+
+    @Test
+    void restore_AheadOfTheDatabase_ShouldFallBackWithoutReplaying() throws Exception {
+        snapshotFile.write(columns(List.of(ship(1, "Nordic Star", "9321483", "Tanker", 81000, 1))), 10, DATABASE_ID);
+        databaseAt(DATABASE_ID, 9);
+
+        assertThat(snapshotFile.restore(restoredShips::add, replayed::add)).isEqualTo(-1L);
+
+        assertThat(restoredShips).isEmpty();
+        verify(syncService, never()).getChangesSince(anyLong(), anyInt());
+    }
+
+    @Test
+    void restore_WithoutSnapshot_ShouldReturnMinusOne() {
+        assertThat(snapshotFile.restore(restoredShips::add, replayed::add)).isEqualTo(-1L);
+        verify(syncService, never()).getChangesSince(anyLong(), anyInt());
+    }
+
+    private void databaseAt(UUID databaseId, long safeRevision) {
+        when(tombstoneRepository.databaseId()).thenReturn(databaseId);
+        when(tombstoneRepository.safeRevision()).thenReturn(safeRevision);
+    }
+
+    private static ShipColumns columns(List<ShipDto> ships) {
+        ShipColumns.Builder builder = new ShipColumns.Builder(new String[0], ships.size());
+        ships.forEach(builder::addRow);
+        return builder.build();
+    }
+
+    private static TombstoneDto tombstone(String entityType, long entityId) {
+        TombstoneDto tombstone = new TombstoneDto();
+        tombstone.setEntityType(entityType);
+        tombstone.setEntityId(entityId);
+        tombstone.setRevision(1505L);
+        return tombstone;
+    }
+
+    private static ShipDto ship(long id, String name, String imoNumber, String shipType, Integer tonnage, long... ownerIds) {
+        ShipDto ship = new ShipDto();
+        ship.setId(id);
+        ship.setShipName(name);
+        ship.setImoNumber(imoNumber);
+        ship.setShipType(shipType);
+        ship.setShipTonnage(tonnage);
+        ship.setOwnerIds(LongIdSet.of(ownerIds));
+        return ship;
+    }
+}
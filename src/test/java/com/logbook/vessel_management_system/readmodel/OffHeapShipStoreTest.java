@@ -0,0 +1,83 @@
+// src/test/java/com/logbook/vessel_management_system/readmodel/OffHeapShipStoreTest.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.dto.LongIdSet;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapShipStoreTest {
+
+    private final OffHeapShipStore store = new OffHeapShipStore(4096);
+
+    @Test
+    void put_ShouldRoundTripEveryField() {
+        store.put(ship(7, "Nordic Star", "9321483", "Tanker", 81000, 3, 1));
+        store.put(ship(8, null, null, null, null));
+
+        assertThat(store.get(7)).isEqualTo(ship(7, "Nordic Star", "9321483", "Tanker", 81000, 1, 3));
+        assertThat(store.get(8)).isEqualTo(ship(8, null, null, null, null));
+        assertThat(store.getByImo("9321483").getId()).isEqualTo(7L);
+        assertThat(store.get(9)).isNull();
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    void put_ExistingShip_ShouldReplaceItAndReindexTheImoNumber() {
+        store.put(ship(1, "Before", "1000001", "Cruise", 1000));
+        store.put(ship(1, "After", "1000002", "Cruise", 2000, 5));
+
+        assertThat(store.get(1).getShipName()).isEqualTo("After");
+        assertThat(store.get(1).getOwnerIds()).containsExactly(5L);
+        assertThat(store.getByImo("1000001")).isNull();
+        assertThat(store.getByImo("1000002").getShipTonnage()).isEqualTo(2000);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_ShouldKeepCollidingEntriesReachable() {
+        for (long id = 1; id <= 5000; id++) {
+            store.put(ship(id, "Ship " + id, String.format("%07d", id), id % 2 == 0 ? "Tanker" : "Bulk Carrier", (int) id));
+        }
+        for (long id = 1; id <= 5000; id += 3) {
+            assertThat(store.remove(id)).isTrue();
+        }
+
+        assertThat(store.size()).isEqualTo(5000 - 1667);
+        for (long id = 1; id <= 5000; id++) {
+            boolean removed = (id - 1) % 3 == 0;
+            ShipDto ship = store.get(id);
+            assertThat(ship == null).as("ship %d", id).isEqualTo(removed);
+            if (!removed) {
+                assertThat(ship.getShipTonnage()).isEqualTo((int) id);
+            }
+            assertThat(store.getByImo(String.format("%07d", id)) == null).as("imo %d", id).isEqualTo(removed);
+        }
+        assertThat(store.remove(1)).isFalse();
+    }
+
+    @Test
+    void updates_ShouldCompactTheVariableArea() {
+        for (int round = 0; round < 200; round++) {
+            for (long id = 1; id <= 20; id++) {
+                store.put(ship(id, "Ship " + id + " rev " + round, String.format("%07d", id), "Tanker", round, id));
+            }
+        }
+
+        assertThat(store.garbageBytes()).isLessThanOrEqualTo(4096 * 2);
+        assertThat(store.get(20).getShipName()).isEqualTo("Ship 20 rev 199");
+        assertThat(store.getByImo("0000013").getOwnerIds()).containsExactly(13L);
+    }
+
+    private static ShipDto ship(long id, String name, String imoNumber, String shipType, Integer tonnage, long... ownerIds) {
+        ShipDto ship = new ShipDto();
+        ship.setId(id);
+        ship.setShipName(name);
+        ship.setImoNumber(imoNumber);
+        ship.setShipType(shipType);
+        ship.setShipTonnage(tonnage);
+        ship.setOwnerIds(LongIdSet.of(ownerIds));
+        return ship;
+    }
+}
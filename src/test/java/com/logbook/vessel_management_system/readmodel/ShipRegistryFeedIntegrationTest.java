@@ -0,0 +1,102 @@
+// src/test/java/com/logbook/vessel_management_system/readmodel/ShipRegistryFeedIntegrationTest.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.dto.CreateShipRequest;
+import com.logbook.vessel_management_system.dto.OwnerDto;
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
+import com.logbook.vessel_management_system.service.OwnerService;
+import com.logbook.vessel_management_system.service.ShipService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A write handled by another instance publishes no event here; it is simulated by
+ * changing the row directly at a revision drawn from the clock. The scheduled poll is
+ * pushed out of the way and followFeed() is called by hand.
+ */
+
+@SpringBootTest(properties = {"vms.ship-registry.enabled=true", "vms.revision-feed.poll-interval-ms=3600000"})
+class ShipRegistryFeedIntegrationTest {
+
+    @Autowired
+    private ShipRegistry shipRegistry;
+
+    @Autowired
+    private ShipService shipService;
+
+    @Autowired
+    private OwnerService ownerService;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private OwnerDto owner;
+    private ShipDto ship;
+
+    @BeforeEach
+    void setUp() {
+        OwnerDto ownerRequest = new OwnerDto();
+        ownerRequest.setOwnerName("Feed Owner");
+        owner = ownerService.createOwner(ownerRequest);
+
+        CreateShipRequest shipRequest = new CreateShipRequest();
+        shipRequest.setShipName("Feed Ship");
+        shipRequest.setImoNumber("9811000");
+        shipRequest.setShipType("Bulk Carrier");
+        shipRequest.setShipTonnage(40000);
+        shipRequest.setOwnerIds(Set.of(owner.getOwnerId()));
+        ship = shipService.createShip(shipRequest);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shipService.deleteShip(ship.getId());
+        ownerService.deleteOwner(owner.getOwnerId());
+    }
+
+    @Test
+    void followFeed_ShouldApplyAWriteHandledByAnotherInstance() {
+        assertThat(shipRegistry.findById(ship.getId())).get()
+                .extracting(ShipDto::getShipName).isEqualTo("Feed Ship");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            long revision = tombstoneRepository.nextRevision();
+            jdbcTemplate.update("UPDATE Ships_Table SET Ship_name = ?, Revision = ? WHERE Id = ?",
+                    "Renamed Elsewhere", revision, ship.getId());
+        });
+
+        assertThat(shipRegistry.findById(ship.getId())).get()
+                .extracting(ShipDto::getShipName).isEqualTo("Feed Ship");
+
+        shipRegistry.followFeed();
+
+        assertThat(shipRegistry.findById(ship.getId())).get()
+                .extracting(ShipDto::getShipName).isEqualTo("Renamed Elsewhere");
+    }
+
+    @Test
+    void followFeed_ShouldKeepWhatTheInstanceAlreadyAppliedFromItsOwnEvents() {
+        shipRegistry.followFeed();
+
+        ShipDto held = shipRegistry.findById(ship.getId()).orElseThrow();
+        assertThat(held.getShipName()).isEqualTo("Feed Ship");
+        assertThat(held.getOwnerIds()).containsExactly(owner.getOwnerId());
+    }
+}
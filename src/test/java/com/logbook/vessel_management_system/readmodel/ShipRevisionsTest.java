@@ -0,0 +1,64 @@
+// src/test/java/com/logbook/vessel_management_system/readmodel/ShipRevisionsTest.java
+package com.logbook.vessel_management_system.readmodel;
+
+import com.logbook.vessel_management_system.dto.ShipDto;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShipRevisionsTest {
+
+    @Test
+    void accept_ShouldIgnoreChangesTheLoadAlreadyReflects() {
+        ShipRevisions revisions = new ShipRevisions(100);
+
+        assertThat(revisions.accept(FleetChangeEvent.shipUpdated(ship(1), 100))).isFalse();
+        assertThat(revisions.accept(FleetChangeEvent.shipUpdated(ship(1), 101))).isTrue();
+    }
+
+    @Test
+    void accept_ShouldIgnoreChangesOlderThanTheOneHeld() {
+        ShipRevisions revisions = new ShipRevisions(100);
+        revisions.accept(FleetChangeEvent.shipDeleted(1L, 110));
+
+        assertThat(revisions.accept(FleetChangeEvent.shipUpdated(ship(1), 105))).isFalse();
+        assertThat(revisions.accept(FleetChangeEvent.shipUpdated(ship(2), 105))).isTrue();
+        assertThat(revisions.held(1).revision()).isEqualTo(110);
+        assertThat(revisions.held(1).ship()).isNull();
+    }
+
+    @Test
+    void loaded_ShouldOnlyTrackRowsWrittenAfterTheLoadRevision() {
+        ShipRevisions revisions = new ShipRevisions(100);
+        revisions.loaded(1, 90);
+        revisions.loaded(2, 120);
+
+        assertThat(revisions.held(1)).isNull();
+        assertThat(revisions.held(2).fromChange()).isFalse();
+        assertThat(revisions.accept(FleetChangeEvent.shipUpdated(ship(2), 115))).isFalse();
+    }
+
+    @Test
+    void forgetBefore_ShouldKeepEntriesAnOlderChangeCouldStillReach() {
+        ShipRevisions revisions = new ShipRevisions(0);
+        revisions.accept(FleetChangeEvent.shipUpdated(ship(1), 10));
+        revisions.accept(FleetChangeEvent.shipUpdated(ship(2), 20));
+        revisions.accept(FleetChangeEvent.shipUpdated(ship(3), 30));
+
+        revisions.forgetBefore(25);
+
+        assertThat(revisions.size()).isEqualTo(1);
+        assertThat(revisions.held(3).revision()).isEqualTo(30);
+
+        revisions.forgetBefore(Long.MAX_VALUE);
+
+        assertThat(revisions.size()).isZero();
+    }
+
+    private static ShipDto ship(long id) {
+        ShipDto ship = new ShipDto();
+        ship.setId(id);
+        return ship;
+    }
+}
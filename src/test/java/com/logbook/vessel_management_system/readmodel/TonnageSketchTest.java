@@ -0,0 +1,82 @@
+// src/test/java/com/logbook/vessel_management_system/readmodel/TonnageSketchTest.java
+package com.logbook.vessel_management_system.readmodel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TonnageSketchTest {
+
+    @Test
+    void quantile_ShouldStayWithinTheRelativeAccuracy() {
+        Random random = new Random(42);
+        int[] tonnages = new int[50_000];
+        TonnageSketch sketch = new TonnageSketch();
+        for (int i = 0; i < tonnages.length; i++) {
+            tonnages[i] = 1 + (int) Math.exp(9 + 1.5 * random.nextGaussian());
+            sketch.add(tonnages[i]);
+        }
+        Arrays.sort(tonnages);
+
+        for (double q : new double[]{0, 0.1, 0.5, 0.9, 0.99, 1}) {
+            double exact = tonnages[(int) (q * (tonnages.length - 1))];
+            assertThat(sketch.quantile(q)).as("q=%s", q).isCloseTo(exact, within(exact * TonnageSketch.RELATIVE_ACCURACY));
+        }
+        assertThat(sketch.count()).isEqualTo(tonnages.length);
+    }
+
+    @Test
+    void remove_ShouldUndoAddInAnyOrder() {
+        TonnageSketch expected = new TonnageSketch();
+        expected.add(1200);
+        expected.add(90000);
+
+        TonnageSketch sketch = new TonnageSketch();
+        sketch.remove(45000); // the removal of an update can land before the matching add
+        sketch.add(1200);
+        sketch.add(45000);
+        sketch.add(90000);
+        sketch.add(0);
+        sketch.remove(0);
+
+        assertThat(sketch.sameCounts(expected)).isTrue();
+        sketch.remove(1200);
+        sketch.remove(90000);
+        assertThat(sketch.isEmpty()).isTrue();
+        assertThat(sketch.quantile(0.5)).isNaN();
+    }
+
+    @Test
+    void merge_ShouldEqualOneSketchOfBothInputs() {
+        TonnageSketch tankers = new TonnageSketch();
+        TonnageSketch cruise = new TonnageSketch();
+        TonnageSketch both = new TonnageSketch();
+        for (int i = 1; i <= 500; i++) {
+            tankers.add(i * 300);
+            both.add(i * 300);
+            cruise.add(i * 700);
+            both.add(i * 700);
+        }
+
+        tankers.merge(cruise);
+
+        assertThat(tankers.sameCounts(both)).isTrue();
+        assertThat(tankers.count()).isEqualTo(1000);
+    }
+
+    @Test
+    void countBelow_ShouldSplitAtTheBoundary() {
+        TonnageSketch sketch = new TonnageSketch();
+        for (int tonnage : new int[]{0, 500, 9000, 11000, 60000, 250000}) {
+            sketch.add(tonnage);
+        }
+
+        assertThat(sketch.countBelow(10000)).isEqualTo(3);
+        assertThat(sketch.countBelow(100000)).isEqualTo(5);
+        assertThat(sketch.countBelow(0)).isZero();
+    }
+}
@@ -0,0 +1,63 @@
+// src/test/java/com/logbook/vessel_management_system/readmodel/TopShipsTest.java
+package com.logbook.vessel_management_system.readmodel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopShipsTest {
+
+    @Test
+    void offer_ShouldRankByTonnageThenIdAndKeepTheCapacity() {
+        TopShips top = new TopShips(3);
+        top.offer(1, 50000);
+        top.offer(2, 90000);
+        top.offer(3, 10000);
+        top.offer(4, 90000);
+        top.offer(5, 70000);
+
+        assertThat(top.largest(3)).containsExactly(2, 4, 5);
+        assertThat(top.size()).isEqualTo(3);
+        assertThat(top.isComplete()).isFalse();
+    }
+
+    @Test
+    void offer_HeldShip_ShouldMoveItToItsNewRank() {
+        TopShips top = new TopShips(10);
+        top.offer(1, 50000);
+        top.offer(2, 60000);
+
+        top.offer(1, 80000);
+
+        assertThat(top.largest(10)).containsExactly(1, 2);
+    }
+
+    @Test
+    void largest_AfterEvictionAndRemoval_ShouldOnlyAnswerForShipsStillHeld() {
+        TopShips top = new TopShips(2);
+        top.offer(1, 30000);
+        top.offer(2, 20000);
+        top.offer(3, 10000); // evicted: the group no longer holds every ship
+
+        top.remove(1);
+        top.offer(4, 5000); // could rank below ship 3, which is not held
+
+        assertThat(top.largest(1)).containsExactly(2);
+        assertThat(top.largest(2)).isNull();
+        top.offer(5, 40000);
+        assertThat(top.largest(2)).containsExactly(5, 2);
+    }
+
+    @Test
+    void largest_CompleteGroup_ShouldAnswerAnyK() {
+        TopShips top = new TopShips(5);
+        top.offer(7, 1000);
+        top.offer(8, 2000);
+        top.remove(7);
+
+        assertThat(top.largest(50)).containsExactly(8);
+        top.remove(8);
+        assertThat(top.isEmpty()).isTrue();
+        assertThat(top.largest(1)).isEmpty();
+    }
+}
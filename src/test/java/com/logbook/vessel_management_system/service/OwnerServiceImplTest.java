@@ -3,15 +3,18 @@ package com.logbook.vessel_management_system.service;
 import com.logbook.vessel_management_system.dto.OwnerDto;
 import com.logbook.vessel_management_system.entity.Owner;
 import com.logbook.vessel_management_system.entity.Ship;
+import com.logbook.vessel_management_system.entity.Tombstone;
 import com.logbook.vessel_management_system.exception.ResourceNotFoundException;
 import com.logbook.vessel_management_system.repository.OwnerRepository;
 import com.logbook.vessel_management_system.repository.ShipRepository;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
@@ -28,6 +31,12 @@ class OwnerServiceImplTest {
     @Mock
     private ShipRepository shipRepository;
 
+    @Mock
+    private TombstoneRepository tombstoneRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OwnerServiceImpl ownerService;
 
@@ -141,6 +150,7 @@ class OwnerServiceImplTest {
     void deleteOwner_WithShips_ShouldRemoveOwnershipAndDeleteOwner() {
         // Given
         when(ownerRepository.findById(1L)).thenReturn(Optional.of(testOwner1));
+        when(shipRepository.findAllByOwnerIdForUpdate(1L)).thenReturn(List.of(testShip1, testShip2));
 
         // When
         ownerService.deleteOwner(1L);
@@ -148,7 +158,8 @@ class OwnerServiceImplTest {
         // Then
         verify(ownerRepository).findById(1L);
         
-        // Should save each ship that had this owner removed
+        // Should lock and save each ship that had this owner removed
+        verify(shipRepository).findAllByOwnerIdForUpdate(1L);
         verify(shipRepository).save(testShip1);
         verify(shipRepository).save(testShip2);
         
@@ -159,6 +170,25 @@ class OwnerServiceImplTest {
         assertThat(testShip2.getOwners()).doesNotContain(testOwner1);
     }
 
+    @Test
+    void deleteOwner_ShouldStampRevisionAndRecordTombstone() {
+        // Given
+        when(ownerRepository.findById(1L)).thenReturn(Optional.of(testOwner1));
+        when(shipRepository.findAllByOwnerIdForUpdate(1L)).thenReturn(List.of(testShip1, testShip2));
+        when(tombstoneRepository.nextRevision()).thenReturn(42L);
+
+        // When
+        ownerService.deleteOwner(1L);
+
+        // Then
+        assertThat(testShip1.getRevision()).isEqualTo(42L);
+        assertThat(testShip2.getRevision()).isEqualTo(42L);
+        verify(tombstoneRepository).save(argThat(tombstone ->
+                Tombstone.OWNER.equals(tombstone.getEntityType())
+                        && tombstone.getEntityId().equals(1L)
+                        && tombstone.getRevision().equals(42L)));
+    }
+
     @Test
     void deleteOwner_WhenOwnerNotFound_ShouldThrowException() {
         // Given
@@ -228,6 +258,7 @@ class OwnerServiceImplTest {
         sharedShip.addOwner(testOwner2);
 
         when(ownerRepository.findById(5L)).thenReturn(Optional.of(multiOwner));
+        when(shipRepository.findAllByOwnerIdForUpdate(5L)).thenReturn(List.of(sharedShip));
 
         // When
         ownerService.deleteOwner(5L);
@@ -0,0 +1,42 @@
+// src/test/java/com/logbook/vessel_management_system/service/RevisionClockIntegrationTest.java
+package com.logbook.vessel_management_system.service;
+
+import com.logbook.vessel_management_system.entity.Tombstone;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RevisionClockIntegrationTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void getChangesSince_ShouldStopBeforeARevisionStillInFlight() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(writer -> {
+            long inFlight = tombstoneRepository.nextRevision();
+            tombstoneRepository.saveAndFlush(new Tombstone(Tombstone.SHIP, -1L, inFlight));
+
+            // Another connection must neither see the open write nor be told it is complete past it
+            long toRevision = CompletableFuture.supplyAsync(
+                    () -> syncService.getChangesSince(0, SyncServiceImpl.MAX_LIMIT).getToRevision()).join();
+
+            assertThat(toRevision).isLessThan(inFlight);
+            writer.setRollbackOnly();
+        });
+    }
+}
@@ -0,0 +1,99 @@
+// src/test/java/com/logbook/vessel_management_system/service/ShipListingSnapshotIntegrationTest.java
+package com.logbook.vessel_management_system.service;
+
+import com.logbook.vessel_management_system.entity.Owner;
+import com.logbook.vessel_management_system.entity.Ship;
+import com.logbook.vessel_management_system.repository.OwnerRepository;
+import com.logbook.vessel_management_system.repository.ShipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "vms.ship-snapshot.enabled=true")
+@AutoConfigureMockMvc
+@Transactional
+@Rollback
+class ShipListingSnapshotIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShipListingSnapshot shipListingSnapshot;
+
+    @Autowired
+    private ShipRepository shipRepository;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @BeforeEach
+    void setUp() {
+        Owner owner = ownerRepository.save(new Owner("Snapshot Owner"));
+        Ship ship = new Ship("Snapshot Ship", "7777777");
+        ship.addOwner(owner);
+        shipRepository.saveAndFlush(ship);
+        // Rollback tests never commit, so the snapshot is rebuilt by hand; this also waits for the startup build
+        shipListingSnapshot.rebuild();
+    }
+
+    @Test
+    void getAllShips_ShouldServeTheSnapshotWithAStrongEtag() throws Exception {
+        ShipListingSnapshot.Snapshot snapshot = shipListingSnapshot.current();
+
+        MvcResult result = mockMvc.perform(get("/api/v1/ships"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.etag()))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+
+        assertThat(snapshot.etag()).doesNotStartWith("W/");
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(snapshot.json());
+        assertThat(result.getResponse().getContentAsString()).contains("\"shipName\":\"Snapshot Ship\"");
+
+        mockMvc.perform(get("/api/v1/ships").header(HttpHeaders.IF_NONE_MATCH, snapshot.etag()))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getAllShips_AcceptingGzip_ShouldServeThePrecompressedBody() throws Exception {
+        ShipListingSnapshot.Snapshot snapshot = shipListingSnapshot.current();
+
+        MvcResult result = mockMvc.perform(get("/api/v1/ships").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.gzipEtag()))
+                .andReturn();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(snapshot.json());
+        }
+    }
+
+    @Test
+    void getAllShips_WithFieldSelection_ShouldBypassTheSnapshot() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/ships").param("fields", "id,shipName"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsString())
+                .contains("\"shipName\":\"Snapshot Ship\"")
+                .doesNotContain("imoNumber");
+    }
+}
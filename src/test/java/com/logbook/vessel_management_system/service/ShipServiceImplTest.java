@@ -7,15 +7,19 @@ import com.logbook.vessel_management_system.dto.UpdateShipRequest;
 import com.logbook.vessel_management_system.entity.Owner;
 import com.logbook.vessel_management_system.entity.Ship;
 import com.logbook.vessel_management_system.entity.ShipCategoryDetails;
+import com.logbook.vessel_management_system.event.FleetChangeEvent;
 import com.logbook.vessel_management_system.exception.ResourceNotFoundException;
 import com.logbook.vessel_management_system.repository.OwnerRepository;
 import com.logbook.vessel_management_system.repository.ShipRepository;
+import com.logbook.vessel_management_system.repository.TombstoneRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
@@ -32,6 +36,15 @@ class ShipServiceImplTest {
     @Mock
     private OwnerRepository ownerRepository;
 
+    @Mock
+    private TombstoneRepository tombstoneRepository;
+
+    @Mock
+    private ShipTypeDictionary shipTypeDictionary;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ShipServiceImpl shipService;
 
@@ -214,7 +227,7 @@ class ShipServiceImplTest {
         request.setShipTonnage(75000);
         request.setOwnerIds(Set.of(2L));
 
-        when(shipRepository.findById(1L)).thenReturn(Optional.of(testShip));
+        when(shipRepository.findByIdWithDetailsAndOwnersForUpdate(1L)).thenReturn(Optional.of(testShip));
         when(ownerRepository.findAllById(Set.of(2L))).thenReturn(Arrays.asList(testOwner2));
         
         // Create updated ship for return
@@ -237,7 +250,8 @@ class ShipServiceImplTest {
         assertThat(result.getShipTonnage()).isEqualTo(75000);
         assertThat(result.getOwnerIds()).containsExactly(2L);
         
-        verify(shipRepository).findById(1L);
+        verify(shipRepository).findByIdWithDetailsAndOwnersForUpdate(1L);
+        verify(shipTypeDictionary).register("Tanker");
         verify(ownerRepository).findAllById(Set.of(2L));
         verify(shipRepository).save(any(Ship.class));
         verify(shipRepository).findByIdWithDetailsAndOwners(1L);
@@ -249,14 +263,14 @@ class ShipServiceImplTest {
         UpdateShipRequest request = new UpdateShipRequest();
         request.setShipName("Updated Ship");
 
-        when(shipRepository.findById(999L)).thenReturn(Optional.empty());
+        when(shipRepository.findByIdWithDetailsAndOwnersForUpdate(999L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> shipService.updateShip(999L, request))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Ship not found");
         
-        verify(shipRepository).findById(999L);
+        verify(shipRepository).findByIdWithDetailsAndOwnersForUpdate(999L);
         verify(shipRepository, never()).save(any());
     }
 
@@ -273,7 +287,7 @@ class ShipServiceImplTest {
         request.setShipTonnage(30000);
         request.setOwnerIds(Set.of(1L));
 
-        when(shipRepository.findById(2L)).thenReturn(Optional.of(shipWithoutDetails));
+        when(shipRepository.findByIdWithDetailsAndOwnersForUpdate(2L)).thenReturn(Optional.of(shipWithoutDetails));
         when(ownerRepository.findAllById(Set.of(1L))).thenReturn(Arrays.asList(testOwner1));
         
         Ship updatedShip = new Ship("Ship With New Details", "1111111");
@@ -296,27 +310,45 @@ class ShipServiceImplTest {
     @Test
     void deleteShip_WhenShipExists_ShouldDeleteShip() {
         // Given
-        when(shipRepository.findById(1L)).thenReturn(Optional.of(testShip));
+        when(shipRepository.findByIdWithDetailsAndOwnersForUpdate(1L)).thenReturn(Optional.of(testShip));
 
         // When
         shipService.deleteShip(1L);
 
         // Then
-        verify(shipRepository).findById(1L);
+        verify(shipRepository).findByIdWithDetailsAndOwnersForUpdate(1L);
         verify(shipRepository).delete(testShip);
     }
 
+    @Test
+    void deleteShip_WhenShipExists_ShouldPublishDeletedEvent() {
+        // Given
+        when(shipRepository.findByIdWithDetailsAndOwnersForUpdate(1L)).thenReturn(Optional.of(testShip));
+        when(tombstoneRepository.nextRevision()).thenReturn(42L);
+
+        // When
+        shipService.deleteShip(1L);
+
+        // Then
+        ArgumentCaptor<FleetChangeEvent> eventCaptor = ArgumentCaptor.forClass(FleetChangeEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getEntityType()).isEqualTo(FleetChangeEvent.EntityType.SHIP);
+        assertThat(eventCaptor.getValue().getChangeType()).isEqualTo(FleetChangeEvent.ChangeType.DELETED);
+        assertThat(eventCaptor.getValue().getEntityId()).isEqualTo(1L);
+        assertThat(eventCaptor.getValue().getRevision()).isEqualTo(42L);
+    }
+
     @Test
     void deleteShip_WhenShipNotFound_ShouldThrowException() {
         // Given
-        when(shipRepository.findById(999L)).thenReturn(Optional.empty());
+        when(shipRepository.findByIdWithDetailsAndOwnersForUpdate(999L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> shipService.deleteShip(999L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Ship not found");
         
-        verify(shipRepository).findById(999L);
+        verify(shipRepository).findByIdWithDetailsAndOwnersForUpdate(999L);
         verify(shipRepository, never()).delete(any());
     }
 
@@ -0,0 +1,113 @@
+// src/test/java/com/logbook/vessel_management_system/service/ShipTypeDictionaryIntegrationTest.java
+package com.logbook.vessel_management_system.service;
+
+import com.logbook.vessel_management_system.entity.Ship;
+import com.logbook.vessel_management_system.entity.ShipCategoryDetails;
+import com.logbook.vessel_management_system.repository.ShipRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@Rollback
+class ShipTypeDictionaryIntegrationTest {
+
+    @Autowired
+    private ShipTypeDictionary shipTypeDictionary;
+
+    @Autowired
+    private ShipRepository shipRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void save_ShouldStoreOneDictionaryIdPerTypeName() {
+        Ship first = shipWithType("Dictionary One", "8100001", "Dictionary Tanker");
+        Ship second = shipWithType("Dictionary Two", "8100002", "Dictionary Tanker");
+        shipTypeDictionary.register("Dictionary Tanker");
+        shipTypeDictionary.register("Dictionary Tanker");
+        shipRepository.saveAndFlush(first);
+        shipRepository.saveAndFlush(second);
+
+        List<Short> typeIds = jdbcTemplate.queryForList(
+                "SELECT Ship_type_id FROM Category_Table WHERE Ship_id IN (?, ?)", Short.class, first.getId(), second.getId());
+        Integer names = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM Ship_Type_Table WHERE Type_name = 'Dictionary Tanker'", Integer.class);
+
+        assertThat(typeIds).hasSize(2).containsOnly(shipTypeDictionary.idOf("Dictionary Tanker"));
+        assertThat(names).isEqualTo(1);
+    }
+
+    @Test
+    void load_ShouldReturnTheSharedNameInstance() {
+        shipTypeDictionary.register("Dictionary Ferry");
+        Ship saved = shipRepository.saveAndFlush(shipWithType("Dictionary Three", "8100003", new String("Dictionary Ferry")));
+        entityManager.clear();
+
+        String loaded = shipRepository.findByIdWithDetailsAndOwners(saved.getId()).orElseThrow().getDetails().getShipType();
+
+        assertThat(loaded).isEqualTo("Dictionary Ferry").isSameAs(shipTypeDictionary.intern("Dictionary Ferry"));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // the reload reads in its own transaction
+    void nameOf_IdAddedByAnotherWriter_ShouldReloadTheDictionary() {
+        jdbcTemplate.update("INSERT INTO Ship_Type_Table (Type_name) VALUES ('Dictionary Dredger')");
+        Short id = jdbcTemplate.queryForObject(
+                "SELECT Type_id FROM Ship_Type_Table WHERE Type_name = 'Dictionary Dredger'", Short.class);
+
+        assertThat(shipTypeDictionary.nameOf(id)).isEqualTo("Dictionary Dredger");
+    }
+
+    @Test
+    void save_UnregisteredType_ShouldFailInsteadOfAddingIt() {
+        Ship ship = shipWithType("Dictionary Four", "8100004", "Dictionary Unregistered");
+
+        assertThatThrownBy(() -> shipRepository.saveAndFlush(ship)).hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void register_RolledBack_ShouldLeaveNoTypeBehind() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            shipTypeDictionary.register("Dictionary Rolled Back");
+            status.setRollbackOnly();
+        });
+
+        Integer names = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM Ship_Type_Table WHERE Type_name = 'Dictionary Rolled Back'", Integer.class);
+        assertThat(names).isZero();
+        assertThatThrownBy(() -> shipTypeDictionary.idOf("Dictionary Rolled Back")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void register_OverlongName_ShouldBeRejected() {
+        assertThatThrownBy(() -> shipTypeDictionary.register("T".repeat(101))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Ship shipWithType(String name, String imoNumber, String shipType) {
+        Ship ship = new Ship(name, imoNumber);
+        ship.setDetails(new ShipCategoryDetails(shipType, 1000));
+        return ship;
+    }
+}
@@ -0,0 +1,6 @@
+-- Executed by Hibernate after create-drop schema generation in tests.
+-- The revision sequence and clock are not owned by any entity, so they are created here.
+CREATE SEQUENCE IF NOT EXISTS vms_revision_seq START WITH 1;
+-- Revision clock (V6__revision_clock.sql, V8__database_id.sql)
+CREATE TABLE IF NOT EXISTS Revision_Clock_Table (Id SMALLINT PRIMARY KEY, Revision BIGINT NOT NULL, Database_id VARCHAR(36) NOT NULL);
+MERGE INTO Revision_Clock_Table (Id, Revision, Database_id) KEY (Id) VALUES (1, 0, CAST(RANDOM_UUID() AS VARCHAR(36)));